@@ -0,0 +1,45 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.filter.Approximator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Douglas-Peucker filtering of line data of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApproximatorBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"1", "10"})
+    public double tolerance;
+
+    private List<Entry> mEntries;
+    private Approximator mApproximator;
+
+    @Setup
+    public void setup() {
+        mEntries = BenchmarkData.createEntries(size);
+        mApproximator = new Approximator(Approximator.ApproximatorType.DOUGLAS_PEUCKER, tolerance);
+    }
+
+    @Benchmark
+    public List<Entry> filter() {
+        return mApproximator.filter(mEntries);
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.highlight.Range;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating stacked BarEntries and calculating their stack sums and ranges.
+ * The sums are cached by the entry, setting the values again invalidates
+ * them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BarEntryBenchmark {
+
+    @Param({"2", "8", "32"})
+    public int stackSize;
+
+    private float[] mVals;
+    private BarEntry mEntry;
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(BenchmarkData.SEED);
+        mVals = new float[stackSize];
+
+        // mixed positive and negative stack values
+        for (int i = 0; i < stackSize; i++)
+            mVals[i] = random.nextFloat() * 200f - 50f;
+
+        mEntry = new BarEntry(mVals, 0);
+    }
+
+    @Benchmark
+    public BarEntry create() {
+        return new BarEntry(mVals, 0);
+    }
+
+    @Benchmark
+    public float setValsAndSums() {
+        mEntry.setVals(mVals);
+        return mEntry.getPositiveSum() + mEntry.getNegativeSum();
+    }
+
+    @Benchmark
+    public float setValsAndBelowSums() {
+
+        mEntry.setVals(mVals);
+
+        float sum = 0f;
+
+        for (int i = 0; i < stackSize; i++)
+            sum += mEntry.getBelowSum(i);
+
+        return sum;
+    }
+
+    @Benchmark
+    public Range[] setValsAndRanges() {
+        mEntry.setVals(mVals);
+        return mEntry.getRanges();
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates the data the benchmarks run on. All data is generated from a fixed
+ * seed, so that every run measures the same input.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns the given number of entries forming a noisy sine wave. The
+     * x-indices are even (0, 2, 4, ...), so that entries can be inserted in
+     * between with addEntryOrdered(...).
+     *
+     * @param size
+     * @return
+     */
+    static List<Entry> createEntries(int size) {
+
+        Random random = new Random(SEED);
+        List<Entry> entries = new ArrayList<Entry>(size);
+
+        for (int i = 0; i < size; i++) {
+            float val = (float) (Math.sin(i / 100.0) * 100.0 + random.nextGaussian() * 5.0);
+            entries.add(new Entry(val, i * 2));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns the given number of random x-indices inside the range of a
+     * DataSet created with createEntries(size), for looking up entries.
+     *
+     * @param size
+     * @param count
+     * @return
+     */
+    static int[] createXIndexQueries(int size, int count) {
+
+        Random random = new Random(SEED);
+        int[] queries = new int[count];
+
+        for (int i = 0; i < count; i++)
+            queries[i] = random.nextInt(size * 2);
+
+        return queries;
+    }
+
+    /**
+     * Returns the given number of random values spread over many orders of
+     * magnitude, positive and negative.
+     *
+     * @param count
+     * @return
+     */
+    static float[] createValues(int count) {
+
+        Random random = new Random(SEED);
+        float[] values = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            double magnitude = Math.pow(10, random.nextInt(13) - 3);
+            values[i] = (float) ((random.nextDouble() - 0.3) * magnitude);
+        }
+
+        return values;
+    }
+
+    /**
+     * Minimal concrete DataSet, the DataSets of the chart types add only
+     * styling on top of DataSet.
+     */
+    static class SimpleDataSet extends DataSet<Entry> {
+
+        SimpleDataSet(List<Entry> yVals) {
+            super(yVals, "benchmark");
+        }
+
+        @Override
+        public DataSet<Entry> copy() {
+            return new SimpleDataSet(new ArrayList<Entry>(mYVals));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups and min / max calculation on DataSets of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataSetBenchmark {
+
+    private static final int QUERY_COUNT = 4096;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private DataSet<Entry> mDataSet;
+    private int[] mQueries;
+    private int mQuery;
+
+    @Setup
+    public void setup() {
+        mDataSet = new BenchmarkData.SimpleDataSet(BenchmarkData.createEntries(size));
+        mQueries = BenchmarkData.createXIndexQueries(size, QUERY_COUNT);
+    }
+
+    private int nextQuery() {
+        mQuery = (mQuery + 1) & (QUERY_COUNT - 1);
+        return mQueries[mQuery];
+    }
+
+    @Benchmark
+    public int getEntryIndex() {
+        return mDataSet.getEntryIndex(nextQuery(), DataSet.Rounding.CLOSEST);
+    }
+
+    @Benchmark
+    public Entry getEntryForXIndex() {
+        return mDataSet.getEntryForXIndex(nextQuery());
+    }
+
+    @Benchmark
+    public List<Entry> getEntriesForXIndex() {
+        return mDataSet.getEntriesForXIndex(nextQuery());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float calcMinMax() {
+        mDataSet.calcMinMax(0, size);
+        return mDataSet.getYMax();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float calcMinMaxVisibleRange() {
+
+        // a zoomed in chart only covers a small part of the data
+        int from = nextQuery() / 2;
+        mDataSet.calcMinMax(from, Math.min(from + 1000, size - 1));
+        return mDataSet.getYMax();
+    }
+}
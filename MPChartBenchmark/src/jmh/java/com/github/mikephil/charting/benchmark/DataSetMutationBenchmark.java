@@ -0,0 +1,81 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adding and removing entries of DataSets of different sizes. Every
+ * benchmark removes what it adds, so that the size of the DataSet stays the
+ * same over all invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataSetMutationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private DataSet<Entry> mDataSet;
+
+    /** the x-index of the next appended entry */
+    private int mNextXIndex;
+
+    /** the x-index of the next entry inserted in between */
+    private int mInsertXIndex;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        mDataSet = new BenchmarkData.SimpleDataSet(BenchmarkData.createEntries(size));
+        mNextXIndex = size * 2;
+        mInsertXIndex = 1;
+    }
+
+    /**
+     * Real-time charts append at the end and drop the oldest entry.
+     */
+    @Benchmark
+    public boolean addEntryRemoveFirst() {
+        mDataSet.addEntry(new Entry(0f, mNextXIndex));
+        mNextXIndex += 2;
+        return mDataSet.removeFirst();
+    }
+
+    /**
+     * Appends an entry and removes it again.
+     */
+    @Benchmark
+    public boolean addEntryRemoveLast() {
+        mDataSet.addEntry(new Entry(0f, mNextXIndex));
+        return mDataSet.removeLast();
+    }
+
+    /**
+     * Inserts an entry in between the existing ones and removes it again.
+     */
+    @Benchmark
+    public boolean addEntryOrderedRemoveEntry() {
+
+        Entry e = new Entry(0f, mInsertXIndex);
+        mDataSet.addEntryOrdered(e);
+
+        mInsertXIndex += 2;
+
+        if (mInsertXIndex >= size * 2)
+            mInsertXIndex = 1;
+
+        return mDataSet.removeEntry(e);
+    }
+}
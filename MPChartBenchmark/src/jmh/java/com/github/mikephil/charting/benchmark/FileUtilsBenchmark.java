@@ -0,0 +1,77 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.FileUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the text format FileUtils loads entries from, read from memory
+ * so that no disk access is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileUtilsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    /** "value#xIndex" per line */
+    private String mEntries;
+
+    /** "value#value#value#xIndex" per line */
+    private String mStackedEntries;
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(BenchmarkData.SEED);
+
+        StringBuilder entries = new StringBuilder(size * 16);
+        StringBuilder stacked = new StringBuilder(size * 32);
+
+        for (int i = 0; i < size; i++) {
+
+            entries.append(random.nextFloat() * 100f).append('#').append(i).append('\n');
+
+            stacked.append(random.nextFloat() * 100f).append('#')
+                    .append(random.nextFloat() * 100f).append('#')
+                    .append(random.nextFloat() * 100f).append('#')
+                    .append(i).append('\n');
+        }
+
+        mEntries = entries.toString();
+        mStackedEntries = stacked.toString();
+    }
+
+    @Benchmark
+    public List<Entry> loadEntries() throws IOException {
+        return FileUtils.loadEntriesFromReader(new BufferedReader(new StringReader(mEntries)));
+    }
+
+    @Benchmark
+    public List<Entry> loadStackedEntries() throws IOException {
+        return FileUtils.loadEntriesFromReader(new BufferedReader(new StringReader(mStackedEntries)));
+    }
+
+    @Benchmark
+    public List<BarEntry> loadBarEntries() throws IOException {
+        return FileUtils.loadBarEntriesFromReader(new BufferedReader(new StringReader(mEntries)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.utils.Utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Number formatting and rounding of Utils, called for every label and value
+ * text. Each invocation handles one value out of a fixed set of values over
+ * many orders of magnitude.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UtilsBenchmark {
+
+    private static final int VALUE_COUNT = 4096;
+
+    private float[] mValues;
+    private int mValue;
+
+    private final char[] mBuffer = new char[35];
+
+    @Setup
+    public void setup() {
+        mValues = BenchmarkData.createValues(VALUE_COUNT);
+    }
+
+    private float nextValue() {
+        mValue = (mValue + 1) & (VALUE_COUNT - 1);
+        return mValues[mValue];
+    }
+
+    @Benchmark
+    public String formatNumber() {
+        return Utils.formatNumber(nextValue(), 2, true);
+    }
+
+    @Benchmark
+    public int formatNumberIntoBuffer() {
+        return Utils.formatNumber(nextValue(), 2, true, '.', ',', mBuffer);
+    }
+
+    @Benchmark
+    public float roundToNextSignificant() {
+        return Utils.roundToNextSignificant(nextValue());
+    }
+
+    @Benchmark
+    public int getDecimals() {
+        return Utils.getDecimals(nextValue());
+    }
+}
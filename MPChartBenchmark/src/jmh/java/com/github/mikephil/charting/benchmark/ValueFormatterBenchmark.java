@@ -0,0 +1,94 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.formatter.BufferedValueFormatter;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.FastLargeValueFormatter;
+import com.github.mikephil.charting.formatter.FixedDecimalValueFormatter;
+import com.github.mikephil.charting.formatter.LargeValueFormatter;
+import com.github.mikephil.charting.formatter.PercentFormatter;
+import com.github.mikephil.charting.formatter.StackedValueFormatter;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ValueFormatter implementations of the library, formatting one value
+ * per invocation. The formatters that can write into a buffer are measured
+ * both ways.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueFormatterBenchmark {
+
+    private static final int VALUE_COUNT = 4096;
+
+    @Param({"default", "fixedDecimal", "large", "fastLarge", "percent", "stacked"})
+    public String formatter;
+
+    private ValueFormatter mFormatter;
+    private BufferedValueFormatter mBufferedFormatter;
+
+    private float[] mValues;
+    private BarEntry[] mEntries;
+    private int mValue;
+
+    private final char[] mBuffer = new char[BufferedValueFormatter.MIN_BUFFER_SIZE];
+
+    @Setup
+    public void setup() {
+
+        if ("default".equals(formatter))
+            mFormatter = new DefaultValueFormatter(2);
+        else if ("fixedDecimal".equals(formatter))
+            mFormatter = new FixedDecimalValueFormatter(2);
+        else if ("large".equals(formatter))
+            mFormatter = new LargeValueFormatter();
+        else if ("fastLarge".equals(formatter))
+            mFormatter = new FastLargeValueFormatter();
+        else if ("percent".equals(formatter))
+            mFormatter = new PercentFormatter();
+        else
+            mFormatter = new StackedValueFormatter(false, "", 1);
+
+        if (mFormatter instanceof BufferedValueFormatter)
+            mBufferedFormatter = (BufferedValueFormatter) mFormatter;
+
+        mValues = BenchmarkData.createValues(VALUE_COUNT);
+        mEntries = new BarEntry[VALUE_COUNT];
+
+        // the stacked formatter only formats the top value of a stack, every
+        // value is the top value of its entry
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            float v = mValues[i];
+            mEntries[i] = new BarEntry(new float[]{v / 4f, v / 4f, v}, i);
+        }
+    }
+
+    @Benchmark
+    public String getFormattedValue() {
+        mValue = (mValue + 1) & (VALUE_COUNT - 1);
+        return mFormatter.getFormattedValue(mValues[mValue], mEntries[mValue], 0, null);
+    }
+
+    @Benchmark
+    public int getFormattedValueIntoBuffer() {
+
+        // formatters without a buffered variant are not measured
+        if (mBufferedFormatter == null)
+            return 0;
+
+        mValue = (mValue + 1) & (VALUE_COUNT - 1);
+        return mBufferedFormatter.getFormattedValue(mValues[mValue], mEntries[mValue], 0, null, mBuffer);
+    }
+}
@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 
 public class BarBuffer extends AbstractBuffer<IBarDataSet> {
@@ -83,24 +84,13 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
 
             } else {
 
-                float posY = 0f;
-                float negY = -e.getNegativeSum();
-                float yStart = 0f;
+                Range[] ranges = e.getRanges();
 
                 // fill the stack
-                for (int k = 0; k < vals.length; k++) {
+                for (int k = 0; k < ranges.length; k++) {
 
-                    float value = vals[k];
-
-                    if(value >= 0f) {
-                        y = posY;
-                        yStart = posY + value;
-                        posY = yStart;
-                    } else {
-                        y = negY;
-                        yStart = negY + Math.abs(value);
-                        negY += Math.abs(value);
-                    }
+                    y = ranges[k].from;
+                    float yStart = ranges[k].to;
 
                     float left = x - barWidth + barSpaceHalf;
                     float right = x + barWidth - barSpaceHalf;
@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 
 public class HorizontalBarBuffer extends BarBuffer {
@@ -53,24 +54,13 @@ public class HorizontalBarBuffer extends BarBuffer {
 
             } else {
 
-                float posY = 0f;
-                float negY = -e.getNegativeSum();
-                float yStart = 0f;
+                Range[] ranges = e.getRanges();
 
                 // fill the stack
-                for (int k = 0; k < vals.length; k++) {
+                for (int k = 0; k < ranges.length; k++) {
 
-                    float value = vals[k];
-
-                    if (value >= 0f) {
-                        y = posY;
-                        yStart = posY + value;
-                        posY = yStart;
-                    } else {
-                        y = negY;
-                        yStart = negY + Math.abs(value);
-                        negY += Math.abs(value);
-                    }
+                    y = ranges[k].from;
+                    float yStart = ranges[k].to;
 
                     float bottom = x - barWidth + barSpaceHalf;
                     float top = x + barWidth - barSpaceHalf;
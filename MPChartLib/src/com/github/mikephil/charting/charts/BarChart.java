@@ -196,7 +196,9 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
 		float step = mData.getDataSetCount();
 		float div = (step <= 1) ? 1 : step + mData.getGroupSpace();
 
-		float[] pts = new float[] { mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom() };
+		float[] pts = mVisibleRangeBuffer;
+		pts[0] = mViewPortHandler.contentLeft();
+		pts[1] = mViewPortHandler.contentBottom();
 
 		getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
 		return (int) ((pts[0] <= getXChartMin()) ? 0 : (pts[0] / div) + 1);
@@ -213,7 +215,9 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
 		float step = mData.getDataSetCount();
 		float div = (step <= 1) ? 1 : step + mData.getGroupSpace();
 
-		float[] pts = new float[] { mViewPortHandler.contentRight(), mViewPortHandler.contentBottom() };
+		float[] pts = mVisibleRangeBuffer;
+		pts[0] = mViewPortHandler.contentRight();
+		pts[1] = mViewPortHandler.contentBottom();
 
 		getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
 		return (int) ((pts[0] >= getXChartMax()) ? getXChartMax() / div : (pts[0] / div));
@@ -28,11 +28,14 @@ import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandle
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
 import com.github.mikephil.charting.jobs.MoveViewJob;
 import com.github.mikephil.charting.listener.BarLineChartTouchListener;
+import com.github.mikephil.charting.listener.OnChartMetricsListener;
 import com.github.mikephil.charting.listener.OnDrawListener;
 import com.github.mikephil.charting.renderer.CombinedChartRenderer;
 import com.github.mikephil.charting.renderer.LineChartRenderer;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.ChartMetrics;
+import com.github.mikephil.charting.utils.ChartTracer;
 import com.github.mikephil.charting.utils.PointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
@@ -132,6 +135,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     protected XAxisRenderer mXAxisRenderer;
 
+    /** buffer for determining the visible x-range without allocations */
+    protected float[] mVisibleRangeBuffer = new float[2];
+
     // /** the approximator object used for data filtering */
     // private Approximator mApproximator;
 
@@ -184,6 +190,16 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     private long totalTime = 0;
     private long drawCycles = 0;
 
+    /**
+     * the timings and counters of the last frames, null if disabled
+     */
+    protected ChartMetrics mMetrics;
+
+    /**
+     * listener called after every frame and update if metrics are enabled
+     */
+    protected OnChartMetricsListener mMetricsListener;
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -191,26 +207,50 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mData == null)
             return;
 
+        ChartTracer.begin(ChartTracer.ON_DRAW);
+
         mRenderer.setHighlighted(mIndicesToHighlight);
 
+        // only a single branch per phase if metrics are disabled
+        final ChartMetrics metrics = mMetrics;
+        long t = 0;
+
+        if (metrics != null) {
+            t = metrics.beginFrame();
+            mRenderer.resetCounters();
+        }
+
         long starttime = System.currentTimeMillis();
         calcModulus();
 
         mXAxisRenderer.calcXBounds(this, mXAxis.mAxisLabelModulus);
         mRenderer.calcXBounds(this, mXAxis.mAxisLabelModulus);
+        mRenderer.prepareValueLabelCulling(mValueLabelCullingEnabled);
+
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_CALC_MODULUS, t);
 
         // execute all drawing commands
         drawGridBackground(canvas);
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_GRID, t);
+
         if (mAxisLeft.isEnabled())
             mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum);
         if (mAxisRight.isEnabled())
             mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum);
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_AXIS_COMPUTE, t);
+
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
         mAxisRendererRight.renderAxisLine(canvas);
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_GRID, t);
+
         if (mAutoScaleMinMaxEnabled) {
             final int lowestVisibleXIndex = getLowestVisibleXIndex();
             final int highestVisibleXIndex = getHighestVisibleXIndex();
@@ -228,11 +268,20 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             }
         }
 
+        // the cached y-extents of the DataSets only cover the visible x-range
+        // when auto-scaling, they cannot be used to skip whole DataSets
+        mRenderer.prepareDataSetCulling(!mAutoScaleMinMaxEnabled);
+
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_AXIS_COMPUTE, t);
+
         // make sure the graph values and grid cannot be drawn outside the
         // content-rect
         int clipRestoreCount = canvas.save();
         canvas.clipRect(mViewPortHandler.getContentRect());
 
+        ChartTracer.begin(ChartTracer.DRAW_GRID);
+
         mXAxisRenderer.renderGridLines(canvas);
         mAxisRendererLeft.renderGridLines(canvas);
         mAxisRendererRight.renderGridLines(canvas);
@@ -246,7 +295,17 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
 
+        ChartTracer.end(ChartTracer.DRAW_GRID);
+
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_GRID, t);
+
+        ChartTracer.begin(ChartTracer.DRAW_DATA);
         mRenderer.drawData(canvas);
+        ChartTracer.end(ChartTracer.DRAW_DATA);
+
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_DATA, t);
 
         if (!mXAxis.isDrawLimitLinesBehindDataEnabled())
             mXAxisRenderer.renderLimitLines(canvas);
@@ -257,29 +316,69 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (!mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_GRID, t);
+
         // if highlighting is enabled
-        if (valuesToHighlight())
+        if (valuesToHighlight()) {
+            ChartTracer.begin(ChartTracer.DRAW_HIGHLIGHTED);
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+            ChartTracer.end(ChartTracer.DRAW_HIGHLIGHTED);
+        }
 
         // Removes clipping rectangle
         canvas.restoreToCount(clipRestoreCount);
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_HIGHLIGHT, t);
+
         mRenderer.drawExtras(canvas);
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_DATA, t);
+
+        ChartTracer.begin(ChartTracer.DRAW_AXIS_LABELS);
+
         mXAxisRenderer.renderAxisLabels(canvas);
         mAxisRendererLeft.renderAxisLabels(canvas);
         mAxisRendererRight.renderAxisLabels(canvas);
 
+        ChartTracer.end(ChartTracer.DRAW_AXIS_LABELS);
+
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_AXIS_LABELS, t);
+
         if (!(mRenderer instanceof CombinedChartRenderer || mRenderer instanceof LineChartRenderer) || mIndicesToHighlight == null) {
+            ChartTracer.begin(ChartTracer.DRAW_VALUES);
             mRenderer.drawValues(canvas);
+            ChartTracer.end(ChartTracer.DRAW_VALUES);
         }
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_VALUES, t);
+
+        ChartTracer.begin(ChartTracer.DRAW_LEGEND);
         mLegendRenderer.renderLegend(canvas);
+        ChartTracer.end(ChartTracer.DRAW_LEGEND);
+
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_LEGEND, t);
+
+        ChartTracer.begin(ChartTracer.DRAW_MARKERS);
 
         drawMarkers(canvas);
 
         drawDescription(canvas);
 
+        ChartTracer.end(ChartTracer.DRAW_MARKERS);
+
+        if (metrics != null) {
+            metrics.mark(ChartMetrics.PHASE_MARKERS, t);
+            endFrameMetrics(metrics);
+        }
+
+        ChartTracer.end(ChartTracer.ON_DRAW);
+
         if (mLogEnabled) {
             long drawtime = (System.currentTimeMillis() - starttime);
             totalTime += drawtime;
@@ -290,12 +389,91 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         }
     }
 
+    /**
+     * Collects the counters of the frame, finishes it and informs the
+     * listener.
+     *
+     * @param metrics
+     */
+    private void endFrameMetrics(ChartMetrics metrics) {
+
+        long entries = 0;
+
+        for (int i = 0; i < mData.getDataSetCount(); i++) {
+
+            IBarLineScatterCandleBubbleDataSet<?> set = mData.getDataSetByIndex(i);
+
+            if (set.isVisible())
+                entries += set.getEntryCount();
+        }
+
+        metrics.setCount(ChartMetrics.COUNT_ENTRIES_FED, entries);
+        metrics.setCount(ChartMetrics.COUNT_ENTRIES_DRAWN, mRenderer.getEntriesDrawn());
+        metrics.setCount(ChartMetrics.COUNT_DRAW_CALLS, mRenderer.getDrawCalls());
+        metrics.endFrame();
+
+        if (mMetricsListener != null)
+            mMetricsListener.onFrameDrawn(this, metrics);
+    }
+
     /**
      * RESET PERFORMANCE TRACKING FIELDS
      */
     public void resetTracking() {
         totalTime = 0;
         drawCycles = 0;
+
+        if (mMetrics != null)
+            mMetrics.reset();
+    }
+
+    /**
+     * Enables collecting the timings of all draw- and update-phases (in
+     * nanoseconds) and the counters of drawn and culled entries and
+     * draw-calls. The values of the most recent 120 frames are kept in
+     * histograms, see getMetrics(). Default: disabled
+     *
+     * @param enabled
+     */
+    public void setMetricsEnabled(boolean enabled) {
+
+        if (enabled && mMetrics == null)
+            mMetrics = new ChartMetrics(120);
+        else if (!enabled)
+            mMetrics = null;
+    }
+
+    /**
+     * Returns true if metrics are collected.
+     *
+     * @return
+     */
+    public boolean isMetricsEnabled() {
+        return mMetrics != null;
+    }
+
+    /**
+     * Returns the timings and counters of the last frame and their
+     * histograms, null if metrics are disabled.
+     *
+     * @return
+     */
+    public ChartMetrics getMetrics() {
+        return mMetrics;
+    }
+
+    /**
+     * Sets a listener that is called with the metrics after every frame and
+     * every notifyDataSetChanged() call. Enables metrics if the listener is
+     * not null.
+     *
+     * @param l
+     */
+    public void setOnChartMetricsListener(OnChartMetricsListener l) {
+        mMetricsListener = l;
+
+        if (l != null)
+            setMetricsEnabled(true);
     }
 
     protected void prepareValuePxMatrix() {
@@ -328,20 +506,47 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
                 Log.i(LOG_TAG, "Preparing...");
         }
 
+        ChartTracer.begin(ChartTracer.NOTIFY_DATA_SET_CHANGED);
+
+        final ChartMetrics metrics = mMetrics;
+        long t = metrics != null ? metrics.beginUpdate() : 0;
+
         if (mRenderer != null)
             mRenderer.initBuffers();
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_UPDATE_INIT_BUFFERS, t);
+
         calcMinMax();
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_UPDATE_CALC_MIN_MAX, t);
+
         mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum);
         mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum);
 
         mXAxisRenderer.computeAxis(mData.getXValMaximumLength(), mData.getXVals());
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_UPDATE_AXIS, t);
+
         if (mLegend != null)
             mLegendRenderer.computeLegend(mData);
 
+        if (metrics != null)
+            t = metrics.mark(ChartMetrics.PHASE_UPDATE_LEGEND, t);
+
         calculateOffsets();
+
+        if (metrics != null) {
+            metrics.mark(ChartMetrics.PHASE_UPDATE_OFFSETS, t);
+            metrics.endUpdate();
+
+            if (mMetricsListener != null)
+                mMetricsListener.onDataSetChanged(this, metrics);
+        }
+
+        ChartTracer.end(ChartTracer.NOTIFY_DATA_SET_CHANGED);
     }
 
     @Override
@@ -504,12 +709,10 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         if (!mXAxis.isAxisModulusCustom()) {
 
-            float[] values = new float[9];
-            mViewPortHandler.getMatrixTouch().getValues(values);
-
+            // the scale is kept in sync with the touch matrix, reading it does not allocate
             mXAxis.mAxisLabelModulus = (int) Math
                     .ceil((mData.getXValCount() * mXAxis.mLabelRotatedWidth)
-                            / (mViewPortHandler.contentWidth() * values[Matrix.MSCALE_X]));
+                            / (mViewPortHandler.contentWidth() * mViewPortHandler.getScaleX()));
 
         }
 
@@ -1222,9 +1425,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public int getLowestVisibleXIndex() {
-        float[] pts = new float[]{
-                mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom()
-        };
+        float[] pts = mVisibleRangeBuffer;
+        pts[0] = mViewPortHandler.contentLeft();
+        pts[1] = mViewPortHandler.contentBottom();
         getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
         return (pts[0] <= 0) ? 0 : (int) (pts[0] + 1.0f);
     }
@@ -1237,9 +1440,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public int getHighestVisibleXIndex() {
-        float[] pts = new float[]{
-                mViewPortHandler.contentRight(), mViewPortHandler.contentBottom()
-        };
+        float[] pts = mVisibleRangeBuffer;
+        pts[0] = mViewPortHandler.contentRight();
+        pts[1] = mViewPortHandler.contentBottom();
         getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
         return (pts[0] >= mData.getXValCount()) ? mData.getXValCount() - 1 : (int) pts[0];
     }
@@ -31,6 +31,7 @@ import com.github.mikephil.charting.animation.EasingFunction;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.MarkerView;
 import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.ContinuousXValues;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.formatter.ValueFormatter;
@@ -43,6 +44,10 @@ import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
+import com.github.mikephil.charting.utils.BitmapPool;
+import com.github.mikephil.charting.utils.ChartTracer;
+import com.github.mikephil.charting.utils.FSize;
+import com.github.mikephil.charting.utils.MemoryStats;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -70,6 +75,12 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     protected boolean mLogEnabled = false;
 
+    /**
+     * flag that indicates if the data and the buffers for drawing are prepared
+     * on multiple threads
+     */
+    protected boolean mParallelPreparationEnabled = false;
+
     /**
      * object that holds all data that was originally set for the chart, before
      * it was modified or any filtering algorithms had been applied
@@ -223,8 +234,10 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
                 @Override
                 public void onAnimationUpdate(ValueAnimator animation) {
+                    ChartTracer.begin(ChartTracer.ANIMATION_UPDATE);
                     // ViewCompat.postInvalidateOnAnimation(Chart.this);
                     postInvalidate();
+                    ChartTracer.end(ChartTracer.ANIMATION_UPDATE);
                 }
             });
 
@@ -307,6 +320,9 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         mOffsetsCalculated = false;
         mData = data;
 
+        if (mParallelPreparationEnabled)
+            data.setParallelCalculationEnabled(true);
+
         // calculate how many digits are needed
         calculateFormatter(data.getYMin(), data.getYMax());
 
@@ -442,6 +458,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             return;
         }
 
+        ChartMemoryBudget.onChartDrawn(this);
+
         if (!mOffsetsCalculated) {
 
             calculateOffsets();
@@ -650,6 +668,11 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     protected boolean mDrawMarkerViews = true;
 
+    /**
+     * if true, value-labels that overlap an already drawn value-label are skipped
+     */
+    protected boolean mValueLabelCullingEnabled = false;
+
     /**
      * the view that represents the marker
      */
@@ -1159,6 +1182,36 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         mLogEnabled = enabled;
     }
 
+    /**
+     * If set to true, the minimum and maximum values of the data and the
+     * pixel-positions of all DataSets are calculated in parallel on all cores,
+     * only the actual drawing happens on the UI thread. Only pays off for
+     * charts with many large DataSets on multi-core devices. Applies to the
+     * current data and renderer as well as to data set later on. Default:
+     * false
+     *
+     * @param enabled
+     */
+    public void setParallelPreparationEnabled(boolean enabled) {
+        mParallelPreparationEnabled = enabled;
+
+        if (mData != null)
+            mData.setParallelCalculationEnabled(enabled);
+
+        if (mRenderer != null)
+            mRenderer.setParallelPreparationEnabled(enabled);
+    }
+
+    /**
+     * Returns true if the data and the buffers for drawing are prepared in
+     * parallel.
+     *
+     * @return
+     */
+    public boolean isParallelPreparationEnabled() {
+        return mParallelPreparationEnabled;
+    }
+
     /**
      * Returns true if log-output is enabled for the chart, fals if not.
      *
@@ -1355,6 +1408,27 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         mDrawMarkerViews = enabled;
     }
 
+    /**
+     * If set to true, value-labels that would overlap an already drawn
+     * value-label are not drawn. Useful for dense DataSets with value drawing
+     * enabled, the number of drawn labels is then bounded by the chart area.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setValueLabelCullingEnabled(boolean enabled) {
+        mValueLabelCullingEnabled = enabled;
+    }
+
+    /**
+     * Returns true if overlapping value-labels are culled.
+     *
+     * @return
+     */
+    public boolean isValueLabelCullingEnabled() {
+        return mValueLabelCullingEnabled;
+    }
+
     /**
      * returns the x-value at the given index
      *
@@ -1422,6 +1496,108 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         return mRenderer;
     }
 
+    /**
+     * Returns an estimate of the memory this chart holds, split into entries,
+     * render buffers, offscreen bitmaps, value-text caches, x-values and
+     * legend.
+     *
+     * @return
+     */
+    public MemoryStats getMemoryStats() {
+
+        long entryBytes = 0;
+        long xValueBytes = 0;
+
+        if (mData != null) {
+
+            for (IDataSet<?> set : mData.getDataSets())
+                entryBytes += MemoryStats.estimateEntries(set);
+
+            // continuous x-values are generated on demand and hold no strings
+            if (!(mData.getXVals() instanceof ContinuousXValues))
+                xValueBytes = MemoryStats.estimateStrings(mData.getXVals());
+        }
+
+        long legendBytes = 0;
+
+        if (mLegend != null) {
+            legendBytes += estimateColors(mLegend.getColors());
+            legendBytes += estimateColors(mLegend.getExtraColors());
+            legendBytes += estimateLabels(mLegend.getLabels());
+            legendBytes += estimateLabels(mLegend.getExtraLabels());
+            legendBytes += estimateSizes(mLegend.getCalculatedLabelSizes());
+            legendBytes += estimateSizes(mLegend.getCalculatedLineSizes());
+        }
+
+        long bufferBytes = 0;
+        long bitmapBytes = 0;
+        long valueTextCacheBytes = 0;
+
+        if (mRenderer != null) {
+            bufferBytes = mRenderer.getBufferBytes();
+            bitmapBytes = mRenderer.getBitmapBytes();
+            valueTextCacheBytes = mRenderer.getValueTextCacheBytes();
+        }
+
+        return new MemoryStats(entryBytes, bufferBytes, bitmapBytes,
+                valueTextCacheBytes, xValueBytes, legendBytes);
+    }
+
+    private static long estimateColors(int[] colors) {
+        return colors == null ? 0 : MemoryStats.ARRAY_BYTES + 4L * colors.length;
+    }
+
+    private static long estimateLabels(String[] labels) {
+
+        if (labels == null)
+            return 0;
+
+        long bytes = MemoryStats.ARRAY_BYTES + 4L * labels.length;
+
+        for (String label : labels)
+            bytes += MemoryStats.estimateString(label);
+
+        return bytes;
+    }
+
+    private static long estimateSizes(FSize[] sizes) {
+        // an FSize holds two floats
+        return sizes == null ? 0 : MemoryStats.ARRAY_BYTES + 20L * sizes.length;
+    }
+
+    /**
+     * Returns the number of bytes of the caches of the renderer that are
+     * released by trimMemory(). Cheaper than getMemoryStats().
+     *
+     * @return
+     */
+    long getCacheBytes() {
+
+        if (mRenderer == null)
+            return 0;
+
+        return mRenderer.getBufferBytes() + mRenderer.getBitmapBytes()
+                + mRenderer.getValueTextCacheBytes();
+    }
+
+    /**
+     * Releases the render buffers, the offscreen bitmap and the value-text
+     * caches of this chart. They are rebuilt the next time the chart is
+     * drawn. Called by the ChartMemoryBudget, can also be called e.g. from
+     * onTrimMemory(...) for charts that are currently not visible.
+     */
+    public void trimMemory() {
+
+        if (mRenderer == null)
+            return;
+
+        mRenderer.releaseBitmap();
+        mRenderer.releaseBuffers();
+        mRenderer.clearValueTextCaches();
+
+        ChartMemoryBudget.onChartTrimmed(this);
+    }
+
     /**
      * Sets a new DataRenderer object for the chart.
      *
@@ -1429,8 +1605,16 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setRenderer(DataRenderer renderer) {
 
-        if (renderer != null)
+        if (renderer != null) {
+
+            if (mRenderer != null && mRenderer != renderer)
+                mRenderer.releaseBitmap();
+
             mRenderer = renderer;
+
+            if (mParallelPreparationEnabled)
+                renderer.setParallelPreparationEnabled(true);
+        }
     }
 
     public ChartHighlighter getHighlighter() {
@@ -1454,13 +1638,15 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
     }
 
     /**
-     * Returns the bitmap that represents the chart.
+     * Returns the bitmap that represents the chart. The bitmap is borrowed
+     * from the BitmapPool, pass it to BitmapPool.release(...) once it is no
+     * longer needed so that it can be reused for the next export.
      *
      * @return
      */
     public Bitmap getChartBitmap() {
         // Define a bitmap with the same size as the view
-        Bitmap returnedBitmap = Bitmap.createBitmap(getWidth(), getHeight(), Bitmap.Config.RGB_565);
+        Bitmap returnedBitmap = BitmapPool.obtain(getWidth(), getHeight(), Bitmap.Config.RGB_565);
         // Bind a canvas to it
         Canvas canvas = new Canvas(returnedBitmap);
         // Get the view's background
@@ -1508,6 +1694,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         } catch (Exception e) {
             e.printStackTrace();
             return false;
+        } finally {
+            BitmapPool.release(b);
         }
 
         return true;
@@ -1567,6 +1755,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
             Bitmap b = getChartBitmap();
             b.compress(format, quality, out);
+            BitmapPool.release(b);
 
             out.flush();
             out.close();
@@ -1711,6 +1900,13 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
         //Log.i(LOG_TAG, "Detaching...");
 
+        // gives the drawing bitmaps back to the pool, so that other charts
+        // can reuse them (e.g. while scrolling a list of charts)
+        if (mRenderer != null) {
+            mRenderer.releaseBitmap();
+            ChartMemoryBudget.onChartTrimmed(this);
+        }
+
         if (mUnbind)
             unbindDrawables(this);
     }
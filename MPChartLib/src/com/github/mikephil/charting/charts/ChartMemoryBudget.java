@@ -0,0 +1,194 @@
+package com.github.mikephil.charting.charts;
+
+import com.github.mikephil.charting.utils.BitmapPool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+
+/**
+ * Process-wide ceiling for the memory of the caches of all charts (render
+ * buffers, offscreen bitmaps and value-text caches, see
+ * MemoryStats.getCacheBytes()) together with the unused bitmaps in the
+ * BitmapPool. Every chart reports to the budget when it is drawn. If the
+ * total exceeds the ceiling, the pool recycles its bitmaps first, then the
+ * caches of the least recently drawn charts are released (and their bitmaps
+ * recycled if they do not fit into the pool anymore) until the total fits
+ * again. Released caches are rebuilt when the chart is drawn the next time.
+ * This keeps e.g. dashboards with many charts inside a fixed footprint.
+ * Entries, x-values and legends are not counted, they cannot be released.
+ * Must only be used from the UI thread.
+ */
+public final class ChartMemoryBudget {
+
+    /** a chart that has been drawn and the size of its caches */
+    private static final class Entry {
+
+        final WeakReference<Chart<?>> chart;
+
+        /** the number of bytes of the caches when last checked */
+        long bytes;
+
+        Entry(Chart<?> chart) {
+            this.chart = new WeakReference<Chart<?>>(chart);
+        }
+    }
+
+    /** the charts that have been drawn, the least recently drawn first */
+    private static final ArrayList<Entry> sCharts = new ArrayList<Entry>();
+
+    /** the sum of the bytes of all entries */
+    private static long sCacheBytes = 0;
+
+    /**
+     * the most recently drawn chart, its caches are checked again at the next
+     * report, when its frame is complete
+     */
+    private static Entry sLastDrawn;
+
+    /** the maximum number of bytes of all chart caches, 0 if unlimited */
+    private static long sMaxBytes = 0;
+
+    private ChartMemoryBudget() {
+    }
+
+    /**
+     * Sets the maximum number of bytes the caches of all charts and the
+     * unused bitmaps of the BitmapPool together may hold, 0 for no limit.
+     * Default: 0
+     *
+     * @param maxBytes
+     */
+    public static void setMaxBytes(long maxBytes) {
+
+        sMaxBytes = Math.max(0, maxBytes);
+
+        if (sMaxBytes == 0) {
+            sCharts.clear();
+            sCacheBytes = 0;
+            sLastDrawn = null;
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes of all chart caches, 0 if
+     * unlimited.
+     *
+     * @return
+     */
+    public static long getMaxBytes() {
+        return sMaxBytes;
+    }
+
+    /**
+     * Returns the number of bytes of the caches of all charts that have been
+     * drawn since the budget was set, as of the last time each chart was
+     * drawn or trimmed. The unused bitmaps of the BitmapPool are not
+     * included.
+     *
+     * @return
+     */
+    public static long getCacheBytes() {
+        return sCacheBytes;
+    }
+
+    /**
+     * Called by every chart before it draws. Marks the chart as the most
+     * recently drawn one and releases the caches of other charts if the
+     * ceiling is exceeded.
+     *
+     * @param chart
+     */
+    static void onChartDrawn(Chart<?> chart) {
+
+        if (sMaxBytes == 0)
+            return;
+
+        // the frame of the previous chart is complete
+        if (sLastDrawn != null)
+            refresh(sLastDrawn);
+
+        Entry entry = null;
+
+        // move the chart to the end, drop charts that have been collected
+        for (int i = sCharts.size() - 1; i >= 0; i--) {
+
+            Entry e = sCharts.get(i);
+            Chart<?> c = e.chart.get();
+
+            if (c == null) {
+                sCacheBytes -= e.bytes;
+                sCharts.remove(i);
+            } else if (c == chart) {
+                entry = e;
+
+                if (i < sCharts.size() - 1) {
+                    sCharts.remove(i);
+                    sCharts.add(entry);
+                }
+            }
+        }
+
+        if (entry == null) {
+            entry = new Entry(chart);
+            sCharts.add(entry);
+        }
+
+        if (entry != sLastDrawn)
+            refresh(entry);
+
+        sLastDrawn = entry;
+
+        if (sCacheBytes + BitmapPool.getPooledBytes() <= sMaxBytes)
+            return;
+
+        // unused bitmaps go first
+        BitmapPool.trim(Math.max(0, sMaxBytes - sCacheBytes));
+
+        // the chart that is drawn right now keeps its caches, trimMemory()
+        // updates the total via onChartTrimmed(...)
+        for (int i = 0; i < sCharts.size() - 1 && sCacheBytes > sMaxBytes; i++) {
+
+            Chart<?> c = sCharts.get(i).chart.get();
+
+            if (c != null && sCharts.get(i).bytes > 0)
+                c.trimMemory();
+        }
+
+        // the bitmaps of the trimmed charts went to the pool
+        BitmapPool.trim(Math.max(0, sMaxBytes - sCacheBytes));
+    }
+
+    /**
+     * Called by every chart after it released its caches, e.g. in
+     * trimMemory() or when detached from its window.
+     *
+     * @param chart
+     */
+    static void onChartTrimmed(Chart<?> chart) {
+
+        for (int i = 0; i < sCharts.size(); i++) {
+
+            Entry e = sCharts.get(i);
+
+            if (e.chart.get() == chart) {
+                refresh(e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks the size of the caches of the chart of the given entry again
+     * and updates the total.
+     *
+     * @param entry
+     */
+    private static void refresh(Entry entry) {
+
+        Chart<?> chart = entry.chart.get();
+        long bytes = chart != null ? chart.getCacheBytes() : 0;
+
+        sCacheBytes += bytes - entry.bytes;
+        entry.bytes = bytes;
+    }
+}
@@ -116,6 +116,7 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Lin
         mRenderer = null;
         super.setData(data);
         mRenderer = new CombinedChartRenderer(this, mAnimator, mViewPortHandler, getContext().getResources().getDisplayMetrics());
+        mRenderer.setParallelPreparationEnabled(mParallelPreparationEnabled);
         mRenderer.initBuffers();
     }
 
@@ -238,7 +238,9 @@ public class HorizontalBarChart extends BarChart {
 		float step = mData.getDataSetCount();
 		float div = (step <= 1) ? 1 : step + mData.getGroupSpace();
 
-		float[] pts = new float[] { mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom() };
+		float[] pts = mVisibleRangeBuffer;
+		pts[0] = mViewPortHandler.contentLeft();
+		pts[1] = mViewPortHandler.contentBottom();
 
 		getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
 		return (int) (((pts[1] <= 0) ? 0 : ((pts[1])) / div) + 1);
@@ -255,7 +257,9 @@ public class HorizontalBarChart extends BarChart {
 		float step = mData.getDataSetCount();
 		float div = (step <= 1) ? 1 : step + mData.getGroupSpace();
 
-		float[] pts = new float[] { mViewPortHandler.contentLeft(), mViewPortHandler.contentTop() };
+		float[] pts = mVisibleRangeBuffer;
+		pts[0] = mViewPortHandler.contentLeft();
+		pts[1] = mViewPortHandler.contentTop();
 
 		getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
 		return (int) ((pts[1] >= getXChartMax()) ? getXChartMax() / div : (pts[1] / div));
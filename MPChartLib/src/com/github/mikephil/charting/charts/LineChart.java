@@ -46,13 +46,4 @@ public class LineChart extends BarLineChartBase<LineData> implements LineDataPro
     public LineData getLineData() {
         return mData;
     }
-
-    @Override
-    protected void onDetachedFromWindow() {
-        // releases the bitmap in the renderer to avoid oom error
-        if(mRenderer != null && mRenderer instanceof LineChartRenderer) {
-            ((LineChartRenderer) mRenderer).releaseBitmap();
-        }
-        super.onDetachedFromWindow();
-    }
 }
@@ -20,6 +20,7 @@ import com.github.mikephil.charting.data.PieData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.renderer.PieChartRenderer;
+import com.github.mikephil.charting.utils.ChartTracer;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.List;
@@ -43,14 +44,29 @@ public class PieChart extends PieRadarChartBase<PieData> {
     private boolean mDrawXLabels = true;
 
     /**
-     * array that holds the width of each pie-slice in degrees
+     * array that holds the width of each pie-slice in degrees, only grows,
+     * so it can be longer than the number of slices
      */
-    private float[] mDrawAngles;
+    private float[] mDrawAngles = new float[0];
 
     /**
-     * array that holds the absolute angle in degrees of each slice
+     * array that holds the absolute angle in degrees of each slice, only
+     * grows, so it can be longer than the number of slices
      */
-    private float[] mAbsoluteAngles;
+    private float[] mAbsoluteAngles = new float[0];
+
+    /**
+     * the (absolute) values the current angles were calculated from, used to
+     * only recalculate the angles of slices that changed
+     */
+    private float[] mAngleValues = new float[0];
+
+    /** the number of slices the angles were calculated for */
+    private int mAngleCount = 0;
+
+    /** the y-value sum and max angle the angles were calculated for */
+    private float mAngleYValueSum = Float.NaN;
+    private float mAngleMaxAngle = Float.NaN;
 
     /**
      * if true, the white hole inside the chart will be drawn
@@ -92,6 +108,12 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
     protected float mMaxAngle = 360f;
 
+    /**
+     * slices with a smaller angle than this are folded into one "other"
+     * slice, 0 if disabled
+     */
+    private float mMinSliceAngle = 0f;
+
     public SparseArray<Bitmap> bitmapsCache = new SparseArray<>();
 
     public PieChart(Context context) {
@@ -120,7 +142,13 @@ public class PieChart extends PieRadarChartBase<PieData> {
         if (mData == null)
             return;
 
+        ChartTracer.begin(ChartTracer.ON_DRAW);
+
+        mRenderer.prepareValueLabelCulling(mValueLabelCullingEnabled);
+
+        ChartTracer.begin(ChartTracer.DRAW_DATA);
         mRenderer.drawData(canvas);
+        ChartTracer.end(ChartTracer.DRAW_DATA);
 
         if (valuesToHighlight())
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
@@ -134,6 +162,9 @@ public class PieChart extends PieRadarChartBase<PieData> {
         drawDescription(canvas);
 
         drawMarkers(canvas);
+
+
+        ChartTracer.end(ChartTracer.ON_DRAW);
     }
 
     @Override
@@ -161,6 +192,11 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
     @Override
     protected void calcMinMax() {
+
+        // fold the small slices before anything is calculated from the data
+        if (mMinSliceAngle > 0f)
+            mData.setAggregationThreshold(mMinSliceAngle / mMaxAngle * 100f);
+
         super.calcMinMax();
 
         calcAngles();
@@ -199,18 +235,42 @@ public class PieChart extends PieRadarChartBase<PieData> {
     }
 
     /**
-     * calculates the needed angles for the chart slices
+     * calculates the needed angles for the chart slices, the arrays are only
+     * reallocated if they are too small. If neither the y-value sum nor the
+     * max angle changed, only the slices whose value changed get a new angle,
+     * and the absolute angles are only summed up again from the first changed
+     * slice on.
      */
     private void calcAngles() {
 
-        mDrawAngles = new float[mData.getYValCount()];
-        mAbsoluteAngles = new float[mData.getYValCount()];
+        int count = mData.getYValCount();
+
+        if (mDrawAngles.length < count) {
+
+            int capacity = Math.max(count, mDrawAngles.length * 3 / 2);
+
+            float[] drawAngles = new float[capacity];
+            float[] absoluteAngles = new float[capacity];
+            float[] angleValues = new float[capacity];
+
+            System.arraycopy(mDrawAngles, 0, drawAngles, 0, mAngleCount);
+            System.arraycopy(mAbsoluteAngles, 0, absoluteAngles, 0, mAngleCount);
+            System.arraycopy(mAngleValues, 0, angleValues, 0, mAngleCount);
+
+            mDrawAngles = drawAngles;
+            mAbsoluteAngles = absoluteAngles;
+            mAngleValues = angleValues;
+        }
 
         float yValueSum = mData.getYValueSum();
 
+        // a different sum or max angle changes the size of every slice
+        boolean all = yValueSum != mAngleYValueSum || mMaxAngle != mAngleMaxAngle;
+
         List<IPieDataSet> dataSets = mData.getDataSets();
 
         int cnt = 0;
+        int firstChanged = all ? 0 : Math.min(count, mAngleCount);
 
         for (int i = 0; i < mData.getDataSetCount(); i++) {
 
@@ -218,18 +278,33 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
             for (int j = 0; j < set.getEntryCount(); j++) {
 
-                mDrawAngles[cnt] = calcAngle(Math.abs(set.getEntryForIndex(j).getVal()), yValueSum);
+                float value = Math.abs(set.getEntryForIndex(j).getVal());
 
-                if (cnt == 0) {
-                    mAbsoluteAngles[cnt] = mDrawAngles[cnt];
-                } else {
-                    mAbsoluteAngles[cnt] = mAbsoluteAngles[cnt - 1] + mDrawAngles[cnt];
+                if (all || cnt >= mAngleCount || value != mAngleValues[cnt]) {
+
+                    mAngleValues[cnt] = value;
+                    mDrawAngles[cnt] = calcAngle(value, yValueSum);
+
+                    if (cnt < firstChanged)
+                        firstChanged = cnt;
                 }
 
                 cnt++;
             }
         }
 
+        for (int i = firstChanged; i < count; i++) {
+
+            if (i == 0) {
+                mAbsoluteAngles[i] = mDrawAngles[i];
+            } else {
+                mAbsoluteAngles[i] = mAbsoluteAngles[i - 1] + mDrawAngles[i];
+            }
+        }
+
+        mAngleCount = count;
+        mAngleYValueSum = yValueSum;
+        mAngleMaxAngle = mMaxAngle;
     }
 
     /**
@@ -283,11 +358,22 @@ public class PieChart extends PieRadarChartBase<PieData> {
         // take the current angle of the chart into consideration
         float a = Utils.getNormalizedAngle(angle - getRotationAngle());
 
-        for (int i = 0; i < mAbsoluteAngles.length; i++) {
-            if (mAbsoluteAngles[i] > a)
-                return i;
+        // the absolute angles are ascending, find the first one greater than a
+        int low = 0;
+        int high = mAngleCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mAbsoluteAngles[m] > a)
+                high = m;
+            else
+                low = m + 1;
         }
 
+        if (low < mAngleCount)
+            return low;
+
         return -1; // return -1 if no index found
     }
 
@@ -312,7 +398,7 @@ public class PieChart extends PieRadarChartBase<PieData> {
     /**
      * returns an integer array of all the different angles the chart slices
      * have the angles in the returned array determine how much space (of 360°)
-     * each slice takes
+     * each slice takes. The array can be longer than the number of slices.
      *
      * @return
      */
@@ -322,7 +408,7 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
     /**
      * returns the absolute angles of the different chart slices (where the
-     * slices end)
+     * slices end). The array can be longer than the number of slices.
      *
      * @return
      */
@@ -644,13 +730,28 @@ public class PieChart extends PieRadarChartBase<PieData> {
         this.mMaxAngle = maxangle;
     }
 
-    @Override
-    protected void onDetachedFromWindow() {
-        // releases the bitmap in the renderer to avoid oom error
-        if (mRenderer != null && mRenderer instanceof PieChartRenderer) {
-            ((PieChartRenderer) mRenderer).releaseBitmap();
-        }
-        super.onDetachedFromWindow();
+    /**
+     * Sets the minimum angle of a slice in degrees, smaller slices are folded
+     * into one "other" slice (see PieData.setAggregationThreshold(...)).
+     * Useful for data with thousands of entries, most of which would be
+     * drawn as invisible sub-pixel slices. Call notifyDataSetChanged() after
+     * changing this. Default: 0 (disabled)
+     *
+     * @param angle
+     */
+    public void setMinSliceAngle(float angle) {
+
+        if (angle < 0f)
+            angle = 0f;
+
+        mMinSliceAngle = angle;
+
+        if (mData != null)
+            mData.setAggregationThreshold(angle / mMaxAngle * 100f);
+    }
+
+    public float getMinSliceAngle() {
+        return mMinSliceAngle;
     }
 
     @Override
@@ -19,6 +19,7 @@ import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.listener.PieRadarChartTouchListener;
+import com.github.mikephil.charting.utils.ChartTracer;
 import com.github.mikephil.charting.utils.SelectionDetail;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -42,6 +43,15 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
     /** flag that indicates if rotation is enabled or not */
     protected boolean mRotateEnabled = true;
 
+    /**
+     * flag that indicates if the rotation-invariant content is cached and
+     * drawn rotated while the chart is spun
+     */
+    protected boolean mRotationCacheEnabled = false;
+
+    /** true while the chart is rotated by touch or decelerates */
+    private boolean mRotating = false;
+
     /** Sets the minimum offset (padding) around the chart, defaults to 0.f */
     protected float mMinOffset = 0.f;
 
@@ -90,12 +100,16 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
         if (mData == null)
             return;
 
+        ChartTracer.begin(ChartTracer.NOTIFY_DATA_SET_CHANGED);
+
         calcMinMax();
 
         if (mLegend != null)
             mLegendRenderer.computeLegend(mData);
 
         calculateOffsets();
+
+        ChartTracer.end(ChartTracer.NOTIFY_DATA_SET_CHANGED);
     }
 
     @Override
@@ -383,6 +397,60 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
         return mRotateEnabled;
     }
 
+    /**
+     * If set to true, the content of the chart is only drawn once when the
+     * user starts spinning it, and then drawn rotated by the current rotation
+     * angle for every frame of the gesture and the deceleration. The values
+     * are hidden while the chart spins and laid out again once the rotation
+     * has settled. Makes spinning charts with many slices or entries a lot
+     * cheaper. Default: false
+     *
+     * @param enabled
+     */
+    public void setRotationCacheEnabled(boolean enabled) {
+        mRotationCacheEnabled = enabled;
+    }
+
+    /**
+     * Returns true if the content is cached and drawn rotated while the chart
+     * spins.
+     *
+     * @return
+     */
+    public boolean isRotationCacheEnabled() {
+        return mRotationCacheEnabled;
+    }
+
+    /**
+     * Sets whether the chart is currently spun by touch or decelerating after
+     * a touch. Called by the touch listener.
+     *
+     * @param rotating
+     */
+    public void setRotating(boolean rotating) {
+        mRotating = rotating;
+    }
+
+    /**
+     * Returns true if the chart is currently spun by touch or decelerating
+     * after a touch.
+     *
+     * @return
+     */
+    public boolean isRotating() {
+        return mRotating;
+    }
+
+    /**
+     * Returns true if the renderer should draw the cached content rotated by
+     * the current rotation angle instead of drawing it again.
+     *
+     * @return
+     */
+    public boolean isRotationCacheActive() {
+        return mRotationCacheEnabled && mRotating;
+    }
+
     /** Gets the minimum offset (padding) around the chart, defaults to 0.f */
     public float getMinOffset() {
         return mMinOffset;
@@ -17,6 +17,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.renderer.RadarChartRenderer;
 import com.github.mikephil.charting.renderer.XAxisRendererRadarChart;
 import com.github.mikephil.charting.renderer.YAxisRendererRadarChart;
+import com.github.mikephil.charting.utils.ChartTracer;
 import com.github.mikephil.charting.utils.Utils;
 
 /**
@@ -148,6 +149,8 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mData == null)
             return;
 
+        ChartTracer.begin(ChartTracer.NOTIFY_DATA_SET_CHANGED);
+
         calcMinMax();
 
 //        if (mYAxis.needsDefaultFormatter()) {
@@ -161,6 +164,8 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
             mLegendRenderer.computeLegend(mData);
 
         calculateOffsets();
+
+        ChartTracer.end(ChartTracer.NOTIFY_DATA_SET_CHANGED);
     }
 
     @Override
@@ -170,6 +175,10 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mData == null)
             return;
 
+        ChartTracer.begin(ChartTracer.ON_DRAW);
+
+        mRenderer.prepareValueLabelCulling(mValueLabelCullingEnabled);
+
         mXAxisRenderer.renderAxisLabels(canvas);
 
         if (mDrawWeb)
@@ -177,7 +186,9 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
         mYAxisRenderer.renderLimitLines(canvas);
 
+        ChartTracer.begin(ChartTracer.DRAW_DATA);
         mRenderer.drawData(canvas);
+        ChartTracer.end(ChartTracer.DRAW_DATA);
 
         if (valuesToHighlight())
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
@@ -191,6 +202,9 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         drawDescription(canvas);
 
         drawMarkers(canvas);
+
+
+        ChartTracer.end(ChartTracer.ON_DRAW);
     }
 
     /**
@@ -5,6 +5,7 @@ import android.content.Context;
 import android.util.AttributeSet;
 
 import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.highlight.NearestPointHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.renderer.ScatterChartRenderer;
 
@@ -42,6 +43,7 @@ public class ScatterChart extends BarLineChartBase<ScatterData> implements Scatt
 
         mRenderer = new ScatterChartRenderer(this, mAnimator, mViewPortHandler);
         mXChartMin = -0.5f;
+        setHighlighter(new NearestPointHighlighter(this));
     }
 
     @Override
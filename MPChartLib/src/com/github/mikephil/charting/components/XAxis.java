@@ -1,6 +1,7 @@
 
 package com.github.mikephil.charting.components;
 
+import com.github.mikephil.charting.data.ContinuousXValues;
 import com.github.mikephil.charting.formatter.DefaultXAxisValueFormatter;
 import com.github.mikephil.charting.formatter.XAxisValueFormatter;
 import com.github.mikephil.charting.utils.Utils;
@@ -243,6 +244,9 @@ public class XAxis extends AxisBase {
     @Override
     public String getLongestLabel() {
 
+        if (mValues instanceof ContinuousXValues)
+            return ((ContinuousXValues) mValues).getLongestLabel();
+
         String longest = "";
 
         for (int i = 0; i < mValues.size(); i++) {
@@ -161,6 +161,15 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         }
     }
 
+    @Override
+    protected boolean isMinMaxEntry(BarEntry e) {
+
+        if (e.getVals() == null)
+            return super.isMinMaxEntry(e);
+
+        return -e.getNegativeSum() <= mYMin || e.getPositiveSum() >= mYMax;
+    }
+
     @Override
     public int getStackSize() {
         return mStackSize;
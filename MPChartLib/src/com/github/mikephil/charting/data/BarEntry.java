@@ -1,5 +1,7 @@
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.highlight.Range;
+
 /**
  * Entry class for the BarChart. (especially stacked bars)
  * 
@@ -16,6 +18,12 @@ public class BarEntry extends Entry {
 	/** the sum of all positive values this entry (if stacked) contains */
 	private float mPositiveSum;
 
+	/** the ranges of the stack-values (if stacked), calculated lazily */
+	private Range[] mRanges;
+
+	/** the sum of all stack-values above each stack-index (if stacked), calculated lazily */
+	private float[] mBelowSums;
+
 	/**
 	 * Constructor for stacked bar entries.
 	 * 
@@ -97,6 +105,9 @@ public class BarEntry extends Entry {
 		setVal(calcSum(vals));
 		mVals = vals;
 		calcPosNegSum();
+
+		mRanges = null;
+		mBelowSums = null;
 	}
 
 	/**
@@ -118,20 +129,45 @@ public class BarEntry extends Entry {
 		return mVals != null;
 	}
 
+	/**
+	 * Returns the sum of all stack-values after the given stack-index. The
+	 * sums are calculated once and cached until setVals(...) is called.
+	 *
+	 * @param stackIndex
+	 * @return
+	 */
 	public float getBelowSum(int stackIndex) {
 
-		if (mVals == null)
+		if (mVals == null || stackIndex >= mVals.length - 1)
 			return 0;
 
-		float remainder = 0f;
-		int index = mVals.length - 1;
+		if (mBelowSums == null)
+			calcBelowSums();
 
-		while (index > stackIndex && index >= 0) {
-			remainder += mVals[index];
-			index--;
-		}
+		if (stackIndex < 0)
+			return mBelowSums[0] + mVals[0];
 
-		return remainder;
+		return mBelowSums[stackIndex];
+	}
+
+	/**
+	 * Returns the ranges of the individual stack-values of this entry (if
+	 * stacked), e.g. stack values -10, 5, 20 result in the ranges
+	 * (-10 - 0, 0 - 5, 5 - 25). Returns null if the entry is not stacked. The
+	 * ranges are calculated once and cached until setVals(...) is called, do
+	 * not modify them.
+	 *
+	 * @return
+	 */
+	public Range[] getRanges() {
+
+		if (mVals == null)
+			return null;
+
+		if (mRanges == null)
+			calcRanges();
+
+		return mRanges;
 	}
 
 	/**
@@ -174,6 +210,42 @@ public class BarEntry extends Entry {
 		mPositiveSum = sumPos;
 	}
 
+	private void calcBelowSums() {
+
+		float[] belowSums = new float[mVals.length];
+		float remainder = 0f;
+
+		for (int i = mVals.length - 1; i >= 0; i--) {
+			belowSums[i] = remainder;
+			remainder += mVals[i];
+		}
+
+		mBelowSums = belowSums;
+	}
+
+	private void calcRanges() {
+
+		Range[] ranges = new Range[mVals.length];
+
+		float negRemain = -mNegativeSum;
+		float posRemain = 0f;
+
+		for (int i = 0; i < ranges.length; i++) {
+
+			float value = mVals[i];
+
+			if (value < 0) {
+				ranges[i] = new Range(negRemain, negRemain + Math.abs(value));
+				negRemain += Math.abs(value);
+			} else {
+				ranges[i] = new Range(posRemain, posRemain + value);
+				posRemain += value;
+			}
+		}
+
+		mRanges = ranges;
+	}
+
 	/**
 	 * Calculates the sum across all values of the given stack.
 	 *
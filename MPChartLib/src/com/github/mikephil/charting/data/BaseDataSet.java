@@ -61,6 +61,11 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     protected boolean mDrawValues = true;
 
+    /**
+     * if true, the formatted value-texts may be cached by the renderer
+     */
+    protected boolean mValueTextCacheEnabled = false;
+
     /**
      * the size of the value-text labels
      */
@@ -259,7 +264,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Override
     public ValueFormatter getValueFormatter() {
         if (mValueFormatter == null)
-            return new DefaultValueFormatter(1);
+            mValueFormatter = new DefaultValueFormatter(1);
         return mValueFormatter;
     }
 
@@ -314,6 +319,16 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         return mDrawValues;
     }
 
+    @Override
+    public void setValueTextCacheEnabled(boolean enabled) {
+        this.mValueTextCacheEnabled = enabled;
+    }
+
+    @Override
+    public boolean isValueTextCacheEnabled() {
+        return mValueTextCacheEnabled;
+    }
+
     @Override
     public void setVisible(boolean visible) {
         mVisible = visible;
@@ -131,6 +131,11 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
         }
     }
 
+    @Override
+    protected boolean isMinMaxEntry(CandleEntry e) {
+        return e.getLow() <= mYMin || e.getHigh() >= mYMax;
+    }
+
     /**
      * Sets the space that is left out on the left and right side of each
      * candle, default 0.1f (10%), max 0.45f, min 0f
@@ -8,10 +8,14 @@ import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.ParallelExecutor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Class that holds all relevant data that represents the chart. That involves
@@ -60,6 +64,50 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     protected List<T> mDataSets;
 
+    /**
+     * maps every DataSet to its index in the DataSets array, built lazily
+     */
+    private IdentityHashMap<IDataSet, Integer> mDataSetIndices;
+
+    /**
+     * maps every label to the index of the first DataSet with that label
+     */
+    private HashMap<String, Integer> mLabelIndices;
+
+    /**
+     * same as mLabelIndices, with lower-case labels as keys
+     */
+    private HashMap<String, Integer> mLabelIndicesIgnoreCase;
+
+    /**
+     * the DataSets array and its size the indices were built for
+     */
+    private List<T> mIndexedDataSets;
+    private int mIndexedDataSetCount;
+
+    /**
+     * DataSets whose minimum and maximum values need to be calculated again
+     */
+    private IdentityHashMap<IDataSet, Boolean> mDirtyDataSets = new IdentityHashMap<IDataSet, Boolean>();
+
+    /**
+     * the range the minimum and maximum values were calculated for the last time
+     */
+    private int mMinMaxStart = 0;
+    private int mMinMaxEnd = 0;
+
+    /**
+     * if true, the minimum and maximum values of the DataSets are calculated
+     * on multiple threads
+     */
+    private boolean mParallelCalculationEnabled = false;
+
+    /**
+     * buffer for the DataSets whose minimum and maximum values are calculated
+     * in parallel
+     */
+    private List<IDataSet> mMinMaxSets;
+
     public ChartData() {
         mXVals = new ArrayList<String>();
         mDataSets = new ArrayList<T>();
@@ -135,6 +183,8 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     protected void init() {
 
+        invalidateDataSetIndices();
+
         checkLegal();
         calcYValueCount();
         calcMinMax(0, mYValCount);
@@ -152,6 +202,12 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             return;
         }
 
+        // generated x-values know their longest label without creating all of them
+        if (mXVals instanceof ContinuousXValues) {
+            mXValMaximumLength = ((ContinuousXValues) mXVals).getMaximumLength();
+            return;
+        }
+
         int max = 1;
 
         for (int i = 0; i < mXVals.size(); i++) {
@@ -193,10 +249,46 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         init();
     }
 
+    /**
+     * Call this method instead of notifyDataChanged() if only the entries of
+     * the given DataSet have changed. Only the minimum and maximum values of
+     * that DataSet are calculated again (for the same range as the last
+     * calculation), the values across all DataSets are aggregated from the
+     * values cached by each DataSet.
+     *
+     * @param dataSet
+     */
+    public void notifyDataChanged(T dataSet) {
+
+        if (dataSet == null)
+            return;
+
+        mDirtyDataSets.put(dataSet, Boolean.TRUE);
+
+        calcYValueCount();
+        updateMinMax(mMinMaxStart, mMinMaxEnd, false);
+    }
+
     /**
      * calc minimum and maximum y value over all datasets
      */
     public void calcMinMax(int start, int end) {
+        updateMinMax(start, end, true);
+    }
+
+    /**
+     * Calculates the minimum and maximum values of all DataSets (if all is
+     * true) or only of the DataSets marked as changed, and aggregates the
+     * values across all DataSets and for both axes afterwards.
+     *
+     * @param start
+     * @param end
+     * @param all
+     */
+    private void updateMinMax(int start, int end, boolean all) {
+
+        mMinMaxStart = start;
+        mMinMaxEnd = end;
 
         if (mDataSets == null || mDataSets.size() < 1) {
 
@@ -204,66 +296,142 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             mYMin = 0f;
         } else {
 
-            mYMin = Float.MAX_VALUE;
-            mYMax = -Float.MAX_VALUE;
+            if (mParallelCalculationEnabled && mDataSets.size() > 1
+                    && ParallelExecutor.isParallelismAvailable()) {
 
-            for (int i = 0; i < mDataSets.size(); i++) {
+                calcMinMaxParallel(start, end, all);
+            } else {
 
-                IDataSet set = mDataSets.get(i);
-                set.calcMinMax(start, end);
+                for (int i = 0; i < mDataSets.size(); i++) {
 
-                if (set.getYMin() < mYMin)
-                    mYMin = set.getYMin();
+                    IDataSet set = mDataSets.get(i);
 
-                if (set.getYMax() > mYMax)
-                    mYMax = set.getYMax();
+                    if (all || mDirtyDataSets.containsKey(set))
+                        set.calcMinMax(start, end);
+                }
             }
 
-            if (mYMin == Float.MAX_VALUE) {
-                mYMin = 0.f;
-                mYMax = 0.f;
-            }
+            calcAxisMinMax();
+        }
+
+        mDirtyDataSets.clear();
+    }
+
+    /**
+     * Calculates the minimum and maximum values of the DataSets that need it
+     * on all cores. The DataSets are independent of each other, each one is
+     * calculated by exactly one thread.
+     */
+    private void calcMinMaxParallel(final int start, final int end, boolean all) {
 
-            // left axis
-            T firstLeft = getFirstLeft();
+        if (mMinMaxSets == null)
+            mMinMaxSets = new ArrayList<IDataSet>();
 
-            if (firstLeft != null) {
+        final List<IDataSet> sets = mMinMaxSets;
+        sets.clear();
 
-                mLeftAxisMax = firstLeft.getYMax();
-                mLeftAxisMin = firstLeft.getYMin();
+        for (int i = 0; i < mDataSets.size(); i++) {
 
-                for (IDataSet dataSet : mDataSets) {
-                    if (dataSet.getAxisDependency() == AxisDependency.LEFT) {
-                        if (dataSet.getYMin() < mLeftAxisMin)
-                            mLeftAxisMin = dataSet.getYMin();
+            IDataSet set = mDataSets.get(i);
 
-                        if (dataSet.getYMax() > mLeftAxisMax)
-                            mLeftAxisMax = dataSet.getYMax();
-                    }
+            if (all || mDirtyDataSets.containsKey(set))
+                sets.add(set);
+        }
+
+        try {
+            ParallelExecutor.run(sets.size(), new ParallelExecutor.IndexedTask() {
+                @Override
+                public void run(int index) {
+                    sets.get(index).calcMinMax(start, end);
                 }
-            }
+            });
+        } finally {
+            sets.clear();
+        }
+    }
 
-            // right axis
-            T firstRight = getFirstRight();
+    /**
+     * If set to true, the minimum and maximum values of the DataSets are
+     * calculated in parallel on all cores whenever the data changes. Only
+     * pays off for data objects with many large DataSets on multi-core
+     * devices. Call notifyDataChanged() afterwards to recalculate the values
+     * of data that already exists. Default: false
+     *
+     * @param enabled
+     */
+    public void setParallelCalculationEnabled(boolean enabled) {
+        mParallelCalculationEnabled = enabled;
+    }
 
-            if (firstRight != null) {
+    /**
+     * Returns true if the minimum and maximum values of the DataSets are
+     * calculated in parallel.
+     *
+     * @return
+     */
+    public boolean isParallelCalculationEnabled() {
+        return mParallelCalculationEnabled;
+    }
 
-                mRightAxisMax = firstRight.getYMax();
-                mRightAxisMin = firstRight.getYMin();
+    /**
+     * Aggregates the minimum and maximum values across all DataSets and for
+     * both axes from the values cached by the DataSets, without iterating
+     * over any entries.
+     */
+    protected void calcAxisMinMax() {
 
-                for (IDataSet dataSet : mDataSets) {
-                    if (dataSet.getAxisDependency() == AxisDependency.RIGHT) {
-                        if (dataSet.getYMin() < mRightAxisMin)
-                            mRightAxisMin = dataSet.getYMin();
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
 
-                        if (dataSet.getYMax() > mRightAxisMax)
-                            mRightAxisMax = dataSet.getYMax();
-                    }
-                }
+        boolean hasLeft = false;
+        boolean hasRight = false;
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+
+            IDataSet set = mDataSets.get(i);
+
+            float min = set.getYMin();
+            float max = set.getYMax();
+
+            if (min < mYMin)
+                mYMin = min;
+
+            if (max > mYMax)
+                mYMax = max;
+
+            if (set.getAxisDependency() == AxisDependency.LEFT) {
+
+                if (!hasLeft || min < mLeftAxisMin)
+                    mLeftAxisMin = min;
+
+                if (!hasLeft || max > mLeftAxisMax)
+                    mLeftAxisMax = max;
+
+                hasLeft = true;
+            } else {
+
+                if (!hasRight || min < mRightAxisMin)
+                    mRightAxisMin = min;
+
+                if (!hasRight || max > mRightAxisMax)
+                    mRightAxisMax = max;
+
+                hasRight = true;
             }
+        }
+
+        if (mYMin == Float.MAX_VALUE) {
+            mYMin = 0.f;
+            mYMax = 0.f;
+        }
 
-            // in case there is only one axis, adjust the second axis
-            handleEmptyAxis(firstLeft, firstRight);
+        // in case there is only one axis, adjust the second axis
+        if (!hasLeft) {
+            mLeftAxisMax = mRightAxisMax;
+            mLeftAxisMin = mRightAxisMin;
+        } else if (!hasRight) {
+            mRightAxisMax = mLeftAxisMax;
+            mRightAxisMin = mLeftAxisMin;
         }
     }
 
@@ -382,19 +550,27 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     public void addXValue(String xVal) {
 
-        if (xVal != null && xVal.length() > mXValMaximumLength)
-            mXValMaximumLength = xVal.length();
-
         mXVals.add(xVal);
+
+        if (mXVals instanceof ContinuousXValues)
+            calcXValMaximumLength();
+        else if (xVal != null && xVal.length() > mXValMaximumLength)
+            mXValMaximumLength = xVal.length();
     }
 
     /**
-     * Removes the x-value at the specified index.
+     * Removes the x-value at the specified index. If the x-values are
+     * ContinuousXValues, only the first or the last x-value can be removed,
+     * any other index throws an UnsupportedOperationException.
      *
      * @param index
      */
     public void removeXValue(int index) {
+
         mXVals.remove(index);
+
+        if (mXVals instanceof ContinuousXValues)
+            calcXValMaximumLength();
     }
 
     public List<T> getDataSets() {
@@ -403,9 +579,10 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
 
     /**
      * Retrieve the index of a DataSet with a specific label from the ChartData.
-     * Search can be case sensitive or not. IMPORTANT: This method does
-     * calculations at runtime, do not over-use in performance critical
-     * situations.
+     * Search can be case sensitive or not. Searching the DataSets of this
+     * object uses a hash index, any other list is searched linearly. A label
+     * that is not in the index (e.g. of a DataSet put into the array directly)
+     * is searched linearly as well, and the index is built again if found.
      *
      * @param dataSets   the DataSet array to search
      * @param label
@@ -415,17 +592,105 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
     protected int getDataSetIndexByLabel(List<T> dataSets, String label,
                                          boolean ignorecase) {
 
+        if (dataSets == mDataSets && label != null) {
+
+            int index = lookupLabel(label, ignorecase);
+
+            // the array was modified without this object knowing, build again
+            if (index >= 0 && !matchesLabel(index, label, ignorecase)) {
+                buildDataSetIndices();
+                index = lookupLabel(label, ignorecase);
+            }
+
+            if (index >= 0)
+                return index;
+        }
+
+        int found = -1;
+
         if (ignorecase) {
-            for (int i = 0; i < dataSets.size(); i++)
+            for (int i = 0; i < dataSets.size() && found < 0; i++)
                 if (label.equalsIgnoreCase(dataSets.get(i).getLabel()))
-                    return i;
+                    found = i;
         } else {
-            for (int i = 0; i < dataSets.size(); i++)
+            for (int i = 0; i < dataSets.size() && found < 0; i++)
                 if (label.equals(dataSets.get(i).getLabel()))
-                    return i;
+                    found = i;
+        }
+
+        // the array or a label was modified without this object knowing
+        if (found >= 0 && dataSets == mDataSets)
+            buildDataSetIndices();
+
+        return found;
+    }
+
+    private int lookupLabel(String label, boolean ignorecase) {
+
+        ensureDataSetIndices();
+
+        Integer index = ignorecase
+                ? mLabelIndicesIgnoreCase.get(label.toLowerCase(Locale.US))
+                : mLabelIndices.get(label);
+
+        return index == null ? -1 : index;
+    }
+
+    private boolean matchesLabel(int index, String label, boolean ignorecase) {
+
+        if (index >= mDataSets.size())
+            return false;
+
+        String other = mDataSets.get(index).getLabel();
+
+        return ignorecase ? label.equalsIgnoreCase(other) : label.equals(other);
+    }
+
+    /**
+     * Makes sure the DataSet and label indices are up to date. They are built
+     * again if the DataSets array was replaced or changed its size.
+     */
+    private void ensureDataSetIndices() {
+
+        if (mDataSetIndices == null || mIndexedDataSets != mDataSets
+                || mIndexedDataSetCount != mDataSets.size())
+            buildDataSetIndices();
+    }
+
+    private void buildDataSetIndices() {
+
+        int count = mDataSets.size();
+
+        mDataSetIndices = new IdentityHashMap<IDataSet, Integer>(count);
+        mLabelIndices = new HashMap<String, Integer>(count * 2);
+        mLabelIndicesIgnoreCase = new HashMap<String, Integer>(count * 2);
+
+        // iterate backwards, the first DataSet with a label wins
+        for (int i = count - 1; i >= 0; i--) {
+
+            T set = mDataSets.get(i);
+            Integer index = i;
+
+            mDataSetIndices.put(set, index);
+
+            String label = set.getLabel();
+
+            if (label != null) {
+                mLabelIndices.put(label, index);
+                mLabelIndicesIgnoreCase.put(label.toLowerCase(Locale.US), index);
+            }
         }
 
-        return -1;
+        mIndexedDataSets = mDataSets;
+        mIndexedDataSetCount = count;
+    }
+
+    /**
+     * Drops the DataSet and label indices, they are built again on the next
+     * lookup.
+     */
+    protected void invalidateDataSetIndices() {
+        mDataSetIndices = null;
     }
 
     /**
@@ -463,9 +728,20 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
     public Entry getEntryForHighlight(Highlight highlight) {
         if (highlight.getDataSetIndex() >= mDataSets.size())
             return null;
-        else
-            return mDataSets.get(highlight.getDataSetIndex()).getEntryForXIndex(
-                    highlight.getXIndex());
+
+        T set = mDataSets.get(highlight.getDataSetIndex());
+        int entryIndex = highlight.getEntryIndex();
+
+        // the highlight references one of several entries at its x-index
+        if (entryIndex >= 0 && entryIndex < set.getEntryCount()) {
+
+            Entry e = set.getEntryForIndex(entryIndex);
+
+            if (e.getXIndex() == highlight.getXIndex())
+                return e;
+        }
+
+        return set.getEntryForXIndex(highlight.getXIndex());
     }
 
     /**
@@ -542,6 +818,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         }
 
         mDataSets.add(d);
+        invalidateDataSetIndices();
 
         handleEmptyAxis(getFirstLeft(), getFirstRight());
     }
@@ -581,9 +858,12 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         // if a DataSet was removed
         if (removed) {
 
+            invalidateDataSetIndices();
+
             mYValCount -= d.getEntryCount();
 
-            calcMinMax(0, mYValCount);
+            // the remaining DataSets did not change, aggregate only
+            updateMinMax(mMinMaxStart, mMinMaxEnd, false);
         }
 
         return removed;
@@ -686,7 +966,8 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             if (removed) {
                 mYValCount -= 1;
 
-                calcMinMax(0, mYValCount);
+                // the DataSet keeps its own minimum and maximum up to date
+                updateMinMax(mMinMaxStart, mMinMaxEnd, false);
             }
 
             return removed;
@@ -719,7 +1000,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
 
     /**
      * Returns the DataSet that contains the provided Entry, or null, if no
-     * DataSet contains this Entry.
+     * DataSet contains this Entry. Performs one lookup by x-index per DataSet.
      *
      * @param e
      * @return
@@ -733,10 +1014,8 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
 
             T set = mDataSets.get(i);
 
-            for (int j = 0; j < set.getEntryCount(); j++) {
-                if (e.equalTo(set.getEntryForXIndex(e.getXIndex())))
-                    return set;
-            }
+            if (e.equalTo(set.getEntryForXIndex(e.getXIndex())))
+                return set;
         }
 
         return null;
@@ -775,13 +1054,43 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         return colors;
     }
 
+    /**
+     * Returns the index of the given DataSet inside the DataSets array, or -1
+     * if it is not part of this data object. Uses a hash index that is kept up
+     * to date with the DataSets array. DataSets that are not in the index are
+     * searched linearly before -1 is returned, in case they were put into the
+     * array directly, e.g. with getDataSets().set(index, dataSet).
+     *
+     * @param dataSet
+     * @return
+     */
     public int getIndexOfDataSet(T dataSet) {
-        for (int i = 0; i < mDataSets.size(); i++) {
-            if (mDataSets.get(i) == dataSet)
-                return i;
+
+        ensureDataSetIndices();
+
+        Integer index = mDataSetIndices.get(dataSet);
+
+        if (index == null) {
+
+            for (int i = 0; i < mDataSets.size(); i++) {
+
+                // the array was modified without this object knowing, build again
+                if (mDataSets.get(i) == dataSet) {
+                    buildDataSetIndices();
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        // the array was modified without this object knowing, build again
+        if (index >= mDataSets.size() || mDataSets.get(index) != dataSet) {
+            buildDataSetIndices();
+            index = mDataSetIndices.get(dataSet);
         }
 
-        return -1;
+        return index == null ? -1 : index;
     }
 
     /**
@@ -906,6 +1215,18 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         }
     }
 
+    /**
+     * Enables / disables caching of the formatted value-texts for all DataSets
+     * this data object contains.
+     *
+     * @param enabled
+     */
+    public void setValueTextCacheEnabled(boolean enabled) {
+        for (IDataSet set : mDataSets) {
+            set.setValueTextCacheEnabled(enabled);
+        }
+    }
+
     /**
      * Enables / disables highlighting values for all DataSets this data object
      * contains. If set to true, this means that values can
@@ -937,6 +1258,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     public void clearValues() {
         mDataSets.clear();
+        invalidateDataSetIndices();
         notifyDataChanged();
     }
 
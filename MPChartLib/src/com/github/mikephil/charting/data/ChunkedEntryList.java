@@ -0,0 +1,377 @@
+package com.github.mikephil.charting.data;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List of entries for DataSets with frequent out-of-order inserts or removals,
+ * e.g. when backfilling late-arriving values into a large series. The entries
+ * are stored in a sequence of small arrays (chunks) instead of one large
+ * array, so inserting or removing an entry only shifts the entries of one
+ * chunk instead of the whole tail of the list. The sizes of the chunks are
+ * kept in a Fenwick tree, so looking up a position and updating the sizes is
+ * O(log(n / chunkSize)). Sequential access (as done by the buffers and
+ * renderers) hits the last used chunk and is O(1). Inserting or removing is
+ * O(chunkSize + log(n / chunkSize)), plus O(n / chunkSize) whenever a chunk
+ * is split, merged or dropped, which happens at most once every
+ * chunkSize / 4 inserts or removals.
+ *
+ * Hand it to the constructor of any DataSet instead of an ArrayList:
+ * new LineDataSet(new ChunkedEntryList&lt;Entry&gt;(entries), "label").
+ * DataSet.addEntryOrdered(...) and removeEntry(...) then no longer shift the
+ * whole array.
+ *
+ * @param <T>
+ */
+public class ChunkedEntryList<T extends Entry> extends AbstractList<T> implements RandomAccess {
+
+    /** the default maximum number of entries per chunk */
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+
+    /** the maximum number of entries per chunk */
+    private final int mChunkSize;
+
+    /** the chunks holding the entries */
+    private Object[][] mChunks = new Object[8][];
+
+    /** the number of entries in each chunk */
+    private int[] mChunkSizes = new int[8];
+
+    /**
+     * Fenwick tree over the chunk sizes, 1-based, mTree[i] holds the number
+     * of entries of the chunks from i - (i &amp; -i) to i - 1
+     */
+    private int[] mTree = new int[9];
+
+    /** the number of chunks */
+    private int mChunkCount = 0;
+
+    /** the chunk accessed last, checked first by the next access, -1 if none */
+    private int mLastChunk = -1;
+
+    /** the position of the first entry of mLastChunk inside the list */
+    private int mLastStart = 0;
+
+    /** the total number of entries */
+    private int mSize = 0;
+
+    public ChunkedEntryList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize the maximum number of entries per chunk, at least 4
+     */
+    public ChunkedEntryList(int chunkSize) {
+
+        if (chunkSize < 4)
+            throw new IllegalArgumentException("The chunk size must be at least 4.");
+
+        mChunkSize = chunkSize;
+    }
+
+    /**
+     * Creates a list containing the given entries in the order of the
+     * collection.
+     *
+     * @param entries
+     */
+    public ChunkedEntryList(Collection<? extends T> entries) {
+        this(DEFAULT_CHUNK_SIZE);
+        addAll(entries);
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+
+        checkIndex(index, mSize);
+
+        int chunk = chunkOf(index);
+        return (T) mChunks[chunk][index - mLastStart];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T e) {
+
+        checkIndex(index, mSize);
+
+        int chunk = chunkOf(index);
+        Object[] entries = mChunks[chunk];
+        int offset = index - mLastStart;
+
+        T old = (T) entries[offset];
+        entries[offset] = e;
+        return old;
+    }
+
+    @Override
+    public boolean add(T e) {
+        add(mSize, e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T e) {
+
+        checkIndex(index, mSize + 1);
+
+        int chunk;
+        int offset;
+
+        if (mChunkCount == 0) {
+            chunk = insertChunk(0, new Object[mChunkSize], 0);
+            offset = 0;
+        } else if (index == mSize) {
+            chunk = mChunkCount - 1;
+            offset = mChunkSizes[chunk];
+        } else {
+            chunk = chunkOf(index);
+            offset = index - mLastStart;
+        }
+
+        if (mChunkSizes[chunk] == mChunkSize) {
+
+            if (index == mSize) {
+                // appending, start a new chunk instead of splitting the full one
+                chunk = insertChunk(mChunkCount, new Object[mChunkSize], 0);
+                offset = 0;
+            } else {
+                splitChunk(chunk);
+
+                // the insert position might be in the second half after a split
+                if (offset > mChunkSizes[chunk]) {
+                    offset -= mChunkSizes[chunk];
+                    chunk++;
+                }
+            }
+        }
+
+        Object[] entries = mChunks[chunk];
+
+        System.arraycopy(entries, offset, entries, offset + 1, mChunkSizes[chunk] - offset);
+        entries[offset] = e;
+
+        mChunkSizes[chunk]++;
+        mSize++;
+        onChunkResized(chunk, 1);
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+
+        checkIndex(index, mSize);
+
+        int chunk = chunkOf(index);
+        Object[] entries = mChunks[chunk];
+        int offset = index - mLastStart;
+        int size = mChunkSizes[chunk];
+
+        T old = (T) entries[offset];
+
+        System.arraycopy(entries, offset + 1, entries, offset, size - offset - 1);
+        entries[size - 1] = null;
+
+        mChunkSizes[chunk]--;
+        mSize--;
+        onChunkResized(chunk, -1);
+        modCount++;
+
+        if (mChunkSizes[chunk] == 0) {
+            removeChunk(chunk);
+        } else if (chunk + 1 < mChunkCount && mChunkSizes[chunk] < mChunkSize / 4
+                && mChunkSizes[chunk] + mChunkSizes[chunk + 1] <= mChunkSize / 2) {
+            mergeChunks(chunk);
+        }
+
+        return old;
+    }
+
+    @Override
+    public void clear() {
+
+        mChunks = new Object[8][];
+        mChunkSizes = new int[8];
+        mTree = new int[9];
+        mChunkCount = 0;
+        mLastChunk = -1;
+        mLastStart = 0;
+        mSize = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the chunk that contains the given position, remembers it and
+     * its start position in mLastChunk and mLastStart.
+     *
+     * @param index
+     * @return
+     */
+    private int chunkOf(int index) {
+
+        // sequential access mostly hits the same or the next chunk
+        int chunk = mLastChunk;
+
+        if (chunk >= 0 && index >= mLastStart) {
+
+            int end = mLastStart + mChunkSizes[chunk];
+
+            if (index < end)
+                return chunk;
+
+            if (chunk + 1 < mChunkCount && index < end + mChunkSizes[chunk + 1]) {
+                mLastChunk = chunk + 1;
+                mLastStart = end;
+                return chunk + 1;
+            }
+        }
+
+        // descend the tree to the last chunk starting at or before the index
+        int pos = 0;
+        int rest = index;
+
+        for (int step = Integer.highestOneBit(mChunkCount); step > 0; step >>= 1) {
+
+            int next = pos + step;
+
+            if (next <= mChunkCount && mTree[next] <= rest) {
+                pos = next;
+                rest -= mTree[next];
+            }
+        }
+
+        mLastChunk = pos;
+        mLastStart = index - rest;
+        return pos;
+    }
+
+    /**
+     * Updates the tree after the number of entries of the given chunk changed
+     * by delta.
+     *
+     * @param chunk
+     * @param delta
+     */
+    private void onChunkResized(int chunk, int delta) {
+
+        for (int i = chunk + 1; i <= mChunkCount; i += i & -i)
+            mTree[i] += delta;
+
+        // the remembered chunk has moved
+        if (chunk < mLastChunk)
+            mLastChunk = -1;
+    }
+
+    /**
+     * Builds the tree from the chunk sizes, needed whenever chunks are
+     * inserted or removed.
+     */
+    private void rebuildTree() {
+
+        for (int i = 1; i <= mChunkCount; i++)
+            mTree[i] = mChunkSizes[i - 1];
+
+        for (int i = 1; i <= mChunkCount; i++) {
+
+            int parent = i + (i & -i);
+
+            if (parent <= mChunkCount)
+                mTree[parent] += mTree[i];
+        }
+
+        mLastChunk = -1;
+    }
+
+    /**
+     * Inserts a chunk at the given position, returns the position.
+     */
+    private int insertChunk(int chunk, Object[] entries, int size) {
+
+        if (mChunkCount == mChunks.length) {
+
+            int capacity = mChunks.length * 2;
+
+            Object[][] chunks = new Object[capacity][];
+            int[] sizes = new int[capacity];
+
+            System.arraycopy(mChunks, 0, chunks, 0, mChunkCount);
+            System.arraycopy(mChunkSizes, 0, sizes, 0, mChunkCount);
+
+            mChunks = chunks;
+            mChunkSizes = sizes;
+            mTree = new int[capacity + 1];
+        }
+
+        System.arraycopy(mChunks, chunk, mChunks, chunk + 1, mChunkCount - chunk);
+        System.arraycopy(mChunkSizes, chunk, mChunkSizes, chunk + 1, mChunkCount - chunk);
+
+        mChunks[chunk] = entries;
+        mChunkSizes[chunk] = size;
+        mChunkCount++;
+
+        rebuildTree();
+        return chunk;
+    }
+
+    private void removeChunk(int chunk) {
+
+        System.arraycopy(mChunks, chunk + 1, mChunks, chunk, mChunkCount - chunk - 1);
+        System.arraycopy(mChunkSizes, chunk + 1, mChunkSizes, chunk, mChunkCount - chunk - 1);
+
+        mChunkCount--;
+        mChunks[mChunkCount] = null;
+
+        rebuildTree();
+    }
+
+    /**
+     * Moves the second half of the given full chunk into a new chunk right
+     * after it.
+     */
+    private void splitChunk(int chunk) {
+
+        int half = mChunkSizes[chunk] / 2;
+        int moved = mChunkSizes[chunk] - half;
+
+        Object[] entries = mChunks[chunk];
+        Object[] upper = new Object[mChunkSize];
+
+        System.arraycopy(entries, half, upper, 0, moved);
+
+        for (int i = half; i < entries.length; i++)
+            entries[i] = null;
+
+        mChunkSizes[chunk] = half;
+        insertChunk(chunk + 1, upper, moved);
+    }
+
+    /**
+     * Moves all entries of the chunk after the given one into the given chunk.
+     */
+    private void mergeChunks(int chunk) {
+
+        int size = mChunkSizes[chunk];
+        int next = mChunkSizes[chunk + 1];
+
+        System.arraycopy(mChunks[chunk + 1], 0, mChunks[chunk], size, next);
+        mChunkSizes[chunk] = size + next;
+
+        removeChunk(chunk + 1);
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+    }
+}
@@ -118,4 +118,47 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
 
         init(); // recalculate everything
     }
+
+    @Override
+    public void setParallelCalculationEnabled(boolean enabled) {
+        super.setParallelCalculationEnabled(enabled);
+
+        List<ChartData> data = getAllData();
+
+        for (int i = 0; i < data.size(); i++)
+            data.get(i).setParallelCalculationEnabled(enabled);
+    }
+
+    /**
+     * Lets the data object the given DataSet belongs to calculate its minimum
+     * and maximum values again, the values across all DataSets are then
+     * aggregated from the values already updated by it.
+     *
+     * @param dataSet
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void notifyDataChanged(IBarLineScatterCandleBubbleDataSet<?> dataSet) {
+
+        if (dataSet == null)
+            return;
+
+        List<ChartData> data = getAllData();
+        boolean found = false;
+
+        for (int i = 0; i < data.size(); i++) {
+            if (data.get(i).getIndexOfDataSet(dataSet) >= 0) {
+                data.get(i).notifyDataChanged(dataSet);
+                found = true;
+            }
+        }
+
+        if (!found) {
+            super.notifyDataChanged(dataSet);
+            return;
+        }
+
+        calcYValueCount();
+        calcAxisMinMax();
+    }
 }
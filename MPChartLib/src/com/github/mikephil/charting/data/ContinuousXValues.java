@@ -0,0 +1,293 @@
+package com.github.mikephil.charting.data;
+
+import java.text.DecimalFormat;
+import java.util.AbstractList;
+
+/**
+ * List of x-values that maps the x-index space linearly onto a continuous
+ * numeric x-range (e.g. epoch millis) instead of storing one String per
+ * x-index. Only the origin, the interval and the number of x-indices are kept
+ * in memory, the labels are generated on demand. This allows placing sparse
+ * entries with irregular x-positions on a very large index space without
+ * materializing millions of empty x-value Strings. Can be handed to any
+ * ChartData constructor that takes a List of x-values.
+ *
+ * Entries are placed by converting their numeric x-value with
+ * getXIndex(double), visible ranges can be converted back with
+ * getXValue(int). Override formatXValue(double) to customize the generated
+ * labels (e.g. for dates).
+ */
+public class ContinuousXValues extends AbstractList<String> {
+
+    /**
+     * the number of labels at each end and spread across the range that are
+     * compared by getLongestLabel()
+     */
+    private static final int LABEL_SAMPLES = 100;
+
+    /**
+     * the numeric x-value at x-index 0
+     */
+    private double mXMin;
+
+    /**
+     * the numeric x-range one x-index represents
+     */
+    private double mInterval;
+
+    /**
+     * the number of x-indices this object represents
+     */
+    private int mCount;
+
+    /**
+     * formatter used for generating the labels
+     */
+    private DecimalFormat mFormat = new DecimalFormat("###,###,###,##0.##");
+
+    /**
+     * Constructor.
+     *
+     * @param xMin     the numeric x-value at x-index 0
+     * @param interval the numeric x-range one x-index represents (resolution), must be > 0
+     * @param count    the number of x-indices
+     */
+    public ContinuousXValues(double xMin, double interval, int count) {
+
+        if (interval <= 0 || Double.isNaN(interval) || Double.isInfinite(interval))
+            throw new IllegalArgumentException("The interval must be finite and greater than 0.");
+
+        if (Double.isNaN(xMin) || Double.isInfinite(xMin))
+            throw new IllegalArgumentException("The origin must be finite.");
+
+        this.mXMin = xMin;
+        this.mInterval = interval;
+        this.mCount = Math.max(0, count);
+    }
+
+    /**
+     * Creates an object that covers the numeric x-range from xMin to xMax
+     * (both inclusive) with the given resolution.
+     *
+     * Throws an IllegalArgumentException if the range needs more x-indices
+     * than an int can count.
+     *
+     * @param xMin
+     * @param xMax
+     * @param interval
+     * @return
+     */
+    public static ContinuousXValues forRange(double xMin, double xMax, double interval) {
+        ContinuousXValues values = new ContinuousXValues(xMin, interval, 0);
+        values.mCount = Math.max(0, countFor(values.getXIndex(xMax)));
+        return values;
+    }
+
+    /**
+     * Returns the x-index the given numeric x-value is mapped to (rounded to
+     * the closest x-index). The returned index may lie outside of the
+     * represented range. Throws an IllegalArgumentException if the x-value is
+     * NaN or its x-index does not fit into an int.
+     *
+     * @param xValue
+     * @return
+     */
+    public int getXIndex(double xValue) {
+
+        // same rounding as Math.round(...), without the silent overflow of the cast
+        double index = Math.floor((xValue - mXMin) / mInterval + 0.5);
+
+        if (Double.isNaN(index) || index < Integer.MIN_VALUE || index > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("The x-value " + xValue
+                    + " lies outside of the x-indices an int can represent.");
+
+        return (int) index;
+    }
+
+    /**
+     * Returns the number of x-indices needed to cover the given x-index.
+     *
+     * @param xIndex
+     * @return
+     */
+    private static int countFor(int xIndex) {
+
+        if (xIndex == Integer.MAX_VALUE)
+            throw new IllegalArgumentException("The x-index " + xIndex
+                    + " exceeds the maximum number of x-indices.");
+
+        return xIndex + 1;
+    }
+
+    /**
+     * Returns the numeric x-value at the given x-index. Also works for
+     * fractional indices such as the ones returned by
+     * Transformer.getValuesByTouchPoint(...).
+     *
+     * @param xIndex
+     * @return
+     */
+    public double getXValue(double xIndex) {
+        return mXMin + xIndex * mInterval;
+    }
+
+    /**
+     * Makes sure the given numeric x-value is covered by this object by
+     * increasing the number of x-indices if necessary. Returns the x-index of
+     * the value. Values below the origin cannot be covered and return a
+     * negative x-index. Throws an IllegalArgumentException if the value
+     * cannot be covered by an int number of x-indices.
+     *
+     * @param xValue
+     * @return
+     */
+    public int include(double xValue) {
+
+        int xIndex = getXIndex(xValue);
+
+        if (xIndex >= mCount)
+            mCount = countFor(xIndex);
+
+        return xIndex;
+    }
+
+    /**
+     * Sets the number of x-indices this object represents.
+     *
+     * @param count
+     */
+    public void setCount(int count) {
+        mCount = Math.max(0, count);
+    }
+
+    public double getXMin() {
+        return mXMin;
+    }
+
+    public double getXMax() {
+        return getXValue(mCount - 1);
+    }
+
+    public double getInterval() {
+        return mInterval;
+    }
+
+    /**
+     * Returns the maximum length (in characters) of the generated labels
+     * without generating all of them, see getLongestLabel().
+     *
+     * @return
+     */
+    public int getMaximumLength() {
+
+        if (mCount == 0)
+            return 1;
+
+        return getLongestLabel().length();
+    }
+
+    /**
+     * Returns the longest of the generated labels without generating all of
+     * them. Compares the labels of the first and last x-indices and of
+     * x-indices spread evenly across the range. This is exact for the default
+     * formatting if the interval is a multiple of 0.01: the integer part of a
+     * label grows with the absolute value, which is largest at one of the
+     * ends, and the digits after the decimal point repeat at least every 100
+     * x-indices. Override this together with formatXValue(...) if the length
+     * of custom labels follows other rules.
+     *
+     * @return
+     */
+    public String getLongestLabel() {
+
+        String longest = "";
+
+        if (mCount <= LABEL_SAMPLES * 3) {
+
+            for (int i = 0; i < mCount; i++)
+                longest = longer(longest, i);
+
+            return longest;
+        }
+
+        for (int i = 0; i < LABEL_SAMPLES; i++) {
+            longest = longer(longest, i);
+            longest = longer(longest, mCount - 1 - i);
+            longest = longer(longest, (int) ((long) i * (mCount - 1) / (LABEL_SAMPLES - 1)));
+        }
+
+        return longest;
+    }
+
+    /**
+     * Returns the given label or the label at the given x-index, whichever is
+     * longer.
+     */
+    private String longer(String label, int xIndex) {
+
+        String other = get(xIndex);
+        return other.length() > label.length() ? other : label;
+    }
+
+    /**
+     * Returns the label for the given numeric x-value. Override this for
+     * custom labels (e.g. dates). For performance reasons, avoid excessive
+     * calculations and memory allocations inside this method.
+     *
+     * @param xValue
+     * @return
+     */
+    protected String formatXValue(double xValue) {
+        return mFormat.format(xValue);
+    }
+
+    @Override
+    public String get(int index) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        return formatXValue(getXValue(index));
+    }
+
+    @Override
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * Appends one x-index at the end. The label itself is not stored.
+     */
+    @Override
+    public boolean add(String xVal) {
+        mCount++;
+        return true;
+    }
+
+    /**
+     * Removes the first or the last x-index. Removing the first one moves the
+     * origin by one interval, so that (just like in a list of Strings) every
+     * following label moves down by one x-index. Since the labels are derived
+     * from the x-index, removing a position in between would change the
+     * interval of the following x-indices and throws an
+     * UnsupportedOperationException.
+     */
+    @Override
+    public String remove(int index) {
+
+        String removed = get(index);
+
+        if (index == 0)
+            mXMin += mInterval;
+        else if (index != mCount - 1)
+            throw new UnsupportedOperationException("Only the first or last x-index can be removed.");
+
+        mCount--;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+    }
+}
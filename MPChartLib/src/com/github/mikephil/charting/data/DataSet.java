@@ -15,7 +15,8 @@ import java.util.List;
 public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
     /**
-     * the entries that this dataset represents / holds together
+     * the entries that this dataset represents / holds together, use a
+     * ChunkedEntryList for large DataSets with many out-of-order inserts
      */
     protected List<T> mYVals = null;
 
@@ -216,21 +217,112 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mYVals == null)
             return false;
 
+        int index = getEntryIndex(e);
+
+        if (index < 0)
+            return false;
+
         // remove the entry
-        boolean removed = mYVals.remove(e);
+        mYVals.remove(index);
 
-        if (removed) {
+        // only a removed extreme can change the min and max
+        if (isMinMaxEntry(e))
             calcMinMax(0, mYVals.size());
-        }
 
-        return removed;
+        return true;
     }
 
+    /**
+     * Returns true if the given entry (potentially) defines the current
+     * minimum or maximum of this DataSet, which means the min and max values
+     * need to be calculated again after removing it. Needs to be overridden by
+     * DataSets that calculate their min and max values from more than the
+     * entry value.
+     *
+     * @param e
+     * @return
+     */
+    protected boolean isMinMaxEntry(T e) {
+        return e.getVal() <= mYMin || e.getVal() >= mYMax;
+    }
+
+    /**
+     * Returns the position of the given Entry object inside the entries
+     * array, or -1 if it is not part of this DataSet. The position is looked
+     * up by the x-index of the entry with a binary search, which requires the
+     * entries to be sorted by x-index. Falls back to a linear search if the
+     * entry cannot be found that way.
+     *
+     * @param e
+     * @return
+     */
     @Override
     public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        int xIndex = e.getXIndex();
+
+        for (int i = getLowerBound(xIndex); i < mYVals.size(); i++) {
+
+            T entry = mYVals.get(i);
+
+            if (entry == e)
+                return i;
+
+            if (entry.getXIndex() != xIndex)
+                break;
+        }
+
         return mYVals.indexOf(e);
     }
 
+    /**
+     * Returns the position of the first entry with the given x-index inside
+     * the entries array, or -1 if there is none. The position is looked up
+     * with a binary search, which requires the entries to be sorted by
+     * x-index. Falls back to a linear search if no entry is found that way.
+     *
+     * @param xIndex
+     * @return
+     */
+    @Override
+    public int getIndexInEntries(int xIndex) {
+
+        int index = getLowerBound(xIndex);
+
+        if (index < mYVals.size() && mYVals.get(index).getXIndex() == xIndex)
+            return index;
+
+        return super.getIndexInEntries(xIndex);
+    }
+
+    /**
+     * Returns the position of the first entry with an x-index greater than
+     * or equal to the given x-index, or the number of entries if there is no
+     * such entry. Requires the entries to be sorted by x-index.
+     *
+     * @param xIndex
+     * @return
+     */
+    protected int getLowerBound(int xIndex) {
+
+        int low = 0;
+        int high = mYVals.size();
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mYVals.get(m).getXIndex() < xIndex)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
     @Override
     public T getEntryForXIndex(int xIndex, Rounding rounding) {
 
@@ -350,6 +442,9 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
                         break;
                     }
                 }
+
+                // all entries at the x-index have been collected
+                break;
             }
 
             if (xIndex > entry.getXIndex())
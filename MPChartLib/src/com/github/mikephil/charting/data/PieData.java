@@ -1,6 +1,7 @@
-
 package com.github.mikephil.charting.data;
 
+import android.graphics.Color;
+
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 
 import java.util.ArrayList;
@@ -12,10 +13,41 @@ import java.util.List;
  * from the DataSet labels. Each PieData object can only represent one
  * PieDataSet (multiple PieDataSets inside a single PieChart are not possible).
  *
+ * Slices that are too small to be seen can be folded into a single "other"
+ * slice by setting an aggregation threshold. The chart then renders,
+ * highlights and lists in the legend the aggregated DataSet, the original
+ * DataSet and the entries behind each slice remain available via
+ * getSourceDataSet() and getSourceEntries(...).
+ *
  * @author Philipp Jahoda
  */
 public class PieData extends ChartData<IPieDataSet> {
 
+    // NOTE: Do not initialize these, as init() is called by the super
+    // constructor, and the initializers are called after that and can reset
+    // the values
+
+    /** slices below this percentage of the total are folded, 0 if disabled */
+    private float mAggregationThreshold;
+
+    /** the DataSet and x-values set by the user while slices are aggregated */
+    private IPieDataSet mSourceDataSet;
+    private List<String> mSourceXVals;
+
+    /**
+     * the index of the source entry of every slice of the aggregated
+     * DataSet, -1 for the "other" slice, null if no slices are folded
+     */
+    private int[] mSourceIndices;
+
+    /** the indices of the source entries folded into the "other" slice */
+    private int[] mFoldedIndices;
+    private int mFoldedCount;
+
+    /** the x-value (label) and color of the "other" slice */
+    private String mAggregationLabel = "Other";
+    private int mAggregationColor = Color.LTGRAY;
+
     public PieData() {
         super();
     }
@@ -42,12 +74,22 @@ public class PieData extends ChartData<IPieDataSet> {
         return sets;
     }
 
+    @Override
+    protected void init() {
+        aggregate();
+        super.init();
+    }
+
     /**
      * Sets the PieDataSet this data object should represent.
      *
      * @param dataSet
      */
     public void setDataSet(IPieDataSet dataSet) {
+
+        if (mSourceDataSet != null)
+            mSourceDataSet = dataSet;
+
         mDataSets.clear();
         mDataSets.add(dataSet);
         init();
@@ -55,7 +97,8 @@ public class PieData extends ChartData<IPieDataSet> {
 
     /**
      * Returns the DataSet this PieData object represents. A PieData object can
-     * only contain one DataSet.
+     * only contain one DataSet. If slices are aggregated, this is the
+     * aggregated DataSet that is drawn.
      *
      * @return
      */
@@ -86,13 +129,388 @@ public class PieData extends ChartData<IPieDataSet> {
      * @return
      */
     public float getYValueSum() {
+        return getDataSet().getYValueSum();
+    }
+
+    /**
+     * Folds all slices whose value is below the given percentage of the
+     * total into a single "other" slice, which is drawn, highlighted and
+     * listed in the legend instead of them. Nothing is folded if less than
+     * two slices are below the threshold. The threshold is applied again
+     * whenever notifyDataChanged() is called. Default: 0 (disabled)
+     *
+     * @param percent e.g. 0.5f for slices below 0.5% of the total
+     */
+    public void setAggregationThreshold(float percent) {
+
+        if (percent < 0f)
+            percent = 0f;
+
+        if (percent == mAggregationThreshold)
+            return;
+
+        mAggregationThreshold = percent;
+
+        if (percent == 0f && mSourceDataSet != null) {
+
+            // show the source DataSet again
+            mDataSets.clear();
+            mDataSets.add(mSourceDataSet);
+            mXVals = mSourceXVals;
+
+            mSourceDataSet = null;
+            mSourceXVals = null;
+            mSourceIndices = null;
+            mFoldedCount = 0;
+        }
+
+        init();
+    }
+
+    /**
+     * Returns the percentage of the total below which slices are folded into
+     * the "other" slice, 0 if disabled.
+     *
+     * @return
+     */
+    public float getAggregationThreshold() {
+        return mAggregationThreshold;
+    }
+
+    /**
+     * Sets the x-value (label) of the "other" slice. Default: "Other"
+     *
+     * @param label
+     */
+    public void setAggregationLabel(String label) {
+        mAggregationLabel = label;
+
+        if (mSourceIndices != null)
+            init();
+    }
+
+    public String getAggregationLabel() {
+        return mAggregationLabel;
+    }
+
+    /**
+     * Sets the color of the "other" slice. Default: Color.LTGRAY
+     *
+     * @param color
+     */
+    public void setAggregationColor(int color) {
+        mAggregationColor = color;
+
+        if (mSourceIndices != null)
+            init();
+    }
+
+    public int getAggregationColor() {
+        return mAggregationColor;
+    }
+
+    /**
+     * Returns true if slices are currently folded into an "other" slice.
+     *
+     * @return
+     */
+    public boolean isAggregated() {
+        return mSourceIndices != null;
+    }
+
+    /**
+     * Returns the DataSet that was set by the user, which is different from
+     * getDataSet() while slices are aggregated.
+     *
+     * @return
+     */
+    public IPieDataSet getSourceDataSet() {
+        return mSourceDataSet != null ? mSourceDataSet : getDataSet();
+    }
+
+    /**
+     * Returns the x-values that were set by the user, which are different
+     * from getXVals() while slices are aggregated.
+     *
+     * @return
+     */
+    public List<String> getSourceXVals() {
+        return mSourceXVals != null ? mSourceXVals : mXVals;
+    }
+
+    /**
+     * Returns the x-index of the "other" slice, -1 if there is none.
+     *
+     * @return
+     */
+    public int getOtherXIndex() {
+        return mSourceIndices != null ? mSourceIndices.length - 1 : -1;
+    }
+
+    /**
+     * Returns the index of the entry inside the source DataSet the slice at
+     * the given x-index represents, -1 for the "other" slice or an invalid
+     * x-index.
+     *
+     * @param xIndex
+     * @return
+     */
+    public int getSourceEntryIndex(int xIndex) {
+
+        if (mSourceIndices == null)
+            return xIndex >= 0 && xIndex < getDataSet().getEntryCount() ? xIndex : -1;
+
+        if (xIndex < 0 || xIndex >= mSourceIndices.length)
+            return -1;
+
+        return mSourceIndices[xIndex];
+    }
+
+    /**
+     * Returns the entries of the source DataSet behind the slice at the given
+     * x-index, all folded entries for the "other" slice. Use this to drill
+     * down into a highlighted slice.
+     *
+     * @param xIndex
+     * @return
+     */
+    public List<Entry> getSourceEntries(int xIndex) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        IPieDataSet source = getSourceDataSet();
 
-        float sum = 0;
+        if (mSourceIndices != null && xIndex == getOtherXIndex()) {
 
-        for (int i = 0; i < getDataSet().getEntryCount(); i++)
-            sum += getDataSet().getEntryForIndex(i).getVal();
+            for (int i = 0; i < mFoldedCount; i++)
+                entries.add(source.getEntryForIndex(mFoldedIndices[i]));
+
+        } else {
+
+            int index = getSourceEntryIndex(xIndex);
+
+            if (index != -1)
+                entries.add(source.getEntryForIndex(index));
+        }
+
+        return entries;
+    }
+
+    @Override
+    public void addXValue(String xVal) {
+
+        if (mSourceXVals == null) {
+            super.addXValue(xVal);
+            return;
+        }
+
+        mSourceXVals.add(xVal);
+        init();
+    }
+
+    @Override
+    public void removeXValue(int index) {
+
+        if (mSourceXVals == null) {
+            super.removeXValue(index);
+            return;
+        }
+
+        mSourceXVals.remove(index);
+        init();
+    }
+
+    /**
+     * Adds the Entry to the source DataSet and applies the aggregation again
+     * if slices are aggregated.
+     *
+     * @param e
+     * @param dataSetIndex
+     */
+    @Override
+    public void addEntry(Entry e, int dataSetIndex) {
+
+        if (mSourceDataSet == null) {
+            super.addEntry(e, dataSetIndex);
+            return;
+        }
+
+        if (dataSetIndex == 0 && mSourceDataSet.addEntry(e))
+            init();
+    }
+
+    /**
+     * Removes the Entry from the source DataSet and applies the aggregation
+     * again if slices are aggregated.
+     *
+     * @param e
+     * @param dataSetIndex
+     * @return
+     */
+    @Override
+    public boolean removeEntry(Entry e, int dataSetIndex) {
+
+        if (mSourceDataSet == null)
+            return super.removeEntry(e, dataSetIndex);
+
+        if (e == null || dataSetIndex != 0 || !mSourceDataSet.removeEntry(e))
+            return false;
+
+        init();
+        return true;
+    }
+
+    /**
+     * Removes the entry behind the slice at the given x-index. The "other"
+     * slice cannot be removed this way.
+     *
+     * @param xIndex
+     * @param dataSetIndex
+     * @return
+     */
+    @Override
+    public boolean removeEntry(int xIndex, int dataSetIndex) {
+
+        if (mSourceDataSet == null)
+            return super.removeEntry(xIndex, dataSetIndex);
+
+        int index = getSourceEntryIndex(xIndex);
+
+        if (index == -1 || dataSetIndex != 0)
+            return false;
+
+        return removeEntry(mSourceDataSet.getEntryForIndex(index), dataSetIndex);
+    }
+
+    /**
+     * Applies the aggregation again if the given DataSet is the source
+     * DataSet of the aggregated slices, which is not part of the DataSets
+     * of this object while slices are aggregated.
+     *
+     * @param dataSet
+     */
+    @Override
+    public void notifyDataChanged(IPieDataSet dataSet) {
+
+        if (mSourceDataSet == null || dataSet != mSourceDataSet) {
+            super.notifyDataChanged(dataSet);
+            return;
+        }
+
+        mSourceDataSet.calcMinMax(0, mSourceDataSet.getEntryCount());
+        init();
+    }
+
+    /**
+     * Builds the aggregated DataSet and x-values from the source DataSet if
+     * an aggregation threshold is set and at least two slices are below it.
+     * Otherwise the source DataSet is used directly.
+     */
+    private void aggregate() {
+
+        if (mAggregationThreshold <= 0f || mDataSets == null || mDataSets.isEmpty())
+            return;
+
+        if (mSourceDataSet == null) {
+            mSourceDataSet = mDataSets.get(0);
+            mSourceXVals = mXVals;
+        }
+
+        IPieDataSet source = mSourceDataSet;
+        int count = source.getEntryCount();
+
+        // the slices are sized by the absolute values
+        float sum = 0f;
+
+        for (int i = 0; i < count; i++)
+            sum += Math.abs(source.getEntryForIndex(i).getVal());
+
+        float limit = sum * mAggregationThreshold / 100f;
+
+        if (mFoldedIndices == null || mFoldedIndices.length < count)
+            mFoldedIndices = new int[count];
+
+        mFoldedCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(source.getEntryForIndex(i).getVal()) < limit)
+                mFoldedIndices[mFoldedCount++] = i;
+        }
+
+        mDataSets.clear();
+
+        // a single small slice is not worth an "other" slice
+        if (mFoldedCount < 2) {
+
+            mDataSets.add(source);
+            mXVals = mSourceXVals;
+            mSourceIndices = null;
+            mFoldedCount = 0;
+            return;
+        }
+
+        int slices = count - mFoldedCount + 1;
+
+        List<Entry> entries = new ArrayList<Entry>(slices);
+        List<String> xVals = new ArrayList<String>(slices);
+        List<Integer> colors = new ArrayList<Integer>(slices);
+        List<Integer> valueColors = new ArrayList<Integer>(slices);
+
+        mSourceIndices = new int[slices];
+
+        float other = 0f;
+        int folded = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            Entry e = source.getEntryForIndex(i);
+
+            if (folded < mFoldedCount && mFoldedIndices[folded] == i) {
+                other += Math.abs(e.getVal());
+                folded++;
+                continue;
+            }
+
+            int xIndex = entries.size();
+
+            mSourceIndices[xIndex] = i;
+            entries.add(copyEntry(e, xIndex));
+            xVals.add(e.getXIndex() < mSourceXVals.size() ? mSourceXVals.get(e.getXIndex()) : "");
+            colors.add(source.getColor(i));
+            valueColors.add(source.getValueTextColor(i));
+        }
+
+        mSourceIndices[slices - 1] = -1;
+        entries.add(new Entry(other, slices - 1));
+        xVals.add(mAggregationLabel);
+        colors.add(mAggregationColor);
+        valueColors.add(source.getValueTextColor());
+
+        PieDataSet aggregated = new PieDataSet(entries, source.getLabel());
+        aggregated.copyStyle(source);
+        aggregated.setColors(colors);
+        aggregated.setValueTextColors(valueColors);
+
+        mDataSets.add(aggregated);
+        mXVals = xVals;
+    }
+
+    /**
+     * Returns a copy of the given entry at the given x-index.
+     *
+     * @param e
+     * @param xIndex
+     * @return
+     */
+    private static Entry copyEntry(Entry e, int xIndex) {
 
+        if (e instanceof BitmapEntry) {
+            BitmapEntry bitmapEntry = (BitmapEntry) e;
+            return new BitmapEntry(e.getVal(), xIndex, bitmapEntry.getBitmapResId(),
+                    bitmapEntry.getPosition());
+        }
 
-        return sum;
+        Entry copy = e.copy();
+        copy.setXIndex(xIndex);
+        return copy;
     }
 }
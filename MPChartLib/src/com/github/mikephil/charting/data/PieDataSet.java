@@ -23,11 +23,66 @@ public class PieDataSet extends DataSet<Entry> implements IPieDataSet {
 
     int highlightedColor = 0;
 
+    // NOTE: Do not initialize this, as the calcMinMax is called by the super,
+    // and the initializers are called after that and can reset the value
+    /** the sum of all y-values, kept up to date when entries are added or removed */
+    private float mYValueSum;
+
     public PieDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
 //        mShift = Utils.convertDpToPixel(12f);
     }
 
+    @Override
+    public void calcMinMax(int start, int end) {
+        super.calcMinMax(start, end);
+
+        // the sum always covers all entries, it determines the size of the slices
+        mYValueSum = 0f;
+
+        if (mYVals == null)
+            return;
+
+        for (int i = 0; i < mYVals.size(); i++)
+            mYValueSum += mYVals.get(i).getVal();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (!super.addEntry(e))
+            return false;
+
+        mYValueSum += e.getVal();
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+        super.addEntryOrdered(e);
+        mYValueSum += e.getVal();
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+
+        // removing the min or max calculates the sum again in calcMinMax(...)
+        boolean recalculated = e != null && isMinMaxEntry(e);
+
+        if (!super.removeEntry(e))
+            return false;
+
+        if (!recalculated)
+            mYValueSum -= e.getVal();
+
+        return true;
+    }
+
+    @Override
+    public float getYValueSum() {
+        return mYValueSum;
+    }
+
     @Override
     public DataSet<Entry> copy() {
 
@@ -44,6 +99,31 @@ public class PieDataSet extends DataSet<Entry> implements IPieDataSet {
         return copied;
     }
 
+    /**
+     * Copies the styling of the given DataSet (everything but the entries and
+     * the colors) into this DataSet.
+     *
+     * @param set
+     */
+    void copyStyle(IPieDataSet set) {
+
+        setLabel(set.getLabel());
+        setValueFormatter(set.getValueFormatter());
+
+        mValueTypeface = set.getValueTypeface();
+        mValueTextSize = set.getValueTextSize();
+        mDrawValues = set.isDrawValuesEnabled();
+        mValueTextCacheEnabled = set.isValueTextCacheEnabled();
+        mVisible = set.isVisible();
+        mHighlightEnabled = set.isHighlightEnabled();
+
+        mSliceSpace = set.getSliceSpace();
+        mShift = set.getSelectionShift();
+        mDashPathEffect = set.getDashPathEffect();
+        strokeColor = set.getStrokeColor();
+        highlightedColor = set.getHighlightedColor();
+    }
+
     /**
      * Sets the space that is left out between the piechart-slices in dp.
      * Default: 0 --> no space, maximum 20f
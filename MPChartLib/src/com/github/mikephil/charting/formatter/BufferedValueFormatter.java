@@ -0,0 +1,35 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * ValueFormatter that is able to write the formatted value into a
+ * caller-supplied char buffer instead of creating a new String for every
+ * drawn value. The renderers detect this interface and draw the buffer
+ * content directly, which keeps drawing values free of allocations.
+ */
+public interface BufferedValueFormatter extends ValueFormatter {
+
+    /**
+     * the minimum size of the buffers handed to
+     * getFormattedValue(..., char[] out)
+     */
+    int MIN_BUFFER_SIZE = 64;
+
+    /**
+     * Called when a value (from labels inside the chart) is formatted
+     * before being drawn. Writes the formatted label into the given buffer,
+     * starting at index 0, and returns the number of characters written.
+     * Implementations must not write more than MIN_BUFFER_SIZE characters
+     * and should not allocate any memory.
+     *
+     * @param value           the value to be formatted
+     * @param entry           the entry the value belongs to - in e.g. BarChart, this is of class BarEntry
+     * @param dataSetIndex    the index of the DataSet the entry in focus belongs to
+     * @param viewPortHandler provides information about the current chart state (scale, translation, ...)
+     * @param out             the buffer the formatted label is written to
+     * @return the number of characters written to the buffer
+     */
+    int getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler, char[] out);
+}
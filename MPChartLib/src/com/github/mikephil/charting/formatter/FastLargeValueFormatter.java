@@ -0,0 +1,148 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Allocation-free alternative to LargeValueFormatter that formats large numbers
+ * with a suffix, without DecimalFormat and regular expressions.
+ * Outputs (1 decimal): 856 = 856; 1000 = 1k; 5821 = 5.8k; 10500 = 10.5k;
+ * 101800 = 101.8k; 2000000 = 2m; 7800000 = 7.8m; 999999 = 1m; 1000000000 = 1b;
+ * Trailing zero decimals are omitted.
+ */
+public class FastLargeValueFormatter implements BufferedValueFormatter, YAxisValueFormatter {
+
+    private static final float[] THOUSANDS = new float[]{
+            1f, 1e3f, 1e6f, 1e9f, 1e12f
+    };
+
+    private char[][] mSuffix = new char[][]{
+            {}, {'k'}, {'m'}, {'b'}, {'t'}
+    };
+
+    /**
+     * the maximum number of decimals
+     */
+    private int mDigits;
+
+    /**
+     * half of the smallest decimal step, used for detecting carry-overs
+     */
+    private float mRounding;
+
+    /**
+     * a text that will be appended behind the suffix
+     */
+    private char[] mAppendix = new char[0];
+
+    /**
+     * buffer used for creating Strings, avoids allocating it each call
+     */
+    private char[] mBuffer = new char[MIN_BUFFER_SIZE];
+
+    public FastLargeValueFormatter() {
+        this(1);
+    }
+
+    /**
+     * Constructor that specifies the maximum number of decimals.
+     *
+     * @param digits
+     */
+    public FastLargeValueFormatter(int digits) {
+        this.mDigits = digits;
+        this.mRounding = 0.5f / (float) Math.pow(10, digits);
+    }
+
+    /**
+     * Set an appendix text to be added at the end of the formatted value.
+     *
+     * @param appendix
+     */
+    public void setAppendix(String appendix) {
+        mAppendix = appendix == null ? new char[0] : appendix.toCharArray();
+    }
+
+    /**
+     * Set custom suffix to be appended after the values.
+     * Default suffix: ["", "k", "m", "b", "t"]
+     *
+     * @param suff new suffix
+     */
+    public void setSuffix(String[] suff) {
+
+        if (suff.length != 5)
+            return;
+
+        for (int i = 0; i < suff.length; i++)
+            mSuffix[i] = suff[i].toCharArray();
+    }
+
+    // BufferedValueFormatter
+    @Override
+    public int getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler, char[] out) {
+        return format(value, out);
+    }
+
+    // ValueFormatter
+    @Override
+    public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
+        return String.valueOf(mBuffer, 0, format(value, mBuffer));
+    }
+
+    // YAxisValueFormatter
+    @Override
+    public String getFormattedValue(float value, YAxis yAxis) {
+        return String.valueOf(mBuffer, 0, format(value, mBuffer));
+    }
+
+    private int format(float value, char[] out) {
+
+        float abs = Math.abs(value);
+        int group = 0;
+
+        while (group < THOUSANDS.length - 1 && abs >= THOUSANDS[group + 1])
+            group++;
+
+        float scaled = value / THOUSANDS[group];
+
+        // rounding may carry over into the next group (e.g. 999999 -> 1000k -> 1m)
+        if (group < THOUSANDS.length - 1 && Math.abs(scaled) + mRounding >= 1000f) {
+            group++;
+            scaled = value / THOUSANDS[group];
+        }
+
+        int length = Utils.formatNumber(scaled, mDigits, false, ',', '.', out);
+
+        // omit trailing zero decimals and the decimal point
+        if (hasDecimalPoint(out, length)) {
+
+            while (out[length - 1] == '0')
+                length--;
+
+            if (out[length - 1] == '.')
+                length--;
+        }
+
+        length = append(mSuffix[group], out, length);
+        return append(mAppendix, out, length);
+    }
+
+    private static boolean hasDecimalPoint(char[] out, int length) {
+
+        for (int i = 0; i < length; i++) {
+            if (out[i] == '.')
+                return true;
+        }
+
+        return false;
+    }
+
+    private static int append(char[] text, char[] out, int length) {
+        int count = Math.min(text.length, out.length - length);
+        System.arraycopy(text, 0, out, length, count);
+        return length + count;
+    }
+}
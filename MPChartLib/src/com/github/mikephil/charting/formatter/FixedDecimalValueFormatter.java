@@ -0,0 +1,120 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Fast formatter that formats values with a fixed number of decimals and
+ * optional thousands separators, without using DecimalFormat. When drawing
+ * values, the result is written into the renderer's char buffer without any
+ * memory allocation. Unlike DefaultValueFormatter, the output does not depend
+ * on the device locale.
+ */
+public class FixedDecimalValueFormatter implements BufferedValueFormatter, YAxisValueFormatter {
+
+    /**
+     * the number of decimals
+     */
+    private int mDigits;
+
+    /**
+     * if true, thousands are separated
+     */
+    private boolean mSeparateThousands = true;
+
+    private char mSeparateChar = ',';
+
+    private char mDecimalChar = '.';
+
+    /**
+     * a string that should be appended behind the value
+     */
+    private char[] mAppendix = new char[0];
+
+    /**
+     * buffer used for creating Strings, avoids allocating it each call
+     */
+    private char[] mBuffer = new char[MIN_BUFFER_SIZE];
+
+    /**
+     * Constructor that specifies to how many digits the value should be
+     * formatted.
+     *
+     * @param digits
+     */
+    public FixedDecimalValueFormatter(int digits) {
+        this.mDigits = digits;
+    }
+
+    /**
+     * Constructor that specifies to how many digits the value should be
+     * formatted and a text that should be appended behind the value.
+     *
+     * @param digits
+     * @param appendix
+     */
+    public FixedDecimalValueFormatter(int digits, String appendix) {
+        this(digits);
+        setAppendix(appendix);
+    }
+
+    /**
+     * Set to true to separate thousands values (e.g. 1,000,000).
+     *
+     * @param enabled
+     */
+    public void setSeparateThousands(boolean enabled) {
+        this.mSeparateThousands = enabled;
+    }
+
+    /**
+     * Sets the characters used as thousands separator and as decimal point.
+     * Default: ',' and '.'
+     *
+     * @param separateChar
+     * @param decimalChar
+     */
+    public void setSeparators(char separateChar, char decimalChar) {
+        this.mSeparateChar = separateChar;
+        this.mDecimalChar = decimalChar;
+    }
+
+    /**
+     * Set an appendix text to be added at the end of the formatted value.
+     *
+     * @param appendix
+     */
+    public void setAppendix(String appendix) {
+        mAppendix = appendix == null ? new char[0] : appendix.toCharArray();
+    }
+
+    // BufferedValueFormatter
+    @Override
+    public int getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler, char[] out) {
+        return format(value, out);
+    }
+
+    // ValueFormatter
+    @Override
+    public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
+        return String.valueOf(mBuffer, 0, format(value, mBuffer));
+    }
+
+    // YAxisValueFormatter
+    @Override
+    public String getFormattedValue(float value, YAxis yAxis) {
+        return String.valueOf(mBuffer, 0, format(value, mBuffer));
+    }
+
+    private int format(float value, char[] out) {
+
+        int length = Utils.formatNumber(value, mDigits, mSeparateThousands, mSeparateChar, mDecimalChar, out);
+
+        int count = Math.min(mAppendix.length, out.length - length);
+        System.arraycopy(mAppendix, 0, out, length, count);
+
+        return length + count;
+    }
+}
@@ -10,6 +10,9 @@ import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
  */
 public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
+	/** the stacked Highlight returned last, handed out again as long as it does not change */
+	protected Highlight mLastStackedHighlight;
+
 	public BarHighlighter(BarDataProvider chart) {
 		super(chart);
 	}
@@ -27,8 +30,8 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
 			if (set.isStacked()) {
 
-				// create an array of the touch-point
-				float[] pts = new float[2];
+				float[] pts = mTouchPointBuffer;
+				pts[0] = 0f;
 				pts[1] = y;
 
 				// take any transformer to determine the x-axis value
@@ -99,13 +102,20 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
 		BarEntry entry = set.getEntryForXIndex(xIndex);
 
-		if (entry == null || entry.getVals() == null)
+		if (entry == null || entry.getVals() == null || entry.getVals().length == 0)
 			return old;
 
 		Range[] ranges = getRanges(entry);
 		int stackIndex = getClosestStackIndex(ranges, (float) yValue);
 
-		Highlight h = new Highlight(xIndex, dataSetIndex, stackIndex, ranges[stackIndex]);
+		Highlight h = mLastStackedHighlight;
+
+		if (h == null || h.getXIndex() != xIndex || h.getDataSetIndex() != dataSetIndex
+				|| h.getStackIndex() != stackIndex || h.getRange() != ranges[stackIndex]) {
+			h = new Highlight(xIndex, dataSetIndex, stackIndex, ranges[stackIndex]);
+			mLastStackedHighlight = h;
+		}
+
 		return h;
 	}
 
@@ -159,9 +169,9 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 	 */
 	protected float getBase(float x) {
 
-		// create an array of the touch-point
-		float[] pts = new float[2];
+		float[] pts = mTouchPointBuffer;
 		pts[0] = x;
+		pts[1] = 0f;
 
 		// take any transformer to determine the x-axis value
 		mChart.getTransformer(YAxis.AxisDependency.LEFT).pixelsToValue(pts);
@@ -180,35 +190,12 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
 	/**
 	 * Splits up the stack-values of the given bar-entry into Range objects.
+	 * The ranges are cached by the entry itself.
 	 * 
 	 * @param entry
 	 * @return
 	 */
 	protected Range[] getRanges(BarEntry entry) {
-
-		float[] values = entry.getVals();
-
-		if (values == null || values.length == 0)
-			return null;
-
-		float negRemain = -entry.getNegativeSum();
-		float posRemain = 0f;
-
-		Range[] ranges = new Range[values.length];
-
-		for (int i = 0; i < ranges.length; i++) {
-
-			float value = values[i];
-
-			if (value < 0) {
-				ranges[i] = new Range(negRemain, negRemain + Math.abs(value));
-				negRemain += Math.abs(value);
-			} else {
-				ranges[i] = new Range(posRemain, posRemain + value);
-				posRemain += value;
-			}
-		}
-
-		return ranges;
+		return entry.getRanges();
 	}
 }
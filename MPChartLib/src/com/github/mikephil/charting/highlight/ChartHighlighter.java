@@ -19,6 +19,18 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 	/** instance of the data-provider */
 	protected T mChart;
 
+	/** buffer for converting between touch-points and values */
+	protected float[] mTouchPointBuffer = new float[2];
+
+	/** the list returned by getSelectionDetailsAtIndex(...), reused for every touch */
+	protected List<SelectionDetail> mSelectionDetails = new ArrayList<SelectionDetail>();
+
+	/** all SelectionDetail objects created so far, recycled for every touch */
+	private List<SelectionDetail> mSelectionDetailPool = new ArrayList<SelectionDetail>();
+
+	/** the Highlight returned last, handed out again as long as it does not change */
+	protected Highlight mLastHighlight;
+
 	public ChartHighlighter(T chart) {
 		this.mChart = chart;
 	}
@@ -40,7 +52,46 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 		if (dataSetIndex == -Integer.MAX_VALUE)
 			return null;
 
-		return new Highlight(xIndex, dataSetIndex);
+		return obtainHighlight(xIndex, dataSetIndex);
+	}
+
+	/**
+	 * Returns a Highlight object for the given x-index and dataset-index.
+	 * Highlight objects are handed to the chart and may be kept by it, so they
+	 * are never modified. Instead, the last returned object is returned again
+	 * if it is equal to the requested one, which is the common case while
+	 * dragging.
+	 *
+	 * @param xIndex
+	 * @param dataSetIndex
+	 * @return
+	 */
+	protected Highlight obtainHighlight(int xIndex, int dataSetIndex) {
+		return obtainHighlight(xIndex, dataSetIndex, -1);
+	}
+
+	/**
+	 * Same as obtainHighlight(xIndex, dataSetIndex), for a highlight that
+	 * also references the position of the entry inside its DataSet.
+	 *
+	 * @param xIndex
+	 * @param dataSetIndex
+	 * @param entryIndex the index of the entry inside its DataSet, -1 if unknown
+	 * @return
+	 */
+	protected Highlight obtainHighlight(int xIndex, int dataSetIndex, int entryIndex) {
+
+		Highlight h = mLastHighlight;
+
+		if (h == null || h.getXIndex() != xIndex || h.getDataSetIndex() != dataSetIndex
+				|| h.getStackIndex() != -1 || h.getRange() != null
+				|| h.getEntryIndex() != entryIndex) {
+			h = new Highlight(xIndex, dataSetIndex);
+			h.setEntryIndex(entryIndex);
+			mLastHighlight = h;
+		}
+
+		return h;
 	}
 
 	/**
@@ -51,9 +102,9 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 	 */
 	protected int getXIndex(float x) {
 
-		// create an array of the touch-point
-		float[] pts = new float[2];
+		float[] pts = mTouchPointBuffer;
 		pts[0] = x;
+		pts[1] = 0f;
 
 		// take any transformer to determine the x-axis value
 		mChart.getTransformer(YAxis.AxisDependency.LEFT).pixelsToValue(pts);
@@ -85,15 +136,17 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 
 	/**
 	 * Returns a list of SelectionDetail object corresponding to the given xIndex.
+	 * The list and the objects inside are reused by the next call.
 	 * 
 	 * @param xIndex
 	 * @return
 	 */
 	protected List<SelectionDetail> getSelectionDetailsAtIndex(int xIndex) {
 
-		List<SelectionDetail> vals = new ArrayList<SelectionDetail>();
+		List<SelectionDetail> vals = mSelectionDetails;
+		vals.clear();
 
-		float[] pts = new float[2];
+		float[] pts = mTouchPointBuffer;
 
 		for (int i = 0; i < mChart.getData().getDataSetCount(); i++) {
 
@@ -117,10 +170,33 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 			mChart.getTransformer(dataSet.getAxisDependency()).pointValuesToPixel(pts);
 
 			if (!Float.isNaN(pts[1])) {
-				vals.add(new SelectionDetail(pts[1], i, dataSet));
+				addSelectionDetail(pts[1], i, dataSet);
 			}
 		}
 
 		return vals;
 	}
+
+	/**
+	 * Adds a recycled SelectionDetail object with the given values to the list
+	 * of SelectionDetail objects returned by getSelectionDetailsAtIndex(...).
+	 *
+	 * @param val
+	 * @param dataSetIndex
+	 * @param set
+	 */
+	protected void addSelectionDetail(float val, int dataSetIndex, IDataSet set) {
+
+		int index = mSelectionDetails.size();
+
+		if (index == mSelectionDetailPool.size())
+			mSelectionDetailPool.add(new SelectionDetail(val, dataSetIndex, set));
+
+		SelectionDetail detail = mSelectionDetailPool.get(index);
+		detail.val = val;
+		detail.dataSetIndex = dataSetIndex;
+		detail.dataSet = set;
+
+		mSelectionDetails.add(detail);
+	}
 }
@@ -6,7 +6,6 @@ import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.utils.SelectionDetail;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -14,8 +13,58 @@ import java.util.List;
  */
 public class CombinedHighlighter extends ChartHighlighter<BarLineScatterCandleBubbleDataProvider> {
 
+    /**
+     * highlighter for the scatter- and bubble-data, which is looked up by the
+     * position of the entries instead of the x-index alone
+     */
+    protected NearestPointHighlighter mPointHighlighter;
+
     public CombinedHighlighter(BarLineScatterCandleBubbleDataProvider chart) {
         super(chart);
+
+        mPointHighlighter = new NearestPointHighlighter(chart) {
+
+            @Override
+            protected int getIndexedDataCount() {
+                return 2;
+            }
+
+            @Override
+            protected ChartData<?> getIndexedData(int index) {
+                CombinedData data = (CombinedData) mChart.getData();
+                return index == 0 ? data.getScatterData() : data.getBubbleData();
+            }
+        };
+    }
+
+    /**
+     * Returns the NearestPointHighlighter used for the scatter- and
+     * bubble-data.
+     *
+     * @return
+     */
+    public NearestPointHighlighter getPointHighlighter() {
+        return mPointHighlighter;
+    }
+
+    /**
+     * Prefers scatter- and bubble-entries close to the touch-point, falls back
+     * to the x-index based lookup for all other data.
+     */
+    @Override
+    public Highlight getHighlight(float x, float y) {
+
+        CombinedData data = (CombinedData) mChart.getData();
+
+        if (data.getScatterData() != null || data.getBubbleData() != null) {
+
+            Highlight h = mPointHighlighter.getHighlight(x, y);
+
+            if (h != null)
+                return h;
+        }
+
+        return super.getHighlight(x, y);
     }
 
     /**
@@ -32,9 +81,10 @@ public class CombinedHighlighter extends ChartHighlighter<BarLineScatterCandleBu
         // get all chartdata objects
         List<ChartData> dataObjects = data.getAllData();
 
-        List<SelectionDetail> vals = new ArrayList<SelectionDetail>();
+        List<SelectionDetail> vals = mSelectionDetails;
+        vals.clear();
 
-        float[] pts = new float[2];
+        float[] pts = mTouchPointBuffer;
 
         for (int i = 0; i < dataObjects.size(); i++) {
 
@@ -60,7 +110,7 @@ public class CombinedHighlighter extends ChartHighlighter<BarLineScatterCandleBu
                 mChart.getTransformer(dataSet.getAxisDependency()).pointValuesToPixel(pts);
 
                 if (!Float.isNaN(pts[1])) {
-                    vals.add(new SelectionDetail(pts[1], j, dataSet));
+                    addSelectionDetail(pts[1], j, dataSet);
                 }
             }
         }
@@ -20,6 +20,12 @@ public class Highlight {
     /** the range of the bar that is selected (only for stacked-barchart) */
     private Range mRange;
 
+    /**
+     * the index of the highlighted entry inside the entries of its DataSet,
+     * -1 if only the x-index is known
+     */
+    private int mEntryIndex = -1;
+
     /**
      * constructor
      * 
@@ -62,6 +68,27 @@ public class Highlight {
         this.mXIndex = mXIndex;
     }
 
+    /**
+     * Sets the index of the highlighted entry inside the entries of its
+     * DataSet. Needed to tell apart entries that share an x-index, e.g. in
+     * scatter- and bubble-charts.
+     *
+     * @param entryIndex
+     */
+    public void setEntryIndex(int entryIndex) {
+        this.mEntryIndex = entryIndex;
+    }
+
+    /**
+     * Returns the index of the highlighted entry inside the entries of its
+     * DataSet, -1 if only the x-index of the entry is known.
+     *
+     * @return
+     */
+    public int getEntryIndex() {
+        return mEntryIndex;
+    }
+
     /**
      * returns the index of the DataSet the highlighted value is in
      * 
@@ -100,7 +127,7 @@ public class Highlight {
 
     /**
      * returns true if this highlight object is equal to the other (compares
-     * xIndex and dataSetIndex)
+     * xIndex, dataSetIndex, stackIndex and entryIndex)
      * 
      * @param h
      * @return
@@ -111,7 +138,8 @@ public class Highlight {
             return false;
         else {
             if (this.mDataSetIndex == h.mDataSetIndex && this.mXIndex == h.mXIndex
-                    && this.mStackIndex == h.mStackIndex)
+                    && this.mStackIndex == h.mStackIndex
+                    && this.mEntryIndex == h.mEntryIndex)
                 return true;
             else
                 return false;
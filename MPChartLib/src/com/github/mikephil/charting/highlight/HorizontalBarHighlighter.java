@@ -26,9 +26,9 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 
 			if (set.isStacked()) {
 
-				// create an array of the touch-point
-				float[] pts = new float[2];
+				float[] pts = mTouchPointBuffer;
 				pts[0] = y;
+				pts[1] = 0f;
 
 				// take any transformer to determine the x-axis value
 				mChart.getTransformer(set.getAxisDependency()).pixelsToValue(pts);
@@ -44,8 +44,8 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 
 		if (!mChart.getBarData().isGrouped()) {
 
-			// create an array of the touch-point
-			float[] pts = new float[2];
+			float[] pts = mTouchPointBuffer;
+			pts[0] = 0f;
 			pts[1] = x;
 
 			// take any transformer to determine the x-axis value
@@ -79,8 +79,8 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 	@Override
 	protected float getBase(float y) {
 
-		// create an array of the touch-point
-		float[] pts = new float[2];
+		float[] pts = mTouchPointBuffer;
+		pts[0] = 0f;
 		pts[1] = y;
 
 		// take any transformer to determine the x-axis value
@@ -0,0 +1,385 @@
+package com.github.mikephil.charting.highlight;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Highlighter that selects the entry closest to the touch-point in both x- and
+ * y-direction, which is what users expect from scatter- and bubble-charts
+ * where multiple entries can share an x-index. Bubbles can be touched anywhere
+ * inside of their circle, the distance is measured from their outline. The
+ * returned highlights reference the index of the entry inside its DataSet,
+ * see Highlight.getEntryIndex(). The entries are kept in a
+ * PointIndex per axis, so a touch only visits the entries around the touched
+ * position. The index is updated lazily on the next touch: appended entries
+ * are inserted incrementally, any other structural change of the data
+ * (removed or inserted entries, added or removed DataSets) rebuilds it. Call
+ * invalidate() after modifying the values of existing entries.
+ */
+public class NearestPointHighlighter extends ChartHighlighter<BarLineScatterCandleBubbleDataProvider> {
+
+    /** the maximum distance in pixels between the touch-point and a highlighted entry */
+    private float mMaxHighlightDistance;
+
+    /** index of all entries of DataSets plotted against the left axis */
+    private PointIndex mLeftIndex = new PointIndex();
+
+    /** index of all entries of DataSets plotted against the right axis */
+    private PointIndex mRightIndex = new PointIndex();
+
+    /** the DataSets that are currently indexed, in the order they were indexed */
+    private IDataSet[] mSets = new IDataSet[0];
+
+    /** the number of entries of each indexed DataSet */
+    private int[] mEntryCounts = new int[0];
+
+    /** the last indexed entry of each DataSet, used to detect appends */
+    private Entry[] mLastEntries = new Entry[0];
+
+    /** the axis each DataSet was indexed for */
+    private AxisDependency[] mAxes = new AxisDependency[0];
+
+    /** the highlight-enabled state each DataSet was indexed with */
+    private boolean[] mHighlightEnabled = new boolean[0];
+
+    /**
+     * the maximum bubble size each DataSet was indexed with, the radii of
+     * the bubbles are relative to it
+     */
+    private float[] mMaxSizes = new float[0];
+
+    /** the number of indexed DataSets */
+    private int mSetCount = 0;
+
+    /** true if the index has to be rebuilt before the next query */
+    private boolean mInvalid = true;
+
+    /** the pixel-distance of the last point found by getNearest(...) */
+    private float mNearestDistance;
+
+    /** buffers for converting between pixels and values */
+    private float[] mPointBuffer = new float[4];
+    private float[] mMatrixBuffer = new float[9];
+    private int[] mIdBuffer = new int[128];
+
+    public NearestPointHighlighter(BarLineScatterCandleBubbleDataProvider chart) {
+        super(chart);
+        mMaxHighlightDistance = Utils.convertDpToPixel(30f);
+    }
+
+    /**
+     * Sets the maximum distance in dp between the touch-point and an entry
+     * for the entry to be highlighted. Touches further away from any entry
+     * highlight nothing. Default: 30dp
+     *
+     * @param distanceDp
+     */
+    public void setMaxHighlightDistance(float distanceDp) {
+        mMaxHighlightDistance = Utils.convertDpToPixel(distanceDp);
+    }
+
+    /**
+     * Returns the maximum highlight-distance in pixels.
+     *
+     * @return
+     */
+    public float getMaxHighlightDistance() {
+        return mMaxHighlightDistance;
+    }
+
+    /**
+     * Forces the index to be rebuilt on the next query. Needs to be called
+     * after the x-index or value of already existing entries was changed.
+     */
+    public void invalidate() {
+        mInvalid = true;
+    }
+
+    @Override
+    public Highlight getHighlight(float x, float y) {
+
+        update();
+
+        int left = getNearest(mLeftIndex, AxisDependency.LEFT, x, y);
+        float leftDistance = mNearestDistance;
+
+        int right = getNearest(mRightIndex, AxisDependency.RIGHT, x, y);
+        float rightDistance = mNearestDistance;
+
+        if (left == -1 && right == -1)
+            return null;
+
+        if (right == -1 || (left != -1 && leftDistance <= rightDistance))
+            return obtainHighlight(mLeftIndex.getXIndex(left), mLeftIndex.getDataSetIndex(left),
+                    mLeftIndex.getEntryIndex(left));
+        else
+            return obtainHighlight(mRightIndex.getXIndex(right), mRightIndex.getDataSetIndex(right),
+                    mRightIndex.getEntryIndex(right));
+    }
+
+    /**
+     * Returns a Highlight object for every entry inside the given rectangle
+     * (in pixels), e.g. for selecting all entries inside a dragged area.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @return
+     */
+    public List<Highlight> getHighlightsInRect(float left, float top, float right, float bottom) {
+
+        update();
+
+        List<Highlight> highlights = new ArrayList<Highlight>();
+
+        addHighlightsInRect(mLeftIndex, AxisDependency.LEFT, left, top, right, bottom, highlights);
+        addHighlightsInRect(mRightIndex, AxisDependency.RIGHT, left, top, right, bottom, highlights);
+
+        return highlights;
+    }
+
+    /**
+     * Returns the number of ChartData objects whose DataSets are indexed. The
+     * indices of the highlights returned are DataSet-indices inside of these
+     * objects.
+     *
+     * @return
+     */
+    protected int getIndexedDataCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the ChartData object at the given position, null values are
+     * skipped.
+     *
+     * @param index
+     * @return
+     */
+    protected ChartData<?> getIndexedData(int index) {
+        return mChart.getData();
+    }
+
+    /**
+     * Returns the id of the point in the given index that is closest to the
+     * touch-point (or the outline of a bubble), -1 if none is within the max
+     * highlight-distance. Stores the distance in mNearestDistance.
+     */
+    private int getNearest(PointIndex index, AxisDependency axis, float x, float y) {
+
+        mNearestDistance = Float.MAX_VALUE;
+
+        if (index.getCount() == 0)
+            return -1;
+
+        Transformer trans = mChart.getTransformer(axis);
+
+        mPointBuffer[0] = x;
+        mPointBuffer[1] = y;
+        trans.pixelsToValue(mPointBuffer);
+
+        trans.getValueToPixelMatrix().getValues(mMatrixBuffer);
+        float scaleX = Math.abs(mMatrixBuffer[Matrix.MSCALE_X]);
+        float scaleY = Math.abs(mMatrixBuffer[Matrix.MSCALE_Y]);
+
+        // the size of a bubble of the maximum size, as drawn by the BubbleChartRenderer
+        float radiusScale = Math.min(mChart.getContentRect().height(), scaleX);
+
+        int id = index.getNearest(mPointBuffer[0], mPointBuffer[1], scaleX, scaleY,
+                mMaxHighlightDistance, radiusScale);
+
+        if (id != -1)
+            mNearestDistance = index.getDistance(id, mPointBuffer[0], mPointBuffer[1],
+                    scaleX, scaleY, radiusScale);
+
+        return id;
+    }
+
+    private void addHighlightsInRect(PointIndex index, AxisDependency axis, float left, float top,
+                                     float right, float bottom, List<Highlight> highlights) {
+
+        if (index.getCount() == 0)
+            return;
+
+        mPointBuffer[0] = left;
+        mPointBuffer[1] = top;
+        mPointBuffer[2] = right;
+        mPointBuffer[3] = bottom;
+        mChart.getTransformer(axis).pixelsToValue(mPointBuffer);
+
+        float xMin = Math.min(mPointBuffer[0], mPointBuffer[2]);
+        float xMax = Math.max(mPointBuffer[0], mPointBuffer[2]);
+        float yMin = Math.min(mPointBuffer[1], mPointBuffer[3]);
+        float yMax = Math.max(mPointBuffer[1], mPointBuffer[3]);
+
+        int found;
+
+        while ((found = index.getPointsInRect(xMin, yMin, xMax, yMax, mIdBuffer)) == mIdBuffer.length)
+            mIdBuffer = new int[mIdBuffer.length * 2];
+
+        for (int i = 0; i < found; i++) {
+            int id = mIdBuffer[i];
+
+            Highlight h = new Highlight(index.getXIndex(id), index.getDataSetIndex(id));
+            h.setEntryIndex(index.getEntryIndex(id));
+            highlights.add(h);
+        }
+    }
+
+    /**
+     * Brings the index up to date with the data of the chart.
+     */
+    private void update() {
+
+        boolean rebuild = mInvalid;
+        int n = 0;
+
+        for (int i = 0; i < getIndexedDataCount() && !rebuild; i++) {
+
+            ChartData<?> data = getIndexedData(i);
+
+            if (data == null)
+                continue;
+
+            for (int j = 0; j < data.getDataSetCount(); j++, n++) {
+
+                IDataSet set = data.getDataSetByIndex(j);
+
+                if (n >= mSetCount || mSets[n] != set
+                        || mAxes[n] != set.getAxisDependency()
+                        || mHighlightEnabled[n] != set.isHighlightEnabled()
+                        || mMaxSizes[n] != getMaxSize(set)) {
+                    rebuild = true;
+                    break;
+                }
+
+                int indexed = mEntryCounts[n];
+
+                // anything but appended entries invalidates the stored points
+                if (set.getEntryCount() < indexed
+                        || (indexed > 0 && set.getEntryForIndex(indexed - 1) != mLastEntries[n])) {
+                    rebuild = true;
+                    break;
+                }
+            }
+        }
+
+        if (n != mSetCount)
+            rebuild = true;
+
+        if (rebuild) {
+            mLeftIndex.clear();
+            mRightIndex.clear();
+            mSetCount = 0;
+            mInvalid = false;
+        }
+
+        n = 0;
+
+        for (int i = 0; i < getIndexedDataCount(); i++) {
+
+            ChartData<?> data = getIndexedData(i);
+
+            if (data == null)
+                continue;
+
+            for (int j = 0; j < data.getDataSetCount(); j++, n++) {
+
+                IDataSet set = data.getDataSetByIndex(j);
+
+                if (rebuild) {
+                    ensureCapacity(n + 1);
+                    mSets[n] = set;
+                    mAxes[n] = set.getAxisDependency();
+                    mHighlightEnabled[n] = set.isHighlightEnabled();
+                    mMaxSizes[n] = getMaxSize(set);
+                    mEntryCounts[n] = 0;
+                    mLastEntries[n] = null;
+                    mSetCount = n + 1;
+                }
+
+                int count = set.getEntryCount();
+
+                if (count == mEntryCounts[n])
+                    continue;
+
+                if (mHighlightEnabled[n]) {
+
+                    PointIndex index = mAxes[n] == AxisDependency.LEFT ? mLeftIndex : mRightIndex;
+
+                    for (int k = mEntryCounts[n]; k < count; k++) {
+                        Entry e = set.getEntryForIndex(k);
+                        index.add(e.getXIndex(), e.getVal(), j, k, getRadius(e, mMaxSizes[n]));
+                    }
+                }
+
+                mEntryCounts[n] = count;
+                mLastEntries[n] = set.getEntryForIndex(count - 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum bubble size of the given DataSet, 0 for DataSets
+     * that are not drawn as bubbles.
+     */
+    private static float getMaxSize(IDataSet set) {
+        return set instanceof IBubbleDataSet ? ((IBubbleDataSet) set).getMaxSize() : 0f;
+    }
+
+    /**
+     * Returns the radius of the given entry relative to the size of a bubble
+     * of the maximum size, 0 for entries that are not bubbles. Same as
+     * BubbleChartRenderer.getShapeSize(...) / 2.
+     */
+    private static float getRadius(Entry e, float maxSize) {
+
+        if (!(e instanceof BubbleEntry))
+            return 0f;
+
+        float factor = maxSize == 0f ? 1f : (float) Math.sqrt(((BubbleEntry) e).getSize() / maxSize);
+        return factor / 2f;
+    }
+
+    private void ensureCapacity(int size) {
+
+        if (mSets.length >= size)
+            return;
+
+        int capacity = Math.max(size, mSets.length * 2);
+
+        IDataSet[] sets = new IDataSet[capacity];
+        int[] entryCounts = new int[capacity];
+        Entry[] lastEntries = new Entry[capacity];
+        AxisDependency[] axes = new AxisDependency[capacity];
+        boolean[] highlightEnabled = new boolean[capacity];
+        float[] maxSizes = new float[capacity];
+
+        System.arraycopy(mSets, 0, sets, 0, mSetCount);
+        System.arraycopy(mEntryCounts, 0, entryCounts, 0, mSetCount);
+        System.arraycopy(mLastEntries, 0, lastEntries, 0, mSetCount);
+        System.arraycopy(mAxes, 0, axes, 0, mSetCount);
+        System.arraycopy(mHighlightEnabled, 0, highlightEnabled, 0, mSetCount);
+        System.arraycopy(mMaxSizes, 0, maxSizes, 0, mSetCount);
+
+        mSets = sets;
+        mEntryCounts = entryCounts;
+        mLastEntries = lastEntries;
+        mAxes = axes;
+        mHighlightEnabled = highlightEnabled;
+        mMaxSizes = maxSizes;
+    }
+}
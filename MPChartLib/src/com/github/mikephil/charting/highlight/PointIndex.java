@@ -0,0 +1,398 @@
+package com.github.mikephil.charting.highlight;
+
+/**
+ * Uniform grid over points in value-space (x-index / y-value) that answers
+ * "nearest point within a radius" and "all points inside a rectangle" queries
+ * without scanning all points. Each point carries the x-index, the
+ * dataset-index and the index of the entry inside its DataSet it belongs to,
+ * and optionally a radius for points drawn as circles (bubbles). Points can
+ * be appended after the grid has been built, points outside of the initial
+ * bounds are clamped into the border cells (the queries stay exact, they just
+ * get slower), and the grid is built again lazily once too many of them have
+ * been appended.
+ *
+ * Since the x- and y-axis usually have completely different scales, distances
+ * are measured in pixels, the scale of both axes has to be provided with the
+ * query.
+ */
+public class PointIndex {
+
+    /** the average number of points that should end up in one grid cell */
+    private static final int POINTS_PER_CELL = 2;
+
+    /** the maximum number of grid cells per axis */
+    private static final int MAX_CELLS_PER_AXIS = 1024;
+
+    /** the x-values (x-indices) of all points */
+    private float[] mX;
+
+    /** the y-values of all points */
+    private float[] mY;
+
+    /** the dataset-index of all points */
+    private int[] mDataSetIndex;
+
+    /** the index of the entry of all points inside their DataSet */
+    private int[] mEntryIndex;
+
+    /** the radius of all points, relative to the radius-scale of the queries */
+    private float[] mRadius;
+
+    /** the largest radius of all points */
+    private float mMaxRadius = 0f;
+
+    /** the next point in the same grid cell, -1 for the last one */
+    private int[] mNext;
+
+    /** the number of points in the index */
+    private int mCount = 0;
+
+    /** the first point of every grid cell, -1 for empty cells */
+    private int[] mCellHead = new int[0];
+
+    private int mCols = 0;
+    private int mRows = 0;
+
+    private float mLeft, mBottom, mCellWidth, mCellHeight;
+
+    /** the number of points appended outside of the bounds of the grid */
+    private int mOutOfBounds = 0;
+
+    /** true if the grid needs to be built before the next query */
+    private boolean mDirty = true;
+
+    public PointIndex() {
+        this(64);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the initial number of points that can be stored without growing
+     */
+    public PointIndex(int capacity) {
+        capacity = Math.max(1, capacity);
+        mX = new float[capacity];
+        mY = new float[capacity];
+        mDataSetIndex = new int[capacity];
+        mEntryIndex = new int[capacity];
+        mRadius = new float[capacity];
+        mNext = new int[capacity];
+    }
+
+    /**
+     * Adds a point to the index. If the grid has already been built, the point
+     * is inserted right away.
+     *
+     * @param xIndex
+     * @param yValue
+     * @param dataSetIndex
+     * @param entryIndex   the index of the entry inside its DataSet
+     * @param radius       the radius of the point relative to the radius-scale
+     *                     of the queries, 0 for points without extent
+     */
+    public void add(int xIndex, float yValue, int dataSetIndex, int entryIndex, float radius) {
+
+        if (Float.isNaN(yValue))
+            return;
+
+        if (mCount == mX.length)
+            grow(mCount * 2);
+
+        int i = mCount++;
+
+        mX[i] = xIndex;
+        mY[i] = yValue;
+        mDataSetIndex[i] = dataSetIndex;
+        mEntryIndex[i] = entryIndex;
+        mRadius[i] = radius;
+        mMaxRadius = Math.max(mMaxRadius, radius);
+
+        if (mDirty)
+            return;
+
+        if (xIndex < mLeft || xIndex > mLeft + mCols * mCellWidth
+                || yValue < mBottom || yValue > mBottom + mRows * mCellHeight) {
+
+            // border cells grow with every point outside, rebuild eventually
+            if (++mOutOfBounds > mCount / 4) {
+                mDirty = true;
+                return;
+            }
+        }
+
+        insert(i);
+    }
+
+    /**
+     * Removes all points from the index.
+     */
+    public void clear() {
+        mCount = 0;
+        mMaxRadius = 0f;
+        mDirty = true;
+    }
+
+    /**
+     * Returns the number of points in the index.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the x-index of the point with the given id.
+     *
+     * @param id
+     * @return
+     */
+    public int getXIndex(int id) {
+        return (int) mX[id];
+    }
+
+    /**
+     * Returns the y-value of the point with the given id.
+     *
+     * @param id
+     * @return
+     */
+    public float getYValue(int id) {
+        return mY[id];
+    }
+
+    /**
+     * Returns the dataset-index of the point with the given id.
+     *
+     * @param id
+     * @return
+     */
+    public int getDataSetIndex(int id) {
+        return mDataSetIndex[id];
+    }
+
+    /**
+     * Returns the index of the entry of the point with the given id inside
+     * its DataSet.
+     *
+     * @param id
+     * @return
+     */
+    public int getEntryIndex(int id) {
+        return mEntryIndex[id];
+    }
+
+    /**
+     * Returns the radius of the point with the given id, relative to the
+     * radius-scale of the queries.
+     *
+     * @param id
+     * @return
+     */
+    public float getRadius(int id) {
+        return mRadius[id];
+    }
+
+    /**
+     * Returns the id of the point closest to the given position in
+     * value-space, or -1 if there is no point within the given radius. The
+     * distance is measured in pixels, from the outline of points with a
+     * radius, it is negative inside of them.
+     *
+     * @param x           x-position in value-space
+     * @param y           y-position in value-space
+     * @param scaleX      pixels per x-index
+     * @param scaleY      pixels per y-value
+     * @param radius      the maximum distance in pixels
+     * @param radiusScale the pixels a relative radius of 1 stands for
+     * @return
+     */
+    public int getNearest(float x, float y, float scaleX, float scaleY, float radius,
+                          float radiusScale) {
+
+        if (mDirty)
+            build();
+
+        if (mCount == 0 || scaleX <= 0f || scaleY <= 0f)
+            return -1;
+
+        // points with a radius can be touched further away from their center
+        float reach = radius + mMaxRadius * radiusScale;
+
+        float dx = reach / scaleX;
+        float dy = reach / scaleY;
+
+        int colMin = col(x - dx), colMax = col(x + dx);
+        int rowMin = row(y - dy), rowMax = row(y + dy);
+
+        float best = radius;
+        int nearest = -1;
+
+        for (int row = rowMin; row <= rowMax; row++) {
+            for (int col = colMin; col <= colMax; col++) {
+
+                for (int i = mCellHead[row * mCols + col]; i != -1; i = mNext[i]) {
+
+                    float dist = getDistance(i, x, y, scaleX, scaleY, radiusScale);
+
+                    if (dist <= best) {
+                        best = dist;
+                        nearest = i;
+                    }
+                }
+            }
+        }
+
+        return nearest;
+    }
+
+    /**
+     * Returns the distance in pixels between the given position in
+     * value-space and the outline of the point with the given id, negative if
+     * the position is inside of the point.
+     *
+     * @param id
+     * @param x           x-position in value-space
+     * @param y           y-position in value-space
+     * @param scaleX      pixels per x-index
+     * @param scaleY      pixels per y-value
+     * @param radiusScale the pixels a relative radius of 1 stands for
+     * @return
+     */
+    public float getDistance(int id, float x, float y, float scaleX, float scaleY,
+                             float radiusScale) {
+
+        float px = (mX[id] - x) * scaleX;
+        float py = (mY[id] - y) * scaleY;
+
+        return (float) Math.sqrt(px * px + py * py) - mRadius[id] * radiusScale;
+    }
+
+    /**
+     * Writes the ids of all points that lie inside the given rectangle in
+     * value-space into the provided array. Returns the number of ids written,
+     * which is at most the length of the array.
+     *
+     * @param left
+     * @param bottom
+     * @param right
+     * @param top
+     * @param out
+     * @return
+     */
+    public int getPointsInRect(float left, float bottom, float right, float top, int[] out) {
+
+        if (mDirty)
+            build();
+
+        if (mCount == 0 || left > right || bottom > top)
+            return 0;
+
+        int colMin = col(left), colMax = col(right);
+        int rowMin = row(bottom), rowMax = row(top);
+
+        int found = 0;
+
+        for (int row = rowMin; row <= rowMax; row++) {
+            for (int col = colMin; col <= colMax; col++) {
+
+                for (int i = mCellHead[row * mCols + col]; i != -1; i = mNext[i]) {
+
+                    if (mX[i] < left || mX[i] > right || mY[i] < bottom || mY[i] > top)
+                        continue;
+
+                    if (found == out.length)
+                        return found;
+
+                    out[found++] = i;
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Builds the grid from scratch, sized by the bounds and the number of the
+     * current points.
+     */
+    private void build() {
+
+        mDirty = false;
+        mOutOfBounds = 0;
+
+        float xMin = Float.MAX_VALUE, xMax = -Float.MAX_VALUE;
+        float yMin = Float.MAX_VALUE, yMax = -Float.MAX_VALUE;
+
+        for (int i = 0; i < mCount; i++) {
+            xMin = Math.min(xMin, mX[i]);
+            xMax = Math.max(xMax, mX[i]);
+            yMin = Math.min(yMin, mY[i]);
+            yMax = Math.max(yMax, mY[i]);
+        }
+
+        if (mCount == 0) {
+            xMin = xMax = yMin = yMax = 0f;
+        }
+
+        int cells = (int) Math.ceil(Math.sqrt(mCount / (double) POINTS_PER_CELL));
+        cells = Math.max(1, Math.min(MAX_CELLS_PER_AXIS, cells));
+
+        mCols = cells;
+        mRows = cells;
+        mLeft = xMin;
+        mBottom = yMin;
+        mCellWidth = Math.max((xMax - xMin) / mCols, Float.MIN_NORMAL);
+        mCellHeight = Math.max((yMax - yMin) / mRows, Float.MIN_NORMAL);
+
+        if (mCellHead.length < mCols * mRows)
+            mCellHead = new int[mCols * mRows];
+
+        for (int i = 0; i < mCols * mRows; i++)
+            mCellHead[i] = -1;
+
+        for (int i = 0; i < mCount; i++)
+            insert(i);
+    }
+
+    private void insert(int i) {
+        int cell = row(mY[i]) * mCols + col(mX[i]);
+        mNext[i] = mCellHead[cell];
+        mCellHead[cell] = i;
+    }
+
+    private int col(float x) {
+        int col = (int) ((x - mLeft) / mCellWidth);
+        return col < 0 ? 0 : col >= mCols ? mCols - 1 : col;
+    }
+
+    private int row(float y) {
+        int row = (int) ((y - mBottom) / mCellHeight);
+        return row < 0 ? 0 : row >= mRows ? mRows - 1 : row;
+    }
+
+    private void grow(int capacity) {
+
+        float[] x = new float[capacity];
+        float[] y = new float[capacity];
+        int[] dataSetIndex = new int[capacity];
+        int[] entryIndex = new int[capacity];
+        float[] radius = new float[capacity];
+        int[] next = new int[capacity];
+
+        System.arraycopy(mX, 0, x, 0, mCount);
+        System.arraycopy(mY, 0, y, 0, mCount);
+        System.arraycopy(mDataSetIndex, 0, dataSetIndex, 0, mCount);
+        System.arraycopy(mEntryIndex, 0, entryIndex, 0, mCount);
+        System.arraycopy(mRadius, 0, radius, 0, mCount);
+        System.arraycopy(mNext, 0, next, 0, mCount);
+
+        mX = x;
+        mY = y;
+        mDataSetIndex = dataSetIndex;
+        mEntryIndex = entryIndex;
+        mRadius = radius;
+        mNext = next;
+    }
+}
@@ -357,6 +357,24 @@ public interface IDataSet<T extends Entry> {
      */
     boolean isDrawValuesEnabled();
 
+    /**
+     * If set to true, the renderer caches the formatted value-texts (and their
+     * measured size) of this DataSet instead of formatting and measuring them
+     * again every frame. Only enable this if the ValueFormatter returns the
+     * same text for the same Entry and value (independent of the current
+     * scale or translation). Default: false
+     *
+     * @param enabled
+     */
+    void setValueTextCacheEnabled(boolean enabled);
+
+    /**
+     * Returns true if the formatted value-texts of this DataSet may be cached.
+     *
+     * @return
+     */
+    boolean isValueTextCacheEnabled();
+
     /**
      * Set the visibility of this DataSet. If not visible, the DataSet will not
      * be drawn to the chart upon refreshing it.
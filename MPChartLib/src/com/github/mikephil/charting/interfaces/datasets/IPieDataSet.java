@@ -25,6 +25,15 @@ public interface IPieDataSet extends IDataSet<Entry> {
      */
     float getSelectionShift();
 
+    /**
+     * Returns the sum of the y-values of all entries of this DataSet. The sum
+     * is updated when entries are added or removed, call
+     * notifyDataSetChanged() after changing the value of an existing entry.
+     *
+     * @return
+     */
+    float getYValueSum();
+
     /**
      * Returns the DashPathEffect that is used for drawing the lines.
      *
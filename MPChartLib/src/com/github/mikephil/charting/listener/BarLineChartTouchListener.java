@@ -17,6 +17,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.ChartTracer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -389,12 +390,16 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
      */
     private void performHighlightDrag(MotionEvent e) {
 
+        ChartTracer.begin(ChartTracer.HIGHLIGHT);
+
         Highlight h = mChart.getHighlightByTouchPoint(e.getX(), e.getY());
 
         if (h != null && !h.equalTo(mLastHighlighted)) {
             mLastHighlighted = h;
             mChart.highlightTouch(h);
         }
+
+        ChartTracer.end(ChartTracer.HIGHLIGHT);
     }
 
     /**
@@ -594,6 +599,8 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
         if (mDecelerationVelocity.x == 0.f && mDecelerationVelocity.y == 0.f)
             return; // There's no deceleration in progress
 
+        ChartTracer.begin(ChartTracer.DECELERATION_STEP);
+
         final long currentTime = AnimationUtils.currentAnimationTimeMillis();
 
         mDecelerationVelocity.x *= mChart.getDragDecelerationFrictionCoef();
@@ -625,5 +632,7 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
 
             stopDeceleration();
         }
+
+        ChartTracer.end(ChartTracer.DECELERATION_STEP);
     }
 }
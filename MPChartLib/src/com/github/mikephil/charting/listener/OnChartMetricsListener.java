@@ -0,0 +1,30 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.utils.ChartMetrics;
+
+/**
+ * Listener for the timings and counters of a chart, e.g. for shipping them to
+ * telemetry. The given ChartMetrics object is reused, its values must be
+ * copied if they are needed later.
+ */
+public interface OnChartMetricsListener {
+
+    /**
+     * Called after the chart has drawn a frame.
+     *
+     * @param chart
+     * @param metrics the timings of the draw-phases and the counters of the
+     *                frame, together with their histograms
+     */
+    void onFrameDrawn(Chart<?> chart, ChartMetrics metrics);
+
+    /**
+     * Called after notifyDataSetChanged() has been processed.
+     *
+     * @param chart
+     * @param metrics the timings of the update-phases, together with their
+     *                histograms
+     */
+    void onDataSetChanged(Chart<?> chart, ChartMetrics metrics);
+}
@@ -11,6 +11,7 @@ import com.github.mikephil.charting.charts.PieChart;
 import com.github.mikephil.charting.charts.PieRadarChartBase;
 import com.github.mikephil.charting.charts.RadarChart;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.utils.ChartTracer;
 import com.github.mikephil.charting.utils.SelectionDetail;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -61,6 +62,8 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
 
                     stopDeceleration();
 
+                    endRotation();
+
                     resetVelocity();
 
                     if (mChart.isDragDecelerationEnabled())
@@ -81,6 +84,7 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
                             > Utils.convertDpToPixel(8f)) {
                         mLastGesture = ChartGesture.ROTATE;
                         mTouchMode = ROTATE;
+                        mChart.setRotating(true);
                         mChart.disableScroll();
                     } else if (mTouchMode == ROTATE) {
                         updateGestureRotation(x, y);
@@ -107,6 +111,10 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
                         }
                     }
 
+                    // the rotation continues while decelerating
+                    if (mDecelerationAngularVelocity == 0.f)
+                        endRotation();
+
                     mChart.enableScroll();
                     mTouchMode = NONE;
 
@@ -167,6 +175,8 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
 
         } else {
 
+            ChartTracer.begin(ChartTracer.HIGHLIGHT);
+
             float angle = mChart.getAngleForPoint(e.getX(), e.getY());
 
             if (mChart instanceof PieChart) {
@@ -204,6 +214,8 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
                     performHighlight(h, e);
                 }
             }
+
+            ChartTracer.end(ChartTracer.HIGHLIGHT);
         }
 
         return true;
@@ -313,6 +325,8 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
         if (mDecelerationAngularVelocity == 0.f)
             return; // There's no deceleration in progress
 
+        ChartTracer.begin(ChartTracer.DECELERATION_STEP);
+
         final long currentTime = AnimationUtils.currentAnimationTimeMillis();
 
         mDecelerationAngularVelocity *= mChart.getDragDecelerationFrictionCoef();
@@ -325,8 +339,24 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
 
         if (Math.abs(mDecelerationAngularVelocity) >= 0.001)
             Utils.postInvalidateOnAnimation(mChart); // This causes computeScroll to fire, recommended for this by Google
-        else
+        else {
             stopDeceleration();
+            endRotation();
+        }
+
+        ChartTracer.end(ChartTracer.DECELERATION_STEP);
+    }
+
+    /**
+     * Lets the chart know that the rotation has settled, so that everything
+     * that is skipped while spinning is drawn again.
+     */
+    private void endRotation() {
+
+        if (mChart.isRotating()) {
+            mChart.setRotating(false);
+            mChart.invalidate();
+        }
     }
 
     private class AngularVelocitySample {
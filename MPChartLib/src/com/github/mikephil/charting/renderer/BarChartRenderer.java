@@ -13,8 +13,11 @@ import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.utils.MemoryStats;
+import com.github.mikephil.charting.utils.ParallelExecutor;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -32,6 +35,32 @@ public class BarChartRenderer extends DataRenderer {
 
     protected Paint mShadowPaint;
 
+    /**
+     * true for every buffer that has already been prepared in parallel for
+     * the current frame
+     */
+    protected boolean[] mBuffersPrepared;
+
+    /**
+     * true for every DataSet that is drawn in the current frame
+     */
+    protected boolean[] mDrawnDataSets;
+
+    /**
+     * prepares the buffer of a DataSet that is drawn in the current frame,
+     * run in parallel for all DataSets
+     */
+    private final ParallelExecutor.IndexedTask mPrepareTask = new ParallelExecutor.IndexedTask() {
+        @Override
+        public void run(int index) {
+
+            if (mDrawnDataSets[index]) {
+                prepareBuffer(mChart.getBarData().getDataSetByIndex(index), index);
+                mBuffersPrepared[index] = true;
+            }
+        }
+    };
+
     public BarChartRenderer(BarDataProvider chart, ChartAnimator animator,
             ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -61,26 +90,110 @@ public class BarChartRenderer extends DataRenderer {
         }
     }
 
+    @Override
+    public void releaseBuffers() {
+        mBarBuffers = null;
+        mBuffersPrepared = null;
+    }
+
+    @Override
+    public long getBufferBytes() {
+        return MemoryStats.estimateBuffers(mBarBuffers);
+    }
+
+    @Override
+    public boolean isCountingEntries() {
+        return true;
+    }
+
     @Override
     public void drawData(Canvas c) {
 
+        // the buffers might have been released to save memory
+        if (mBarBuffers == null)
+            initBuffers();
+
         BarData barData = mChart.getBarData();
 
+        if (mDrawnDataSets == null || mDrawnDataSets.length < barData.getDataSetCount())
+            mDrawnDataSets = new boolean[barData.getDataSetCount()];
+
         for (int i = 0; i < barData.getDataSetCount(); i++) {
 
             IBarDataSet set = barData.getDataSetByIndex(i);
 
-            if (set.isVisible() && set.getEntryCount() > 0) {
-                drawDataSet(c, set, i);
+            mDrawnDataSets[i] = set.isVisible() && set.getEntryCount() > 0
+                    && isDataSetInContent(set);
+        }
+
+        if (mParallelPreparationEnabled && barData.getDataSetCount() > 1) {
+
+            if (mBuffersPrepared == null || mBuffersPrepared.length < mBarBuffers.length)
+                mBuffersPrepared = new boolean[mBarBuffers.length];
+
+            getParallelExecutor().execute(barData.getDataSetCount(), mPrepareTask);
+        }
+
+        for (int i = 0; i < barData.getDataSetCount(); i++) {
+
+            if (mDrawnDataSets[i]) {
+                drawDataSet(c, barData.getDataSetByIndex(i), i);
             }
         }
     }
 
-    protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
+    /**
+     * Returns true if any bar of the given DataSet could be visible inside the
+     * content rect. The bars reach from zero to their value, DataSets that
+     * are zoomed out of view vertically do not need to be fed or drawn. Bar
+     * shadows always cover the whole content height.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean isDataSetInContent(IBarDataSet dataSet) {
 
-        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+        if (mChart.isDrawBarShadowEnabled())
+            return true;
 
-        mShadowPaint.setColor(dataSet.getBarShadowColor());
+        float phaseY = mAnimator.getPhaseY();
+
+        return isYRangeVisible(mChart.getTransformer(dataSet.getAxisDependency()),
+                Math.min(dataSet.getYMin() * phaseY, 0f), Math.max(dataSet.getYMax() * phaseY, 0f), 0f);
+    }
+
+    /**
+     * Returns true if the bar at the given position in the buffer lies
+     * completely above or below the content rect. Bars always cover the full
+     * width of the content rect when shadows are drawn.
+     *
+     * @param buffer
+     * @param j
+     * @return
+     */
+    protected boolean isBarOutsideY(float[] buffer, int j) {
+
+        if (mChart.isDrawBarShadowEnabled())
+            return false;
+
+        float top = Math.min(buffer[j + 1], buffer[j + 3]);
+        float bottom = Math.max(buffer[j + 1], buffer[j + 3]);
+
+        return bottom < mViewPortHandler.contentTop() || top > mViewPortHandler.contentBottom();
+    }
+
+    /**
+     * Fills the buffer of the given DataSet with the bars of the current
+     * animation phase and transforms it to pixels. Only reads the DataSet and
+     * the transformer and only writes the buffer of the DataSet, so the
+     * buffers of different DataSets can be prepared concurrently.
+     *
+     * @param dataSet
+     * @param index
+     */
+    protected void prepareBuffer(IBarDataSet dataSet, int index) {
+
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
@@ -95,6 +208,34 @@ public class BarChartRenderer extends DataRenderer {
         buffer.feed(dataSet);
 
         trans.pointValuesToPixel(buffer.buffer);
+    }
+
+    /**
+     * Returns the buffer of the given DataSet, ready for drawing. The buffer
+     * is prepared now unless that was already done in parallel for this
+     * frame.
+     *
+     * @param dataSet
+     * @param index
+     * @return
+     */
+    protected BarBuffer obtainPreparedBuffer(IBarDataSet dataSet, int index) {
+
+        if (mBuffersPrepared != null && index < mBuffersPrepared.length && mBuffersPrepared[index])
+            mBuffersPrepared[index] = false;
+        else
+            prepareBuffer(dataSet, index);
+
+        return mBarBuffers[index];
+    }
+
+    protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
+
+        mShadowPaint.setColor(dataSet.getBarShadowColor());
+
+        BarBuffer buffer = obtainPreparedBuffer(dataSet, index);
+
+        int bars = 0;
 
         // if multiple colors
         if (dataSet.getColors().size() > 1) {
@@ -107,10 +248,14 @@ public class BarChartRenderer extends DataRenderer {
                 if (!mViewPortHandler.isInBoundsRight(buffer.buffer[j]))
                     break;
 
+                if (isBarOutsideY(buffer.buffer, j))
+                    continue;
+
                 if (mChart.isDrawBarShadowEnabled()) {
                     c.drawRect(buffer.buffer[j], mViewPortHandler.contentTop(),
                             buffer.buffer[j + 2],
                             mViewPortHandler.contentBottom(), mShadowPaint);
+                    mDrawCalls++;
                 }
 
                 // Set the color for the currently drawn value. If the index
@@ -119,6 +264,7 @@ public class BarChartRenderer extends DataRenderer {
                 mRenderPaint.setColor(dataSet.getColor(j / 4));
                 c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
                         buffer.buffer[j + 3], mRenderPaint);
+                bars++;
             }
         } else {
 
@@ -137,16 +283,25 @@ public class BarChartRenderer extends DataRenderer {
                 if (!mViewPortHandler.isInBoundsRight(buffer.buffer[j]))
                     break;
 
+                if (isBarOutsideY(buffer.buffer, j))
+                    continue;
+
                 if (mChart.isDrawBarShadowEnabled()) {
                     c.drawRect(buffer.buffer[j], mViewPortHandler.contentTop(),
                             buffer.buffer[j + 2],
                             mViewPortHandler.contentBottom(), mShadowPaint);
+                    mDrawCalls++;
                 }
 
                 c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
                         buffer.buffer[j + 3], mRenderPaint);
+                bars++;
             }
         }
+
+        // stacked entries are drawn as one bar per value
+        mDrawCalls += bars;
+        mEntriesDrawn += dataSet.isStacked() ? bars / dataSet.getStackSize() : bars;
     }
 
     /**
@@ -262,21 +417,12 @@ public class BarChartRenderer extends DataRenderer {
 
                             float[] transformed = new float[vals.length * 2];
 
-                            float posY = 0f;
-                            float negY = -entry.getNegativeSum();
+                            Range[] ranges = entry.getRanges();
 
                             for (int k = 0, idx = 0; k < transformed.length; k += 2, idx++) {
 
-                                float value = vals[idx];
-                                float y;
-
-                                if (value >= 0f) {
-                                    posY += value;
-                                    y = posY;
-                                } else {
-                                    y = negY;
-                                    negY -= value;
-                                }
+                                // top of positive, bottom of negative stack-values
+                                float y = vals[idx] >= 0f ? ranges[idx].to : ranges[idx].from;
 
                                 transformed[k + 1] = y * mAnimator.getPhaseY();
                             }
@@ -41,12 +41,19 @@ public class BubbleChartRenderer extends DataRenderer {
 
     }
 
+    @Override
+    public boolean isCountingEntries() {
+        return true;
+    }
+
     @Override
     public void drawData(Canvas c) {
 
         BubbleData bubbleData = mChart.getBubbleData();
 
-        for (IBubbleDataSet set : bubbleData.getDataSets()) {
+        for (int i = 0; i < bubbleData.getDataSetCount(); i++) {
+
+            IBubbleDataSet set = bubbleData.getDataSetByIndex(i);
 
             if (set.isVisible() && set.getEntryCount() > 0)
                 drawDataSet(c, set);
@@ -85,6 +92,8 @@ public class BubbleChartRenderer extends DataRenderer {
         final float maxBubbleHeight = Math.abs(mViewPortHandler.contentBottom() - mViewPortHandler.contentTop());
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
+        int bubbles = 0;
+
         for (int j = minx; j < maxx; j++) {
 
             final BubbleEntry entry = dataSet.getEntryForIndex(j);
@@ -109,7 +118,11 @@ public class BubbleChartRenderer extends DataRenderer {
 
             mRenderPaint.setColor(color);
             c.drawCircle(pointBuffer[0], pointBuffer[1], shapeHalf, mRenderPaint);
+            bubbles++;
         }
+
+        mEntriesDrawn += bubbles;
+        mDrawCalls += bubbles;
     }
 
     @Override
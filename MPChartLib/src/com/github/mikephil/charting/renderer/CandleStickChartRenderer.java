@@ -38,18 +38,41 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     }
 
+    @Override
+    public boolean isCountingEntries() {
+        return true;
+    }
+
     @Override
     public void drawData(Canvas c) {
 
         CandleData candleData = mChart.getCandleData();
 
-        for (ICandleDataSet set : candleData.getDataSets()) {
+        for (int i = 0; i < candleData.getDataSetCount(); i++) {
 
-            if (set.isVisible() && set.getEntryCount() > 0)
+            ICandleDataSet set = candleData.getDataSetByIndex(i);
+
+            if (set.isVisible() && set.getEntryCount() > 0 && isDataSetInContent(set))
                 drawDataSet(c, set);
         }
     }
 
+    /**
+     * Returns true if any candle of the given DataSet could be visible inside
+     * the content rect. The y-extents of the DataSet cover the shadows.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean isDataSetInContent(ICandleDataSet dataSet) {
+
+        float phaseY = mAnimator.getPhaseY();
+
+        return isYRangeVisible(mChart.getTransformer(dataSet.getAxisDependency()),
+                dataSet.getYMin() * phaseY, dataSet.getYMax() * phaseY,
+                dataSet.getShadowWidth());
+    }
+
     protected void drawDataSet(Canvas c, ICandleDataSet dataSet) {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -64,6 +87,8 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
+        int candles = 0;
+
         // draw the body
         for (int j = minx,
              count = (int) Math.ceil((maxx - minx) * phaseX + (float)minx);
@@ -251,7 +276,13 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                         mRenderPaint);
 
             }
+
+            candles++;
         }
+
+        // a candle-bar is drawn with 2 calls, an OHLC-bar with 3
+        mEntriesDrawn += candles;
+        mDrawCalls += candles * (showCandleBar ? 2 : 3);
     }
 
     @Override
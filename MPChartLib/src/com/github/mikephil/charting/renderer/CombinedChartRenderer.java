@@ -94,6 +94,129 @@ public class CombinedChartRenderer extends DataRenderer {
             renderer.drawValues(c);
     }
 
+    @Override
+    public void prepareValueLabelCulling(boolean enabled) {
+        super.prepareValueLabelCulling(enabled);
+
+        // all sub-renderers share one grid, values of different data types cannot overlap
+        for (DataRenderer renderer : mRenderers)
+            renderer.mValueLabelGrid = mValueLabelGrid;
+    }
+
+    @Override
+    public void prepareDataSetCulling(boolean enabled) {
+        super.prepareDataSetCulling(enabled);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.prepareDataSetCulling(enabled);
+    }
+
+    @Override
+    public void setParallelPreparationEnabled(boolean enabled) {
+        super.setParallelPreparationEnabled(enabled);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setParallelPreparationEnabled(enabled);
+    }
+
+    @Override
+    public void releaseBitmap() {
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.releaseBitmap();
+    }
+
+    @Override
+    public void releaseBuffers() {
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.releaseBuffers();
+    }
+
+    @Override
+    public void resetCounters() {
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.resetCounters();
+    }
+
+    @Override
+    public boolean isCountingEntries() {
+
+        for (DataRenderer renderer : mRenderers) {
+            if (!renderer.isCountingEntries())
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int getEntriesDrawn() {
+
+        if (!isCountingEntries())
+            return -1;
+
+        int count = 0;
+
+        for (DataRenderer renderer : mRenderers)
+            count += renderer.getEntriesDrawn();
+
+        return count;
+    }
+
+    @Override
+    public int getDrawCalls() {
+
+        int count = 0;
+
+        for (DataRenderer renderer : mRenderers)
+            count += renderer.getDrawCalls();
+
+        return count;
+    }
+
+    @Override
+    public long getBufferBytes() {
+
+        long bytes = 0;
+
+        for (DataRenderer renderer : mRenderers)
+            bytes += renderer.getBufferBytes();
+
+        return bytes;
+    }
+
+    @Override
+    public long getBitmapBytes() {
+
+        long bytes = 0;
+
+        for (DataRenderer renderer : mRenderers)
+            bytes += renderer.getBitmapBytes();
+
+        return bytes;
+    }
+
+    @Override
+    public long getValueTextCacheBytes() {
+
+        long bytes = super.getValueTextCacheBytes();
+
+        for (DataRenderer renderer : mRenderers)
+            bytes += renderer.getValueTextCacheBytes();
+
+        return bytes;
+    }
+
+    @Override
+    public void clearValueTextCaches() {
+        super.clearValueTextCaches();
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.clearValueTextCaches();
+    }
+
     @Override
     public void drawExtras(Canvas c) {
 
@@ -6,15 +6,23 @@ import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.Paint.Style;
+import android.graphics.RectF;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.BufferedValueFormatter;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.LabelCollisionGrid;
+import com.github.mikephil.charting.utils.ParallelExecutor;
+import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ValueTextCache;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.WeakHashMap;
+
 /**
  * Superclass of all render classes for the different data types (line, bar, ...).
  *
@@ -47,6 +55,78 @@ public abstract class DataRenderer extends Renderer {
 
     protected Highlight[] mHighlighted;
 
+    /**
+     * buffer the value-text is formatted into before it is drawn
+     */
+    protected char[] mValueTextBuffer = new char[BufferedValueFormatter.MIN_BUFFER_SIZE];
+
+    /**
+     * the width of the text currently in the value-text buffer if it is
+     * known (cached), NaN if not
+     */
+    protected float mValueTextWidth = Float.NaN;
+
+    /**
+     * the value-text cache of the DataSet whose values are currently drawn,
+     * null if caching is disabled for it
+     */
+    protected ValueTextCache mValueTextCache;
+
+    /**
+     * value-text caches of all DataSets that have caching enabled
+     */
+    protected WeakHashMap<IDataSet, ValueTextCache> mValueTextCaches = new WeakHashMap<IDataSet, ValueTextCache>();
+
+    /**
+     * the number of value-texts cached per DataSet
+     */
+    protected int mValueTextCacheSize = 512;
+
+    /**
+     * grid of the already drawn value-labels of the current frame, null if
+     * overlapping value-labels are not culled
+     */
+    protected LabelCollisionGrid mValueLabelGrid;
+
+    /**
+     * font metrics of the value-paint, used for the bounds of culled labels
+     */
+    protected Paint.FontMetrics mValueFontMetrics = new Paint.FontMetrics();
+
+    /**
+     * if true, the buffers of all DataSets are filled and transformed on
+     * multiple threads before drawing
+     */
+    protected boolean mParallelPreparationEnabled = false;
+
+    /**
+     * runs the parallel preparation, created when it is first needed and
+     * reused for every frame
+     */
+    private ParallelExecutor mParallelExecutor;
+
+    /**
+     * if true, DataSets whose cached y-extents lie completely outside of the
+     * content rect are not drawn, -> prepareDataSetCulling(...)
+     */
+    protected boolean mDataSetCullingEnabled = true;
+
+    /**
+     * buffer for transforming the y-extents of a DataSet to pixels
+     */
+    protected float[] mExtentsBuffer = new float[4];
+
+    /**
+     * the number of entries drawn since the last resetCounters() call
+     */
+    protected int mEntriesDrawn = 0;
+
+    /**
+     * the number of draw-calls issued on the canvas for the data since the
+     * last resetCounters() call
+     */
+    protected int mDrawCalls = 0;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -106,6 +186,80 @@ public abstract class DataRenderer extends Renderer {
 
         mValuePaint.setTypeface(set.getValueTypeface());
         mValuePaint.setTextSize(set.getValueTextSize());
+
+        if (mValueLabelGrid != null)
+            mValuePaint.getFontMetrics(mValueFontMetrics);
+
+        if (set.isValueTextCacheEnabled()) {
+
+            mValueTextCache = mValueTextCaches.get(set);
+
+            if (mValueTextCache == null) {
+                mValueTextCache = new ValueTextCache(mValueTextCacheSize);
+                mValueTextCaches.put(set, mValueTextCache);
+            }
+
+            mValueTextCache.validate(set.getValueFormatter(), mValuePaint);
+        } else {
+            mValueTextCache = null;
+        }
+    }
+
+    /**
+     * Sets the number of formatted value-texts that are cached per DataSet
+     * (for DataSets that have value-text caching enabled), the least recently
+     * drawn texts are replaced first. Should be at least the number of values
+     * visible at once. Existing caches are dropped. Default: 512
+     *
+     * @param size
+     */
+    public void setValueTextCacheSize(int size) {
+        mValueTextCacheSize = size;
+        clearValueTextCaches();
+    }
+
+    /**
+     * Drops all cached value-texts.
+     */
+    public void clearValueTextCaches() {
+        mValueTextCaches.clear();
+        mValueTextCache = null;
+    }
+
+    /**
+     * If set to true, the buffers of all DataSets are filled and transformed
+     * to pixels in parallel on all cores before the first one is drawn, only
+     * the drawing itself is done on the calling thread. Only pays off for
+     * charts with many large DataSets on multi-core devices. Renderers that
+     * do not support it ignore the setting. Default: false
+     *
+     * @param enabled
+     */
+    public void setParallelPreparationEnabled(boolean enabled) {
+        mParallelPreparationEnabled = enabled;
+    }
+
+    /**
+     * Returns true if the buffers of the DataSets are prepared in parallel.
+     *
+     * @return
+     */
+    public boolean isParallelPreparationEnabled() {
+        return mParallelPreparationEnabled;
+    }
+
+    /**
+     * Returns the ParallelExecutor of this renderer that prepares the buffers
+     * of the DataSets in parallel, creates it if needed.
+     *
+     * @return
+     */
+    protected ParallelExecutor getParallelExecutor() {
+
+        if (mParallelExecutor == null)
+            mParallelExecutor = new ParallelExecutor();
+
+        return mParallelExecutor;
     }
 
     /**
@@ -115,6 +269,92 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void initBuffers();
 
+    /**
+     * Returns the bitmaps this renderer borrowed from the BitmapPool, called
+     * when the chart is detached from the window. Does nothing by default.
+     */
+    public void releaseBitmap() {
+    }
+
+    /**
+     * Releases the buffers of the DataSets, they are initialized again the
+     * next time the data is drawn. Does nothing by default.
+     */
+    public void releaseBuffers() {
+    }
+
+    /**
+     * Returns the number of bytes of the buffers of the DataSets.
+     *
+     * @return
+     */
+    public long getBufferBytes() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of bytes of the bitmaps held by this renderer.
+     *
+     * @return
+     */
+    public long getBitmapBytes() {
+        return 0;
+    }
+
+    /**
+     * Returns the estimated number of bytes of all value-text caches.
+     *
+     * @return
+     */
+    public long getValueTextCacheBytes() {
+
+        long bytes = 0;
+
+        for (ValueTextCache cache : mValueTextCaches.values())
+            bytes += cache.getByteEstimate();
+
+        return bytes;
+    }
+
+    /**
+     * Resets the counters of drawn entries and draw-calls, called by the
+     * chart before every frame if metrics are enabled.
+     */
+    public void resetCounters() {
+        mEntriesDrawn = 0;
+        mDrawCalls = 0;
+    }
+
+    /**
+     * Returns true if the renderer counts the entries it draws. Renderers
+     * that draw entries need to override this and add to mEntriesDrawn.
+     *
+     * @return
+     */
+    public boolean isCountingEntries() {
+        return false;
+    }
+
+    /**
+     * Returns the number of entries drawn since the last resetCounters()
+     * call, -1 if the renderer does not count them.
+     *
+     * @return
+     */
+    public int getEntriesDrawn() {
+        return isCountingEntries() ? mEntriesDrawn : -1;
+    }
+
+    /**
+     * Returns the number of draw-calls issued on the canvas for the data
+     * since the last resetCounters() call.
+     *
+     * @return
+     */
+    public int getDrawCalls() {
+        return mDrawCalls;
+    }
+
     /**
      * Draws the actual data in form of lines, bars, ... depending on Renderer subclass.
      *
@@ -142,9 +382,215 @@ public abstract class DataRenderer extends Renderer {
      * @param color
      */
     public void drawValue(Canvas c, ValueFormatter formatter, float value, Entry entry, int dataSetIndex, float x, float y, int color) {
-        String text = formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler);
+        int length = formatValue(formatter, value, entry, dataSetIndex);
+        drawValueText(c, length, x, y, color);
+    }
+
+    /**
+     * Formats the given value into the value-text buffer and returns the number
+     * of characters. A BufferedValueFormatter writes into the buffer directly
+     * without allocating, any other ValueFormatter is asked for a String which
+     * is copied into the buffer.
+     *
+     * @param formatter    formatter for custom value-formatting
+     * @param value        the value to be formatted
+     * @param entry        the entry the value belongs to
+     * @param dataSetIndex the index of the DataSet the Entry belongs to
+     * @return the number of characters in the value-text buffer
+     */
+    protected int formatValue(ValueFormatter formatter, float value, Entry entry, int dataSetIndex) {
+
+        if (mValueTextCache != null) {
+
+            int slot = mValueTextCache.indexOf(entry, value);
+
+            if (slot >= 0) {
+
+                final int length = mValueTextCache.getLength(slot);
+
+                if (length > mValueTextBuffer.length)
+                    mValueTextBuffer = new char[length];
+
+                System.arraycopy(mValueTextCache.getText(slot), 0, mValueTextBuffer, 0, length);
+
+                mValueTextWidth = mValueTextCache.getWidth(slot);
+                return length;
+            }
+        }
+
+        final int length;
+
+        if (formatter instanceof BufferedValueFormatter)
+            length = ((BufferedValueFormatter) formatter).getFormattedValue(value, entry, dataSetIndex,
+                    mViewPortHandler, mValueTextBuffer);
+        else
+            length = copyToValueTextBuffer(formatter.getFormattedValue(value, entry, dataSetIndex,
+                    mViewPortHandler));
+
+        if (mValueTextCache != null) {
+            int slot = mValueTextCache.put(entry, value, mValueTextBuffer, length, mValuePaint);
+            mValueTextWidth = mValueTextCache.getWidth(slot);
+        } else {
+            mValueTextWidth = Float.NaN;
+        }
+
+        return length;
+    }
+
+    /**
+     * Copies the given text into the value-text buffer and returns the number
+     * of characters.
+     *
+     * @param text
+     * @return
+     */
+    protected int copyToValueTextBuffer(String text) {
+
+        final int length = text.length();
+
+        if (length > mValueTextBuffer.length)
+            mValueTextBuffer = new char[length];
+
+        text.getChars(0, length, mValueTextBuffer, 0);
+        return length;
+    }
+
+    /**
+     * Returns the width of the text in the value-text buffer (filled by
+     * formatValue(...)). Uses the cached width if available, measures the
+     * text otherwise.
+     *
+     * @param length
+     * @return
+     */
+    protected float getValueTextWidth(int length) {
+
+        if (!Float.isNaN(mValueTextWidth))
+            return mValueTextWidth;
+
+        return mValuePaint.measureText(mValueTextBuffer, 0, length);
+    }
+
+    /**
+     * Draws the first length characters of the value-text buffer (filled by
+     * formatValue(...)) at the given position.
+     *
+     * @param c
+     * @param length
+     * @param x
+     * @param y
+     * @param color
+     */
+    protected void drawValueText(Canvas c, int length, float x, float y, int color) {
+
+        if (mValueLabelGrid != null && !placeValueLabel(length, x, y))
+            return;
+
         mValuePaint.setColor(color);
-        c.drawText(text, x, y, mValuePaint);
+        c.drawText(mValueTextBuffer, 0, length, x, y, mValuePaint);
+    }
+
+    /**
+     * Places the bounds of the value-label in the value-text buffer in the
+     * collision grid. Returns false if it overlaps an already drawn label.
+     *
+     * @param length
+     * @param x
+     * @param y
+     * @return
+     */
+    protected boolean placeValueLabel(int length, float x, float y) {
+
+        final float width = getValueTextWidth(length);
+
+        float left = x;
+
+        if (mValuePaint.getTextAlign() == Align.CENTER)
+            left -= width / 2f;
+        else if (mValuePaint.getTextAlign() == Align.RIGHT)
+            left -= width;
+
+        return mValueLabelGrid.place(left, y + mValueFontMetrics.ascent,
+                left + width, y + mValueFontMetrics.descent);
+    }
+
+    /**
+     * Prepares culling of overlapping value-labels for a new frame. Needs to
+     * be called once per frame before the values are drawn. If enabled, a
+     * value-label is skipped if it overlaps a value-label that was already
+     * drawn in the same frame.
+     *
+     * @param enabled
+     */
+    public void prepareValueLabelCulling(boolean enabled) {
+
+        if (!enabled) {
+            mValueLabelGrid = null;
+            return;
+        }
+
+        if (mValueLabelGrid == null)
+            mValueLabelGrid = new LabelCollisionGrid(Utils.convertDpToPixel(24f));
+
+        RectF content = mViewPortHandler.getContentRect();
+        mValueLabelGrid.reset(content.left, content.top, content.right, content.bottom);
+    }
+
+    /**
+     * Prepares culling of DataSets by their y-extents for a new frame. The
+     * cached minimum and maximum y-values of the DataSets need to cover all
+     * entries that are drawn, which is not the case if they have been
+     * calculated for the visible x-range only (auto-scaling).
+     *
+     * @param enabled
+     */
+    public void prepareDataSetCulling(boolean enabled) {
+        mDataSetCullingEnabled = enabled;
+    }
+
+    /**
+     * Returns true if anything between the given y-values could be visible
+     * inside the content rect, taking into account that the drawn shapes can
+     * extend the given number of pixels beyond their values. Always returns
+     * true if DataSet-culling is disabled or the range is empty.
+     *
+     * @param trans
+     * @param yMin
+     * @param yMax
+     * @param margin
+     * @return
+     */
+    protected boolean isYRangeVisible(Transformer trans, float yMin, float yMax, float margin) {
+
+        if (!mDataSetCullingEnabled || yMin > yMax)
+            return true;
+
+        float[] pts = mExtentsBuffer;
+        pts[0] = 0f;
+        pts[1] = yMin;
+        pts[2] = 0f;
+        pts[3] = yMax;
+
+        trans.pointValuesToPixel(pts);
+
+        return isPixelRangeInContent(pts, margin);
+    }
+
+    /**
+     * Returns true if the y-range between the two transformed points in the
+     * given buffer overlaps the content rect extended by the margin.
+     *
+     * @param pts
+     * @param margin
+     * @return
+     */
+    protected boolean isPixelRangeInContent(float[] pts, float margin) {
+
+        float top = Math.min(pts[1], pts[3]);
+        float bottom = Math.max(pts[1], pts[3]);
+
+        return bottom >= mViewPortHandler.contentTop() - margin
+                && top <= mViewPortHandler.contentBottom() + margin;
     }
 
     /**
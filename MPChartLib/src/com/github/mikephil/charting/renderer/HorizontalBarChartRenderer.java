@@ -10,6 +10,7 @@ import com.github.mikephil.charting.buffer.HorizontalBarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.utils.Transformer;
@@ -49,23 +50,11 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
     @Override
     protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
 
-        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
-
         mShadowPaint.setColor(dataSet.getBarShadowColor());
 
-        float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
-
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setBarSpace(dataSet.getBarSpace());
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+        BarBuffer buffer = obtainPreparedBuffer(dataSet, index);
 
-        buffer.feed(dataSet);
-
-        trans.pointValuesToPixel(buffer.buffer);
+        int bars = 0;
 
         for (int j = 0; j < buffer.size(); j += 4) {
 
@@ -75,10 +64,14 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                 continue;
 
+            if (isBarOutsideY(buffer.buffer, j))
+                continue;
+
             if (mChart.isDrawBarShadowEnabled()) {
                 c.drawRect(mViewPortHandler.contentLeft(), buffer.buffer[j + 1],
                         mViewPortHandler.contentRight(),
                         buffer.buffer[j + 3], mShadowPaint);
+                mDrawCalls++;
             }
 
             // Set the color for the currently drawn value. If the index
@@ -87,7 +80,58 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             mRenderPaint.setColor(dataSet.getColor(j / 4));
             c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
                     buffer.buffer[j + 3], mRenderPaint);
+            bars++;
         }
+
+        // stacked entries are drawn as one bar per value
+        mDrawCalls += bars;
+        mEntriesDrawn += dataSet.isStacked() ? bars / dataSet.getStackSize() : bars;
+    }
+
+    /**
+     * The transformer of the HorizontalBarChart maps the y-values from the
+     * even positions of the buffer to the x-axis of the screen.
+     */
+    @Override
+    protected boolean isYRangeVisible(Transformer trans, float yMin, float yMax, float margin) {
+
+        if (!mDataSetCullingEnabled || yMin > yMax)
+            return true;
+
+        float[] pts = mExtentsBuffer;
+        pts[0] = yMin;
+        pts[1] = 0f;
+        pts[2] = yMax;
+        pts[3] = 0f;
+
+        trans.pointValuesToPixel(pts);
+
+        return isPixelRangeInContent(pts, margin);
+    }
+
+    /**
+     * The y-values of horizontal bars run along the x-axis of the screen.
+     */
+    @Override
+    protected boolean isPixelRangeInContent(float[] pts, float margin) {
+
+        float left = Math.min(pts[0], pts[2]);
+        float right = Math.max(pts[0], pts[2]);
+
+        return right >= mViewPortHandler.contentLeft() - margin
+                && left <= mViewPortHandler.contentRight() + margin;
+    }
+
+    @Override
+    protected boolean isBarOutsideY(float[] buffer, int j) {
+
+        if (mChart.isDrawBarShadowEnabled())
+            return false;
+
+        float left = Math.min(buffer[j], buffer[j + 2]);
+        float right = Math.max(buffer[j], buffer[j + 2]);
+
+        return right < mViewPortHandler.contentLeft() || left > mViewPortHandler.contentRight();
     }
 
     @Override
@@ -137,10 +181,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
                         BarEntry e = dataSet.getEntryForIndex(j / 2);
                         float val = e.getVal();
-                        String formattedValue = formatter.getFormattedValue(val, e, i, mViewPortHandler);
+                        int valueTextLength = formatValue(formatter, val, e, i);
 
                         // calculate the correct offset depending on the draw position of the value
-                        float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                        float valueTextWidth = getValueTextWidth(valueTextLength);
                         posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                         negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -149,7 +193,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             negOffset = -negOffset - valueTextWidth;
                         }
 
-                        drawValue(c, formattedValue, valuePoints[j] + (val >= 0 ? posOffset : negOffset),
+                        drawValueText(c, valueTextLength, valuePoints[j] + (val >= 0 ? posOffset : negOffset),
                                 valuePoints[j + 1] + halfTextHeight, dataSet.getValueTextColor(j / 2));
                     }
 
@@ -177,10 +221,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 continue;
 
                             float val = e.getVal();
-                            String formattedValue = formatter.getFormattedValue(val, e, i, mViewPortHandler);
+                            int valueTextLength = formatValue(formatter, val, e, i);
 
                             // calculate the correct offset depending on the draw position of the value
-                            float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                            float valueTextWidth = getValueTextWidth(valueTextLength);
                             posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                             negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -189,7 +233,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 negOffset = -negOffset - valueTextWidth;
                             }
 
-                            drawValue(c, formattedValue, valuePoints[j]
+                            drawValueText(c, valueTextLength, valuePoints[j]
                                             + (e.getVal() >= 0 ? posOffset : negOffset),
                                     valuePoints[j + 1] + halfTextHeight, dataSet.getValueTextColor(j / 2));
 
@@ -197,21 +241,12 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
                             float[] transformed = new float[vals.length * 2];
 
-                            float posY = 0f;
-                            float negY = -e.getNegativeSum();
+                            Range[] ranges = e.getRanges();
 
                             for (int k = 0, idx = 0; k < transformed.length; k += 2, idx++) {
 
-                                float value = vals[idx];
-                                float y;
-
-                                if (value >= 0f) {
-                                    posY += value;
-                                    y = posY;
-                                } else {
-                                    y = negY;
-                                    negY -= value;
-                                }
+                                // top of positive, bottom of negative stack-values
+                                float y = vals[idx] >= 0f ? ranges[idx].to : ranges[idx].from;
 
                                 transformed[k] = y * mAnimator.getPhaseY();
                             }
@@ -221,10 +256,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             for (int k = 0; k < transformed.length; k += 2) {
 
                                 float val = vals[k / 2];
-                                String formattedValue = formatter.getFormattedValue(val, e, i, mViewPortHandler);
+                                int valueTextLength = formatValue(formatter, val, e, i);
 
                                 // calculate the correct offset depending on the draw position of the value
-                                float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                                float valueTextWidth = getValueTextWidth(valueTextLength);
                                 posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                                 negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -246,7 +281,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 if (!mViewPortHandler.isInBoundsBottom(y))
                                     continue;
 
-                                drawValue(c, formattedValue, x, y + halfTextHeight, dataSet.getValueTextColor(j / 2));
+                                drawValueText(c, valueTextLength, x, y + halfTextHeight, dataSet.getValueTextColor(j / 2));
                             }
                         }
                     }
@@ -255,9 +290,22 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         }
     }
 
+    /**
+     * Draws the given value-text at the given position.
+     *
+     * This method is deprecated because the values are no longer drawn from
+     * Strings. Use formatValue(...) and drawValueText(...) instead.
+     *
+     * @param c
+     * @param valueText
+     * @param x
+     * @param y
+     * @param color
+     */
+    @Deprecated
     protected void drawValue(Canvas c, String valueText, float x, float y, int color) {
-        mValuePaint.setColor(color);
-        c.drawText(valueText, x, y, mValuePaint);
+        mValueTextWidth = Float.NaN;
+        drawValueText(c, copyToValueTextBuffer(valueText), x, y, color);
     }
 
     @Override
@@ -20,10 +20,12 @@ import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
+import com.github.mikephil.charting.utils.MemoryStats;
+import com.github.mikephil.charting.utils.ParallelExecutor;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
-import java.lang.ref.WeakReference;
 import java.util.List;
 
 public class LineChartRenderer extends LineRadarRenderer {
@@ -39,9 +41,9 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     /**
      * Bitmap object used for drawing the paths (otherwise they are too long if
-     * rendered directly on the canvas)
+     * rendered directly on the canvas), borrowed from the BitmapPool
      */
-    protected WeakReference<Bitmap> mDrawBitmap;
+    protected Bitmap mDrawBitmap;
 
     /**
      * on this canvas, the paths are rendered, it is initialized with the
@@ -64,6 +66,36 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     protected CircleBuffer[] mCircleBuffers;
 
+    /**
+     * true for every line-buffer that has already been prepared in parallel
+     * for the current frame
+     */
+    protected boolean[] mBuffersPrepared;
+
+    /**
+     * true for every DataSet that is drawn in the current frame
+     */
+    protected boolean[] mDrawnDataSets;
+
+    /**
+     * prepares the buffer of a DataSet that is drawn in the current frame,
+     * run in parallel for all DataSets
+     */
+    private final ParallelExecutor.IndexedTask mPrepareTask = new ParallelExecutor.IndexedTask() {
+        @Override
+        public void run(int index) {
+
+            ILineDataSet set = mChart.getLineData().getDataSetByIndex(index);
+
+            // only straight lines are drawn from a prepared buffer
+            if (mDrawnDataSets[index]
+                    && set.getApproximation() == ILineDataSet.APPROXIMATION_NONE) {
+                prepareLinearBuffer(set, index, getLinearFrom(set), getLinearTo(set));
+                mBuffersPrepared[index] = true;
+            }
+        }
+    };
+
     DisplayMetrics displayMetrics;
 
     public LineChartRenderer(LineDataProvider chart, ChartAnimator animator,
@@ -95,35 +127,81 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    @Override
+    public void releaseBuffers() {
+        mLineBuffers = null;
+        mCircleBuffers = null;
+        mBuffersPrepared = null;
+    }
+
+    @Override
+    public long getBufferBytes() {
+        return MemoryStats.estimateBuffers(mLineBuffers) + MemoryStats.estimateBuffers(mCircleBuffers);
+    }
+
+    @Override
+    public long getBitmapBytes() {
+        return BitmapPool.getBytes(mDrawBitmap);
+    }
+
+    @Override
+    public boolean isCountingEntries() {
+        return true;
+    }
+
     @Override
     public void drawData(Canvas c) {
 
+        // the buffers might have been released to save memory
+        if (mLineBuffers == null)
+            initBuffers();
+
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
         if (mDrawBitmap == null
-                || (mDrawBitmap.get().getWidth() != width)
-                || (mDrawBitmap.get().getHeight() != height)) {
+                || (mDrawBitmap.getWidth() != width)
+                || (mDrawBitmap.getHeight() != height)) {
 
             if (width > 0 && height > 0) {
 
-                mDrawBitmap = new WeakReference<Bitmap>(Bitmap.createBitmap(width, height, mBitmapConfig));
-                mBitmapCanvas = new Canvas(mDrawBitmap.get());
+                releaseBitmap();
+                mDrawBitmap = BitmapPool.obtain(width, height, mBitmapConfig);
+                mBitmapCanvas = new Canvas(mDrawBitmap);
             } else
                 return;
         }
 
-        mDrawBitmap.get().eraseColor(Color.TRANSPARENT);
+        mDrawBitmap.eraseColor(Color.TRANSPARENT);
 
         LineData lineData = mChart.getLineData();
 
-        for (ILineDataSet set : lineData.getDataSets()) {
+        if (mDrawnDataSets == null || mDrawnDataSets.length < lineData.getDataSetCount())
+            mDrawnDataSets = new boolean[lineData.getDataSetCount()];
+
+        for (int i = 0; i < lineData.getDataSetCount(); i++) {
+
+            ILineDataSet set = lineData.getDataSetByIndex(i);
+
+            mDrawnDataSets[i] = set.isVisible() && set.getEntryCount() > 0
+                    && isDataSetInContent(set);
+        }
+
+        if (mParallelPreparationEnabled && lineData.getDataSetCount() > 1) {
 
-            if (set.isVisible() && set.getEntryCount() > 0)
-                drawDataSet(c, set);
+            if (mBuffersPrepared == null || mBuffersPrepared.length < mLineBuffers.length)
+                mBuffersPrepared = new boolean[mLineBuffers.length];
+
+            getParallelExecutor().execute(lineData.getDataSetCount(), mPrepareTask);
+        }
+
+        for (int i = 0; i < lineData.getDataSetCount(); i++) {
+
+            if (mDrawnDataSets[i])
+                drawDataSet(c, lineData.getDataSetByIndex(i));
         }
 
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, mRenderPaint);
+        c.drawBitmap(mDrawBitmap, 0, 0, mRenderPaint);
     }
 
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
@@ -258,6 +336,9 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
 
+        mEntriesDrawn += Math.max(size - minx, 0);
+        mDrawCalls += dataSet.isDrawFilledEnabled() ? 2 : 1;
+
         mRenderPaint.setPathEffect(null);
     }
 
@@ -300,9 +381,6 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-        float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
-
         mRenderPaint.setStyle(Paint.Style.STROKE);
 
         Canvas canvas = null;
@@ -314,21 +392,26 @@ public class LineChartRenderer extends LineRadarRenderer {
             canvas = c;
         }
 
-        Entry entryFrom = dataSet.getEntryForXIndex((mMinX < 0) ? 0 : mMinX, DataSet.Rounding.DOWN);
-        Entry entryTo = dataSet.getEntryForXIndex(mMaxX, DataSet.Rounding.UP);
-
-        int minx = Math.max(dataSet.getEntryIndex(entryFrom), 0);
-        int maxx = Math.min(dataSet.getEntryIndex(entryTo) + 1, entryCount);
+        int minx = getLinearFrom(dataSet);
+        int maxx = getLinearTo(dataSet);
 
         int range = (maxx - minx) * 4 - 4;
 
         LineBuffer buffer = mLineBuffers[dataSetIndex];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.limitFrom(minx);
-        buffer.limitTo(maxx);
-        buffer.feed(dataSet);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        if (mBuffersPrepared != null && dataSetIndex < mBuffersPrepared.length
+                && mBuffersPrepared[dataSetIndex])
+            mBuffersPrepared[dataSetIndex] = false;
+        else
+            prepareLinearBuffer(dataSet, dataSetIndex, minx, maxx);
+
+        // segments are only cut off beyond the stroke, where the canvas clips anyway
+        float margin = dataSet.getLineWidth();
+        float clipTop = mViewPortHandler.contentTop() - margin;
+        float clipBottom = mViewPortHandler.contentBottom() + margin;
+
+        // moving the start of a dashed segment would shift its dash pattern
+        boolean clip = !dataSet.isDashedLineEnabled();
 
         // more than 1 color
         if (dataSet.getColors().size() > 1) {
@@ -341,10 +424,7 @@ public class LineChartRenderer extends LineRadarRenderer {
                 // make sure the lines don't do shitty things outside
                 // bounds
                 if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2])
-                        || (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 1]) && !mViewPortHandler
-                        .isInBoundsBottom(buffer.buffer[j + 3]))
-                        || (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 1]) && !mViewPortHandler
-                        .isInBoundsBottom(buffer.buffer[j + 3])))
+                        || !clipSegmentY(buffer.buffer, j, clipTop, clipBottom, clip))
                     continue;
 
                 // get the color that is set for this line-segment
@@ -352,25 +432,173 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 canvas.drawLine(buffer.buffer[j], buffer.buffer[j + 1],
                         buffer.buffer[j + 2], buffer.buffer[j + 3], mRenderPaint);
+                mDrawCalls++;
             }
 
         } else { // only one color per dataset
 
             mRenderPaint.setColor(dataSet.getColor());
 
-            // c.drawLines(buffer.buffer, mRenderPaint);
-            canvas.drawLines(buffer.buffer, 0, range,
-                    mRenderPaint);
+            drawClippedLines(canvas, buffer.buffer, range, clipTop, clipBottom, clip);
         }
 
         mRenderPaint.setPathEffect(null);
 
+        mEntriesDrawn += Math.max(maxx - minx, 0);
+
         // if drawing filled is enabled
         if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
             drawLinearFill(c, dataSet, minx, maxx, trans);
+            mDrawCalls++;
         }
     }
 
+    /**
+     * Returns true if any part of the given DataSet could be visible inside
+     * the content rect. Only straight, unfilled lines are culled by their
+     * y-extents, curves can overshoot the values and fills reach down to the
+     * fill-line.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean isDataSetInContent(ILineDataSet dataSet) {
+
+        if (dataSet.getApproximation() != ILineDataSet.APPROXIMATION_NONE
+                || dataSet.isDrawFilledEnabled())
+            return true;
+
+        float phaseY = mAnimator.getPhaseY();
+
+        return isYRangeVisible(mChart.getTransformer(dataSet.getAxisDependency()),
+                dataSet.getYMin() * phaseY, dataSet.getYMax() * phaseY, dataSet.getLineWidth());
+    }
+
+    /**
+     * Draws the given line-segments, skipping runs of segments that lie
+     * completely above or below the given y-range. If clip is true,
+     * segments crossing the range are cut off at its edges in place, so no
+     * far off-screen coordinates are handed to the canvas when zoomed in
+     * vertically.
+     *
+     * @param c
+     * @param pts
+     * @param count the number of floats to draw, 4 per segment
+     * @param top
+     * @param bottom
+     * @param clip
+     */
+    protected void drawClippedLines(Canvas c, float[] pts, int count, float top, float bottom,
+                                    boolean clip) {
+
+        int runStart = 0;
+
+        for (int j = 0; j < count; j += 4) {
+
+            if (clipSegmentY(pts, j, top, bottom, clip))
+                continue;
+
+            if (j > runStart) {
+                c.drawLines(pts, runStart, j - runStart, mRenderPaint);
+                mDrawCalls++;
+            }
+
+            runStart = j + 4;
+        }
+
+        if (count > runStart) {
+            c.drawLines(pts, runStart, count - runStart, mRenderPaint);
+            mDrawCalls++;
+        }
+    }
+
+    /**
+     * Returns false if the line-segment at the given position in the buffer
+     * lies completely above or below the given y-range. Otherwise the
+     * segment is cut off at the edges of the range in place if clip is true.
+     *
+     * @param pts
+     * @param j
+     * @param top
+     * @param bottom
+     * @param clip
+     * @return
+     */
+    protected boolean clipSegmentY(float[] pts, int j, float top, float bottom, boolean clip) {
+
+        float x1 = pts[j], y1 = pts[j + 1];
+        float x2 = pts[j + 2], y2 = pts[j + 3];
+
+        if ((y1 < top && y2 < top) || (y1 > bottom && y2 > bottom))
+            return false;
+
+        if (!clip)
+            return true;
+
+        // the segment reaches into the range, so y1 != y2 for every end that is cut
+        if (y1 < top || y1 > bottom) {
+            float edge = y1 < top ? top : bottom;
+            pts[j] = x1 + (x2 - x1) * (edge - y1) / (y2 - y1);
+            pts[j + 1] = edge;
+        }
+
+        if (y2 < top || y2 > bottom) {
+            float edge = y2 < top ? top : bottom;
+            pts[j + 2] = x2 + (x1 - x2) * (edge - y2) / (y1 - y2);
+            pts[j + 3] = edge;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the index of the first entry of the given DataSet that is drawn
+     * as part of a straight line.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected int getLinearFrom(ILineDataSet dataSet) {
+        Entry entryFrom = dataSet.getEntryForXIndex((mMinX < 0) ? 0 : mMinX, DataSet.Rounding.DOWN);
+        return Math.max(dataSet.getEntryIndex(entryFrom), 0);
+    }
+
+    /**
+     * Returns the index after the last entry of the given DataSet that is
+     * drawn as part of a straight line.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected int getLinearTo(ILineDataSet dataSet) {
+        Entry entryTo = dataSet.getEntryForXIndex(mMaxX, DataSet.Rounding.UP);
+        return Math.min(dataSet.getEntryIndex(entryTo) + 1, dataSet.getEntryCount());
+    }
+
+    /**
+     * Fills the line-buffer of the given DataSet with the line-segments
+     * between the given entries and transforms it to pixels. Only reads the
+     * DataSet and the transformer and only writes the buffer of the DataSet,
+     * so the buffers of different DataSets can be prepared concurrently.
+     *
+     * @param dataSet
+     * @param dataSetIndex
+     * @param minx
+     * @param maxx
+     */
+    protected void prepareLinearBuffer(ILineDataSet dataSet, int dataSetIndex, int minx, int maxx) {
+
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+
+        LineBuffer buffer = mLineBuffers[dataSetIndex];
+        buffer.setPhases(mAnimator.getPhaseX(), mAnimator.getPhaseY());
+        buffer.limitFrom(minx);
+        buffer.limitTo(maxx);
+        buffer.feed(dataSet);
+
+        trans.pointValuesToPixel(buffer.buffer);
+    }
+
     protected void drawLinearFill(Canvas c, ILineDataSet dataSet, int minx,
                                   int maxx,
                                   Transformer trans) {
@@ -502,6 +730,9 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mBitmapCanvas.drawPath(quadraticPath, mRenderPaint);
 
+        mEntriesDrawn += Math.max(size - minx, 0);
+        mDrawCalls++;
+
         mRenderPaint.setPathEffect(null);
     }
 
@@ -683,12 +914,15 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 c.drawCircle(x, y, dataSet.getCircleRadius() - dpToPx(0.5f),
                         mRenderPaint);
+                mDrawCalls++;
 
                 if (dataSet.isDrawCircleHoleEnabled()
-                        && circleColor != mCirclePaintInner.getColor())
+                        && circleColor != mCirclePaintInner.getColor()) {
                     c.drawCircle(x, y,
                             halfsize,
                             mCirclePaintInner);
+                    mDrawCalls++;
+                }
             }
 
             if (isFromZero(dataSet)) {
@@ -703,12 +937,15 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 c.drawCircle(valX, valY, dataSet.getCircleRadius() - dpToPx(0.5f),
                         mRenderPaint);
+                mDrawCalls++;
 
                 if (dataSet.isDrawCircleHoleEnabled()
-                        && circleColor != mCirclePaintInner.getColor())
+                        && circleColor != mCirclePaintInner.getColor()) {
                     c.drawCircle(valX, valY,
                             halfsize,
                             mCirclePaintInner);
+                    mDrawCalls++;
+                }
             }
         }
     }
@@ -792,13 +1029,15 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Returns the drawing bitmap to the BitmapPool. This is called when
+     * {@link LineChart#onDetachedFromWindow()}.
      */
+    @Override
     public void releaseBitmap() {
         if (mDrawBitmap != null) {
-            mDrawBitmap.get().recycle();
-            mDrawBitmap.clear();
+            BitmapPool.release(mDrawBitmap);
             mDrawBitmap = null;
+            mBitmapCanvas = null;
         }
     }
 
@@ -19,7 +19,6 @@ import android.text.StaticLayout;
 import android.text.TextPaint;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
-import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.charts.PieChart;
 import com.github.mikephil.charting.data.BitmapEntry;
 import com.github.mikephil.charting.data.Entry;
@@ -27,10 +26,10 @@ import com.github.mikephil.charting.data.PieData;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
-import java.lang.ref.WeakReference;
 import java.util.List;
 
 public class PieChartRenderer extends DataRenderer {
@@ -62,13 +61,42 @@ public class PieChartRenderer extends DataRenderer {
     private RectF mCenterTextLastBounds = new RectF();
     private RectF[] mRectBuffer = {new RectF(), new RectF(), new RectF()};
 
+    /** buffers for the center, positions and the center-text clip used while drawing */
+    private PointF mCenterBuffer = new PointF();
+    private PointF mPositionBuffer = new PointF();
+    private Path mCenterTextClipPath = new Path();
+
     /**
      * Bitmap for drawing the center hole
      */
-    protected WeakReference<Bitmap> mDrawBitmap;
+    protected Bitmap mDrawBitmap;
 
     protected Canvas mBitmapCanvas;
 
+    /**
+     * the rotation angle the content of the drawing bitmap was drawn with
+     * while the chart was spinning, NaN if the bitmap cannot be reused
+     */
+    protected float mLayerRotationAngle = Float.NaN;
+
+    /**
+     * true if the drawing bitmap of the last frame is drawn rotated in the
+     * current frame instead of being drawn again
+     */
+    protected boolean mReuseLayer = false;
+
+    /**
+     * the data, highlights and value-sum the drawing bitmap was drawn for
+     */
+    private PieData mLayerData;
+    private Highlight[] mLayerHighlights;
+    private float mLayerYValueSum;
+
+    /**
+     * paint for drawing the rotated drawing bitmap
+     */
+    protected Paint mLayerPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
     public PieChartRenderer(PieChart chart, ChartAnimator animator,
                             ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -120,6 +148,11 @@ public class PieChartRenderer extends DataRenderer {
         // TODO Auto-generated method stub
     }
 
+    @Override
+    public long getBitmapBytes() {
+        return BitmapPool.getBytes(mDrawBitmap);
+    }
+
     @Override
     public void drawData(Canvas c) {
 
@@ -127,28 +160,65 @@ public class PieChartRenderer extends DataRenderer {
         int height = (int) mViewPortHandler.getChartHeight();
 
         if (mDrawBitmap == null
-                || (mDrawBitmap.get().getWidth() != width)
-                || (mDrawBitmap.get().getHeight() != height)) {
+                || (mDrawBitmap.getWidth() != width)
+                || (mDrawBitmap.getHeight() != height)) {
 
             if (width > 0 && height > 0) {
 
-                mDrawBitmap = new WeakReference<Bitmap>(Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444));
-                mBitmapCanvas = new Canvas(mDrawBitmap.get());
+                releaseBitmap();
+                mDrawBitmap = BitmapPool.obtain(width, height, Bitmap.Config.ARGB_4444);
+                mBitmapCanvas = new Canvas(mDrawBitmap);
+                mLayerRotationAngle = Float.NaN;
             } else
                 return;
         }
 
-        mDrawBitmap.get().eraseColor(Color.TRANSPARENT);
-
         PieData pieData = mChart.getData();
 
-        for (IPieDataSet set : pieData.getDataSets()) {
+        mReuseLayer = canReuseLayer(pieData);
+
+        if (mReuseLayer)
+            return;
+
+        if (mChart.isRotationCacheActive()) {
+            mLayerRotationAngle = mChart.getRotationAngle();
+            mLayerData = pieData;
+            mLayerHighlights = mChart.getHighlighted();
+            mLayerYValueSum = pieData.getYValueSum();
+        } else {
+            mLayerRotationAngle = Float.NaN;
+        }
+
+        mDrawBitmap.eraseColor(Color.TRANSPARENT);
+
+        for (int i = 0; i < pieData.getDataSetCount(); i++) {
+
+            IPieDataSet set = pieData.getDataSetByIndex(i);
 
             if (set.isVisible() && set.getEntryCount() > 0)
                 drawDataSet(c, set);
         }
     }
 
+    /**
+     * Returns true if the drawing bitmap of the last frame only differs from
+     * the current frame by the rotation angle. This is the case while the
+     * chart spins, as long as neither the data, the highlights nor the
+     * animation phases have changed since the bitmap was drawn.
+     *
+     * @param pieData
+     * @return
+     */
+    protected boolean canReuseLayer(PieData pieData) {
+
+        return mChart.isRotationCacheActive()
+                && !Float.isNaN(mLayerRotationAngle)
+                && mLayerData == pieData
+                && mLayerHighlights == mChart.getHighlighted()
+                && mLayerYValueSum == pieData.getYValueSum()
+                && mAnimator.getPhaseX() == 1f && mAnimator.getPhaseY() == 1f;
+    }
+
     protected void drawDataSet(Canvas c, IPieDataSet dataSet) {
 
         float sliceSpace = dataSet.getSliceSpace();
@@ -156,7 +226,12 @@ public class PieChartRenderer extends DataRenderer {
         mSliceSpacePaint.setPathEffect(dataSet.getDashPathEffect());
         mSliceSpacePaint.setColor(dataSet.getStrokeColor());
 
-        PointF center = mChart.getCenterOffsets();
+        // the center of the content rect
+        PointF center = mCenterBuffer;
+        center.x = mViewPortHandler.getContentRect().centerX();
+        center.y = mViewPortHandler.getContentRect().centerY();
+
+        PointF pos = mPositionBuffer;
 
         float angle = 0;
         float rotationAngle = mChart.getRotationAngle();
@@ -192,7 +267,7 @@ public class PieChartRenderer extends DataRenderer {
             // draw the slice space
             if(sliceSpace > 0 && dataSet.getEntryCount() > 1) {
 
-                PointF pos = Utils.getPosition(center, mChart.getRadius(), rotationAngle * phaseX + angle * phaseY);
+                Utils.getPosition(center.x, center.y, mChart.getRadius(), rotationAngle * phaseX + angle * phaseY, pos);
                 mBitmapCanvas.drawLine(center.x, center.y, pos.x, pos.y, mSliceSpacePaint);
             }
 
@@ -205,7 +280,7 @@ public class PieChartRenderer extends DataRenderer {
         // cover the final slice with slice space
         if(sliceSpace > 0 && dataSet.getEntryCount() > 1) {
 
-            PointF pos = Utils.getPosition(center, mChart.getRadius(), rotationAngle * phaseX + angle * phaseY);
+            Utils.getPosition(center.x, center.y, mChart.getRadius(), rotationAngle * phaseX + angle * phaseY, pos);
             mBitmapCanvas.drawLine(center.x, center.y, pos.x, pos.y, mSliceSpacePaint);
         }
     }
@@ -213,7 +288,11 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawValues(Canvas c) {
 
-        PointF center = mChart.getCenterCircleBox();
+        // values are laid out again once the rotation has settled
+        if (mChart.isRotationCacheActive())
+            return;
+
+        PointF center = getCenterCircleBox();
 
         // get whole the radius
         float r = mChart.getRadius();
@@ -333,8 +412,21 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawExtras(Canvas c) {
         // drawCircles(c);
-        drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+        if (mReuseLayer) {
+
+            // the bitmap already contains the hole, only the angle changed
+            PointF center = getCenterCircleBox();
+
+            int saveCount = c.save();
+            c.rotate(mChart.getRotationAngle() - mLayerRotationAngle, center.x, center.y);
+            c.drawBitmap(mDrawBitmap, 0, 0, mLayerPaint);
+            c.restoreToCount(saveCount);
+        } else {
+
+            drawHole(c);
+            c.drawBitmap(mDrawBitmap, 0, 0, null);
+        }
+
         drawCenterText(c);
     }
 
@@ -350,7 +442,7 @@ public class PieChartRenderer extends DataRenderer {
             float holeRadius = mChart.getHoleRadius();
             float radius = mChart.getRadius();
 
-            PointF center = mChart.getCenterCircleBox();
+            PointF center = getCenterCircleBox();
 
             // only draw the circle if it can be seen (not covered by the hole)
             if (transparentCircleRadius > holeRadius) {
@@ -383,7 +475,7 @@ public class PieChartRenderer extends DataRenderer {
 
         if (mChart.isDrawCenterTextEnabled() && centerText != null) {
 
-            PointF center = mChart.getCenterCircleBox();
+            PointF center = getCenterCircleBox();
 
             float innerRadius = mChart.isDrawHoleEnabled()
                     ? mChart.getRadius() * (mChart.getHoleRadius() / 100f)
@@ -425,7 +517,8 @@ public class PieChartRenderer extends DataRenderer {
 
             c.save();
             if (Build.VERSION.SDK_INT >= 18) {
-                Path path = new Path();
+                Path path = mCenterTextClipPath;
+                path.reset();
                 path.addOval(holeRect, Path.Direction.CW);
                 c.clipPath(path);
             }
@@ -440,6 +533,10 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawHighlighted(Canvas c, Highlight[] indices) {
 
+        // the highlights are part of the reused bitmap
+        if (mReuseLayer)
+            return;
+
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
@@ -478,14 +575,16 @@ public class PieChartRenderer extends DataRenderer {
              *
              * @link https://github.com/wogg
              */
-            RectF highlighted = new RectF(circleBox.left,
+            RectF highlighted = mRectBuffer[0];
+            highlighted.set(circleBox.left,
                     circleBox.top,
                     circleBox.right,
                     circleBox.bottom);
 
             float holeOffset = circleBox.width() / 2f * (100 - mChart.getHoleRadius()) / 100f - set.getSliceSpace() / 2f;
 
-            RectF highlightedHole = new RectF(circleBox.left + holeOffset,
+            RectF highlightedHole = mRectBuffer[1];
+            highlightedHole.set(circleBox.left + holeOffset,
                     circleBox.top + holeOffset,
                     circleBox.right - holeOffset,
                     circleBox.bottom - holeOffset);
@@ -509,8 +608,13 @@ public class PieChartRenderer extends DataRenderer {
                     sliceAngle * phaseY,
                     true, mHighlightedStrokePaint);
 
-            PointF pos = Utils.getPosition(mChart.getCenter(), mChart.getRadius(), rotationAngle * phaseX + angle * phaseY);
-            mBitmapCanvas.drawLine(mChart.getCenter().x, mChart.getCenter().y, pos.x, pos.y, mSliceSpacePaint);
+            // the center of the view
+            float centerX = mChart.getWidth() / 2f;
+            float centerY = mChart.getHeight() / 2f;
+
+            PointF pos = mPositionBuffer;
+            Utils.getPosition(centerX, centerY, mChart.getRadius(), rotationAngle * phaseX + angle * phaseY, pos);
+            mBitmapCanvas.drawLine(centerX, centerY, pos.x, pos.y, mSliceSpacePaint);
         }
     }
 
@@ -532,7 +636,7 @@ public class PieChartRenderer extends DataRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
-        PointF center = mChart.getCenterCircleBox();
+        PointF center = getCenterCircleBox();
         float r = mChart.getRadius();
 
         // calculate the radius of the "slice-circle"
@@ -566,13 +670,29 @@ public class PieChartRenderer extends DataRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Returns the center of the circle box of the chart, without allocating a
+     * new point like PieChart.getCenterCircleBox() does.
+     *
+     * @return
      */
+    private PointF getCenterCircleBox() {
+        RectF circleBox = mChart.getCircleBox();
+        mCenterBuffer.x = circleBox.centerX();
+        mCenterBuffer.y = circleBox.centerY();
+        return mCenterBuffer;
+    }
+
+    /**
+     * Returns the drawing bitmap to the BitmapPool. This is called when
+     * {@link PieChart#onDetachedFromWindow()}.
+     */
+    @Override
     public void releaseBitmap() {
         if (mDrawBitmap != null) {
-            mDrawBitmap.get().recycle();
-            mDrawBitmap.clear();
+            BitmapPool.release(mDrawBitmap);
             mDrawBitmap = null;
+            mBitmapCanvas = null;
+            mLayerRotationAngle = Float.NaN;
         }
     }
 }
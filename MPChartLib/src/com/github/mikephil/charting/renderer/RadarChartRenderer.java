@@ -14,6 +14,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.RadarData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IRadarDataSet;
+import com.github.mikephil.charting.utils.PolarTable;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -26,6 +27,48 @@ public class RadarChartRenderer extends LineRadarRenderer {
      */
     protected Paint mWebPaint;
 
+    /**
+     * the surfaces of the DataSets, built without rotation while the chart
+     * spins and drawn rotated by the current rotation angle
+     */
+    protected Path[] mSurfaceCache = new Path[0];
+
+    /**
+     * the lines of the web and the inner web, built without rotation while
+     * the chart spins and drawn rotated by the current rotation angle
+     */
+    protected float[] mWebLines = new float[0];
+    protected float[] mInnerWebLines = new float[0];
+    protected int mWebLineCount = 0;
+    protected int mInnerWebLineCount = 0;
+
+    /** true if the cached surfaces / web lines are up to date */
+    protected boolean mSurfacesCached = false;
+    protected boolean mWebCached = false;
+
+    /** the state the cached surfaces and web lines were built for */
+    private RadarData mCacheData;
+    private int mCacheYValCount;
+    private float mCacheFactor;
+    private float mCacheYChartMin;
+    private float mCacheCenterX;
+    private float mCacheCenterY;
+
+    /**
+     * cosine and sine of the angles of all x-indices, recalculated only if
+     * the number of x-values or the slice-angle change
+     */
+    protected PolarTable mPolarTable = new PolarTable();
+
+    /** the center of the web, updated by updateCenter() */
+    protected PointF mCenter = new PointF();
+
+    /** buffers for positions, paths and highlight points used while drawing */
+    protected PointF mPositionBuffer = new PointF();
+    protected PointF mPositionBuffer2 = new PointF();
+    protected Path mSurfacePath = new Path();
+    protected float[] mHighlightBuffer = new float[2];
+
     public RadarChartRenderer(RadarChart chart, ChartAnimator animator,
                               ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -50,20 +93,132 @@ public class RadarChartRenderer extends LineRadarRenderer {
 
     }
 
+    /**
+     * Updates mCenter with the center of the content rect, which is the
+     * center of the web.
+     */
+    protected void updateCenter() {
+        mCenter.x = mViewPortHandler.getContentRect().centerX();
+        mCenter.y = mViewPortHandler.getContentRect().centerY();
+    }
+
     @Override
     public void drawData(Canvas c) {
 
         RadarData radarData = mChart.getData();
 
-        for (IRadarDataSet set : radarData.getDataSets()) {
+        boolean cached = prepareRotationCache();
 
-            if (set.isVisible() && set.getEntryCount() > 0)
+        for (int i = 0; i < radarData.getDataSetCount(); i++) {
+
+            IRadarDataSet set = radarData.getDataSetByIndex(i);
+
+            if (!set.isVisible() || set.getEntryCount() == 0)
+                continue;
+
+            // a fill-drawable would be rotated together with the surface
+            if (cached && set.getFillDrawable() == null)
+                drawCachedDataSet(c, set, i);
+            else
                 drawDataSet(c, set);
         }
+
+        if (cached)
+            mSurfacesCached = true;
+    }
+
+    /**
+     * Checks if the surfaces and web lines can be drawn from the cache in the
+     * current frame, which is the case while the chart spins and the
+     * animation has finished. Drops the cache if the data or the size of the
+     * chart have changed since it was built.
+     *
+     * @return
+     */
+    protected boolean prepareRotationCache() {
+
+        if (!mChart.isRotationCacheActive()
+                || mAnimator.getPhaseX() != 1f || mAnimator.getPhaseY() != 1f) {
+            mSurfacesCached = false;
+            mWebCached = false;
+            return false;
+        }
+
+        RadarData data = mChart.getData();
+        float factor = mChart.getFactor();
+        updateCenter();
+
+        if (data != mCacheData
+                || data.getYValCount() != mCacheYValCount
+                || factor != mCacheFactor
+                || mChart.getYChartMin() != mCacheYChartMin
+                || mCenter.x != mCacheCenterX
+                || mCenter.y != mCacheCenterY) {
+
+            mCacheData = data;
+            mCacheYValCount = data.getYValCount();
+            mCacheFactor = factor;
+            mCacheYChartMin = mChart.getYChartMin();
+            mCacheCenterX = mCenter.x;
+            mCacheCenterY = mCenter.y;
+
+            mSurfacesCached = false;
+            mWebCached = false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Draws the cached surface of the given DataSet rotated by the current
+     * rotation angle, builds the surface first if necessary.
+     *
+     * @param c
+     * @param dataSet
+     * @param index
+     */
+    protected void drawCachedDataSet(Canvas c, IRadarDataSet dataSet, int index) {
+
+        if (mSurfaceCache.length <= index) {
+            Path[] cache = new Path[index + 1];
+            System.arraycopy(mSurfaceCache, 0, cache, 0, mSurfaceCache.length);
+            mSurfaceCache = cache;
+        }
+
+        Path surface = mSurfaceCache[index];
+
+        if (surface == null) {
+            surface = new Path();
+            mSurfaceCache[index] = surface;
+            buildSurface(dataSet, surface, 0f);
+        } else if (!mSurfacesCached) {
+            buildSurface(dataSet, surface, 0f);
+        }
+
+        updateCenter();
+
+        int saveCount = c.save();
+        c.rotate(mChart.getRotationAngle(), mCenter.x, mCenter.y);
+        drawSurface(c, dataSet, surface);
+        c.restoreToCount(saveCount);
     }
 
     protected void drawDataSet(Canvas c, IRadarDataSet dataSet) {
 
+        buildSurface(dataSet, mSurfacePath, mChart.getRotationAngle());
+        drawSurface(c, dataSet, mSurfacePath);
+    }
+
+    /**
+     * Builds the closed surface through all entries of the given DataSet,
+     * rotated by the given angle.
+     *
+     * @param dataSet
+     * @param surface
+     * @param rotationAngle
+     */
+    protected void buildSurface(IRadarDataSet dataSet, Path surface, float rotationAngle) {
+
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
@@ -73,22 +228,21 @@ public class RadarChartRenderer extends LineRadarRenderer {
         // pixels
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        updateCenter();
+        preparePolarTable(dataSet.getEntryCount(), sliceangle * phaseX, rotationAngle);
+
+        PointF p = mPositionBuffer;
 
-        Path surface = new Path();
+        surface.reset();
 
         boolean hasMovedToPoint = false;
 
         for (int j = 0; j < dataSet.getEntryCount(); j++) {
 
-            mRenderPaint.setColor(dataSet.getColor(j));
-
             Entry e = dataSet.getEntryForIndex(j);
 
-            PointF p = Utils.getPosition(
-                    center,
-                    (e.getVal() - mChart.getYChartMin()) * factor * phaseY,
-                    sliceangle * j * phaseX + mChart.getRotationAngle());
+            mPolarTable.getPosition(mCenter.x, mCenter.y,
+                    (e.getVal() - mChart.getYChartMin()) * factor * phaseY, j, p);
 
             if (Float.isNaN(p.x))
                 continue;
@@ -101,6 +255,32 @@ public class RadarChartRenderer extends LineRadarRenderer {
         }
 
         surface.close();
+    }
+
+    /**
+     * Sets up the polar table for the angles step * i of at least the given
+     * number of indices (and all x-values), rotated by the given angle.
+     *
+     * @param count
+     * @param step
+     * @param rotationAngle
+     */
+    protected void preparePolarTable(int count, float step, float rotationAngle) {
+        mPolarTable.setAngles(Math.max(count, mChart.getData().getXValCount()), step);
+        mPolarTable.setRotation(rotationAngle);
+    }
+
+    /**
+     * Fills and outlines the given surface of the DataSet.
+     *
+     * @param c
+     * @param dataSet
+     * @param surface
+     */
+    protected void drawSurface(Canvas c, IRadarDataSet dataSet, Path surface) {
+
+        // the outline has the color of the last entry
+        mRenderPaint.setColor(dataSet.getColor(dataSet.getEntryCount() - 1));
 
         final Drawable drawable = dataSet.getFillDrawable();
         if (drawable != null) {
@@ -130,6 +310,10 @@ public class RadarChartRenderer extends LineRadarRenderer {
     @Override
     public void drawValues(Canvas c) {
 
+        // values are laid out again once the rotation has settled
+        if (mChart.isRotationCacheActive())
+            return;
+
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
@@ -139,7 +323,9 @@ public class RadarChartRenderer extends LineRadarRenderer {
         // pixels
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        updateCenter();
+
+        PointF p = mPositionBuffer;
 
         float yoffset = Utils.convertDpToPixel(5f);
 
@@ -153,14 +339,14 @@ public class RadarChartRenderer extends LineRadarRenderer {
             // apply the text-styling defined by the DataSet
             applyValueTextStyle(dataSet);
 
+            preparePolarTable(dataSet.getEntryCount(), sliceangle * phaseX, mChart.getRotationAngle());
+
             for (int j = 0; j < dataSet.getEntryCount(); j++) {
 
                 Entry entry = dataSet.getEntryForIndex(j);
 
-                PointF p = Utils.getPosition(
-                        center,
-                        (entry.getVal() - mChart.getYChartMin()) * factor * phaseY,
-                        sliceangle * j * phaseX + mChart.getRotationAngle());
+                mPolarTable.getPosition(mCenter.x, mCenter.y,
+                        (entry.getVal() - mChart.getYChartMin()) * factor * phaseY, j, p);
 
                 drawValue(c, dataSet.getValueFormatter(), entry.getVal(), entry, i, p.x, p.y - yoffset, dataSet.getValueTextColor(j));
             }
@@ -174,6 +360,11 @@ public class RadarChartRenderer extends LineRadarRenderer {
 
     protected void drawWeb(Canvas c) {
 
+        if (prepareRotationCache()) {
+            drawCachedWeb(c);
+            return;
+        }
+
         float sliceangle = mChart.getSliceAngle();
 
         // calculate the factor that is needed for transforming the value to
@@ -181,7 +372,13 @@ public class RadarChartRenderer extends LineRadarRenderer {
         float factor = mChart.getFactor();
         float rotationangle = mChart.getRotationAngle();
 
-        PointF center = mChart.getCenterOffsets();
+        updateCenter();
+        preparePolarTable(0, sliceangle, rotationangle);
+
+        final int xValCount = mChart.getData().getXValCount();
+
+        PointF p = mPositionBuffer;
+        PointF p2 = mPositionBuffer2;
 
         // draw the web lines that come from the center
         mWebPaint.setStrokeWidth(mChart.getWebLineWidth());
@@ -190,14 +387,11 @@ public class RadarChartRenderer extends LineRadarRenderer {
 
         final int xIncrements = 1 + mChart.getSkipWebLineCount();
 
-        for (int i = 0; i < mChart.getData().getXValCount(); i += xIncrements) {
+        for (int i = 0; i < xValCount; i += xIncrements) {
 
-            PointF p = Utils.getPosition(
-                    center,
-                    mChart.getYRange() * factor,
-                    sliceangle * i + rotationangle);
+            mPolarTable.getPosition(mCenter.x, mCenter.y, mChart.getYRange() * factor, i, p);
 
-            c.drawLine(center.x, center.y, p.x, p.y, mWebPaint);
+            c.drawLine(mCenter.x, mCenter.y, p.x, p.y, mWebPaint);
         }
 
         // draw the inner-web
@@ -209,14 +403,106 @@ public class RadarChartRenderer extends LineRadarRenderer {
 
         for (int j = 0; j < labelCount; j++) {
 
-            for (int i = 0; i < mChart.getData().getXValCount(); i++) {
+            for (int i = 0; i < xValCount; i++) {
 
                 float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
 
-                PointF p1 = Utils.getPosition(center, r, sliceangle * i + rotationangle);
-                PointF p2 = Utils.getPosition(center, r, sliceangle * (i + 1) + rotationangle);
+                mPolarTable.getPosition(mCenter.x, mCenter.y, r, i, p);
+                mPolarTable.getPosition(mCenter.x, mCenter.y, r, i + 1, p2);
 
-                c.drawLine(p1.x, p1.y, p2.x, p2.y, mWebPaint);
+                c.drawLine(p.x, p.y, p2.x, p2.y, mWebPaint);
+            }
+        }
+    }
+
+    /**
+     * Draws the cached web lines rotated by the current rotation angle, builds
+     * the lines first if necessary.
+     *
+     * @param c
+     */
+    protected void drawCachedWeb(Canvas c) {
+
+        if (!mWebCached) {
+            buildWebLines();
+            mWebCached = true;
+        }
+
+        updateCenter();
+
+        int saveCount = c.save();
+        c.rotate(mChart.getRotationAngle(), mCenter.x, mCenter.y);
+
+        mWebPaint.setStrokeWidth(mChart.getWebLineWidth());
+        mWebPaint.setColor(mChart.getWebColor());
+        mWebPaint.setAlpha(mChart.getWebAlpha());
+
+        c.drawLines(mWebLines, 0, mWebLineCount, mWebPaint);
+
+        mWebPaint.setStrokeWidth(mChart.getWebLineWidthInner());
+        mWebPaint.setColor(mChart.getWebColorInner());
+        mWebPaint.setAlpha(mChart.getWebAlpha());
+
+        c.drawLines(mInnerWebLines, 0, mInnerWebLineCount, mWebPaint);
+
+        c.restoreToCount(saveCount);
+    }
+
+    /**
+     * Builds the lines of the web and the inner web without rotation, the
+     * same way drawWeb(...) draws them.
+     */
+    protected void buildWebLines() {
+
+        float sliceangle = mChart.getSliceAngle();
+        float factor = mChart.getFactor();
+
+        updateCenter();
+        preparePolarTable(0, sliceangle, 0f);
+
+        PointF p = mPositionBuffer;
+        PointF p2 = mPositionBuffer2;
+
+        final int xIncrements = 1 + mChart.getSkipWebLineCount();
+        final int xValCount = mChart.getData().getXValCount();
+
+        int webLines = (xValCount + xIncrements - 1) / xIncrements;
+
+        if (mWebLines.length < webLines * 4)
+            mWebLines = new float[webLines * 4];
+
+        mWebLineCount = 0;
+
+        for (int i = 0; i < xValCount; i += xIncrements) {
+
+            mPolarTable.getPosition(mCenter.x, mCenter.y, mChart.getYRange() * factor, i, p);
+
+            mWebLines[mWebLineCount++] = mCenter.x;
+            mWebLines[mWebLineCount++] = mCenter.y;
+            mWebLines[mWebLineCount++] = p.x;
+            mWebLines[mWebLineCount++] = p.y;
+        }
+
+        int labelCount = mChart.getYAxis().mEntryCount;
+
+        if (mInnerWebLines.length < labelCount * xValCount * 4)
+            mInnerWebLines = new float[labelCount * xValCount * 4];
+
+        mInnerWebLineCount = 0;
+
+        for (int j = 0; j < labelCount; j++) {
+
+            float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
+
+            for (int i = 0; i < xValCount; i++) {
+
+                mPolarTable.getPosition(mCenter.x, mCenter.y, r, i, p);
+                mPolarTable.getPosition(mCenter.x, mCenter.y, r, i + 1, p2);
+
+                mInnerWebLines[mInnerWebLineCount++] = p.x;
+                mInnerWebLines[mInnerWebLineCount++] = p.y;
+                mInnerWebLines[mInnerWebLineCount++] = p2.x;
+                mInnerWebLines[mInnerWebLineCount++] = p2.y;
             }
         }
     }
@@ -230,7 +516,9 @@ public class RadarChartRenderer extends LineRadarRenderer {
         float sliceangle = mChart.getSliceAngle();
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        updateCenter();
+
+        PointF p = mPositionBuffer;
 
         for (int i = 0; i < indices.length; i++) {
 
@@ -254,17 +542,14 @@ public class RadarChartRenderer extends LineRadarRenderer {
             if (Float.isNaN(y))
                 continue;
 
-            PointF p = Utils.getPosition(
-                    center,
-                    y * factor * phaseY,
-                    sliceangle * j * phaseX + mChart.getRotationAngle());
+            preparePolarTable(j, sliceangle * phaseX, mChart.getRotationAngle());
+            mPolarTable.getPosition(mCenter.x, mCenter.y, y * factor * phaseY, j, p);
 
-            float[] pts = new float[]{
-                    p.x, p.y
-            };
+            mHighlightBuffer[0] = p.x;
+            mHighlightBuffer[1] = p.y;
 
             // draw the lines
-            drawHighlightLines(c, pts, set);
+            drawHighlightLines(c, mHighlightBuffer, set);
         }
     }
 
@@ -14,6 +14,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.MemoryStats;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -45,18 +46,55 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    @Override
+    public void releaseBuffers() {
+        mScatterBuffers = null;
+    }
+
+    @Override
+    public long getBufferBytes() {
+        return MemoryStats.estimateBuffers(mScatterBuffers);
+    }
+
+    @Override
+    public boolean isCountingEntries() {
+        return true;
+    }
+
     @Override
     public void drawData(Canvas c) {
 
+        // the buffers might have been released to save memory
+        if (mScatterBuffers == null)
+            initBuffers();
+
         ScatterData scatterData = mChart.getScatterData();
 
-        for (IScatterDataSet set : scatterData.getDataSets()) {
+        for (int i = 0; i < scatterData.getDataSetCount(); i++) {
+
+            IScatterDataSet set = scatterData.getDataSetByIndex(i);
 
-            if (set.isVisible())
+            if (set.isVisible() && isDataSetInContent(set))
                 drawDataSet(c, set);
         }
     }
 
+    /**
+     * Returns true if any shape of the given DataSet could be visible inside
+     * the content rect.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean isDataSetInContent(IScatterDataSet dataSet) {
+
+        float phaseY = mAnimator.getPhaseY();
+
+        return isYRangeVisible(mChart.getTransformer(dataSet.getAxisDependency()),
+                dataSet.getYMin() * phaseY, dataSet.getYMax() * phaseY,
+                Utils.convertDpToPixel(dataSet.getScatterShapeSize()) / 2f);
+    }
+
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -81,6 +119,8 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
         trans.pointValuesToPixel(buffer.buffer);
 
+        int shapes = 0;
+
         switch (shape) {
             case SQUARE:
 
@@ -94,6 +134,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                         continue;
 
                     mRenderPaint.setColor(dataSet.getColor(i / 2));
+                    shapes++;
 
                     if (shapeHoleSize > 0.0) {
                         mRenderPaint.setStyle(Style.STROKE);
@@ -141,6 +182,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                         continue;
 
                     mRenderPaint.setColor(dataSet.getColor(i / 2));
+                    shapes++;
 
                     if (shapeHoleSize > 0.0) {
                         mRenderPaint.setStyle(Style.STROKE);
@@ -191,6 +233,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                         continue;
 
                     mRenderPaint.setColor(dataSet.getColor(i / 2));
+                    shapes++;
 
                     tri.moveTo(buffer.buffer[i], buffer.buffer[i + 1] - shapeHalf);
                     tri.lineTo(buffer.buffer[i] + shapeHalf, buffer.buffer[i + 1] + shapeHalf);
@@ -248,6 +291,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                         continue;
 
                     mRenderPaint.setColor(dataSet.getColor(i / 2));
+                    shapes++;
 
                     c.drawLine(
                             buffer.buffer[i] - shapeHalf,
@@ -279,6 +323,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                         continue;
 
                     mRenderPaint.setColor(dataSet.getColor(i / 2));
+                    shapes++;
 
                     c.drawLine(
                             buffer.buffer[i] - shapeHalf,
@@ -299,6 +344,15 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 break;
         }
 
+        mEntriesDrawn += shapes;
+
+        // crosses are drawn with two lines, shapes with a colored hole twice
+        if (shape == ScatterShape.CROSS || shape == ScatterShape.X
+                || (shapeHoleSize > 0.0 && shapeHoleColor != ColorTemplate.COLOR_NONE))
+            mDrawCalls += shapes * 2;
+        else
+            mDrawCalls += shapes;
+
         // else { // draw the custom-shape
         //
         // Path customShape = dataSet.getCustomScatterShape();
@@ -391,8 +445,13 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             if (xIndex > mChart.getXChartMax() * mAnimator.getPhaseX())
                 continue;
 
-            final float yVal = set.getYValForXIndex(xIndex);
-            if (yVal == Float.NaN)
+            // the highlight tells apart entries that share the x-index
+            Entry e = mChart.getScatterData().getEntryForHighlight(indices[i]);
+            if (e == null || e.getXIndex() != xIndex)
+                continue;
+
+            final float yVal = e.getVal();
+            if (Float.isNaN(yVal))
                 continue;
 
             float y = yVal * mAnimator.getPhaseY();
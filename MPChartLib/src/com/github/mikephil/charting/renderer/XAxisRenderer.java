@@ -23,6 +23,14 @@ public class XAxisRenderer extends AxisRenderer {
 
     protected XAxis mXAxis;
 
+    /** anchors of labels drawn above and below the position */
+    protected PointF mAnchorAbove = new PointF(0.5f, 1.0f);
+    protected PointF mAnchorBelow = new PointF(0.5f, 0.0f);
+
+    /** buffers reused for every frame, drawing does not allocate */
+    protected float[] mPositionBuffer = new float[2];
+    protected Path mGridLinePath = new Path();
+
     public XAxisRenderer(ViewPortHandler viewPortHandler, XAxis xAxis, Transformer trans) {
         super(viewPortHandler, trans);
 
@@ -88,29 +96,29 @@ public class XAxisRenderer extends AxisRenderer {
         if (mXAxis.getPosition() == XAxisPosition.TOP) {
 
             drawLabels(c, mViewPortHandler.contentTop() - yoffset,
-                    new PointF(0.5f, 1.0f));
+                    mAnchorAbove);
 
         } else if (mXAxis.getPosition() == XAxisPosition.TOP_INSIDE) {
 
             drawLabels(c, mViewPortHandler.contentTop() + yoffset + mXAxis.mLabelRotatedHeight,
-                    new PointF(0.5f, 1.0f));
+                    mAnchorAbove);
 
         } else if (mXAxis.getPosition() == XAxisPosition.BOTTOM) {
 
             drawLabels(c, mViewPortHandler.contentBottom() + yoffset,
-                    new PointF(0.5f, 0.0f));
+                    mAnchorBelow);
 
         } else if (mXAxis.getPosition() == XAxisPosition.BOTTOM_INSIDE) {
 
             drawLabels(c, mViewPortHandler.contentBottom() - yoffset - mXAxis.mLabelRotatedHeight,
-                    new PointF(0.5f, 0.0f));
+                    mAnchorBelow);
 
         } else { // BOTH SIDED
 
             drawLabels(c, mViewPortHandler.contentTop() - yoffset,
-                    new PointF(0.5f, 1.0f));
+                    mAnchorAbove);
             drawLabels(c, mViewPortHandler.contentBottom() + yoffset,
-                    new PointF(0.5f, 0.0f));
+                    mAnchorBelow);
         }
     }
 
@@ -149,10 +157,8 @@ public class XAxisRenderer extends AxisRenderer {
 
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
 
-        // pre allocate to save performance (dont allocate in loop)
-        float[] position = new float[] {
-                0f, 0f
-        };
+        float[] position = mPositionBuffer;
+        position[1] = 0f;
 
         for (int i = mMinX; i <= mMaxX; i += mXAxis.mAxisLabelModulus) {
 
@@ -198,16 +204,15 @@ public class XAxisRenderer extends AxisRenderer {
         if (!mXAxis.isDrawGridLinesEnabled() || !mXAxis.isEnabled())
             return;
 
-        // pre alloc
-        float[] position = new float[] {
-                0f, 0f
-        };
+        float[] position = mPositionBuffer;
+        position[1] = 0f;
 
         mGridPaint.setColor(mXAxis.getGridColor());
         mGridPaint.setStrokeWidth(mXAxis.getGridLineWidth());
         mGridPaint.setPathEffect(mXAxis.getGridDashPathEffect());
 
-        Path gridLinePath = new Path();
+        Path gridLinePath = mGridLinePath;
+        gridLinePath.reset();
 
         for (int i = mMinX; i <= mMaxX; i += mXAxis.mAxisLabelModulus) {
 
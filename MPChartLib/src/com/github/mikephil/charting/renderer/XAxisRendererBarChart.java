@@ -32,10 +32,8 @@ public class XAxisRendererBarChart extends XAxisRenderer {
 
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
 
-        // pre allocate to save performance (dont allocate in loop)
-        float[] position = new float[] {
-                0f, 0f
-        };
+        float[] position = mPositionBuffer;
+        position[1] = 0f;
 
         BarData bd = mChart.getData();
         int step = bd.getDataSetCount();
@@ -87,9 +85,8 @@ public class XAxisRendererBarChart extends XAxisRenderer {
         if (!mXAxis.isDrawGridLinesEnabled() || !mXAxis.isEnabled())
             return;
 
-        float[] position = new float[] {
-                0f, 0f
-        };
+        float[] position = mPositionBuffer;
+        position[1] = 0f;
 
         mGridPaint.setColor(mXAxis.getGridColor());
         mGridPaint.setStrokeWidth(mXAxis.getGridLineWidth());
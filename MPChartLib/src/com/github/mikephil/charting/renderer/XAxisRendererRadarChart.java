@@ -13,6 +13,10 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
 
     private RadarChart mChart;
 
+    /** buffers for the label anchor and the label positions */
+    private PointF mDrawLabelAnchor = new PointF(0.5f, 0.0f);
+    private PointF mPositionBuffer = new PointF();
+
     public XAxisRendererRadarChart(ViewPortHandler viewPortHandler, XAxis xAxis, RadarChart chart) {
         super(viewPortHandler, xAxis, null);
 
@@ -26,7 +30,6 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
             return;
 
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
-        final PointF drawLabelAnchor = new PointF(0.5f, 0.0f);
 
         mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
@@ -38,7 +41,10 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
         // pixels
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        float centerX = mViewPortHandler.getContentRect().centerX();
+        float centerY = mViewPortHandler.getContentRect().centerY();
+
+        PointF p = mPositionBuffer;
 
         int mod = mXAxis.mAxisLabelModulus;
         for (int i = 0; i < mXAxis.getValues().size(); i += mod) {
@@ -46,11 +52,11 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
 
             float angle = (sliceangle * i + mChart.getRotationAngle()) % 360f;
 
-            PointF p = Utils.getPosition(center, mChart.getYRange() * factor
-                    + mXAxis.mLabelRotatedWidth / 2f, angle);
+            Utils.getPosition(centerX, centerY, mChart.getYRange() * factor
+                    + mXAxis.mLabelRotatedWidth / 2f, angle, p);
 
             drawLabel(c, label, i, p.x, p.y - mXAxis.mLabelRotatedHeight / 2.f,
-                    drawLabelAnchor, labelRotationAngleDegrees);
+                    mDrawLabelAnchor, labelRotationAngleDegrees);
         }
     }
 
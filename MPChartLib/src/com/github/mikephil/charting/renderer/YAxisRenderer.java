@@ -10,6 +10,8 @@ import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.components.YAxis.YAxisLabelPosition;
+import com.github.mikephil.charting.formatter.DefaultYAxisValueFormatter;
+import com.github.mikephil.charting.formatter.YAxisValueFormatter;
 import com.github.mikephil.charting.utils.PointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
@@ -23,6 +25,21 @@ public class YAxisRenderer extends AxisRenderer {
 
     protected Paint mZeroLinePaint;
 
+    /** buffers reused for every frame, drawing does not allocate */
+    protected float[] mPositionsBuffer = new float[2];
+    protected float[] mPositionBuffer = new float[2];
+    protected Path mGridLinePath = new Path();
+    protected Path mZeroLinePath = new Path();
+
+    /** the formatted labels of the entries in mLabelEntries */
+    private String[] mLabels = new String[0];
+
+    /** the axis entries the labels have been formatted for */
+    private float[] mLabelEntries = new float[0];
+
+    /** the formatter the labels have been formatted with */
+    private YAxisValueFormatter mLabelFormatter;
+
     public YAxisRenderer(ViewPortHandler viewPortHandler, YAxis yAxis, Transformer trans) {
         super(viewPortHandler, trans);
 
@@ -170,9 +187,12 @@ public class YAxisRenderer extends AxisRenderer {
         if (!mYAxis.isEnabled() || !mYAxis.isDrawLabelsEnabled())
             return;
 
-        float[] positions = new float[mYAxis.mEntryCount * 2];
+        if (mPositionsBuffer.length < mYAxis.mEntryCount * 2)
+            mPositionsBuffer = new float[mYAxis.mEntryCount * 2];
 
-        for (int i = 0; i < positions.length; i += 2) {
+        float[] positions = mPositionsBuffer;
+
+        for (int i = 0; i < mYAxis.mEntryCount * 2; i += 2) {
             // only fill y values, x values are not needed since the y-labels
             // are
             // static on the x-axis
@@ -246,7 +266,7 @@ public class YAxisRenderer extends AxisRenderer {
         // draw
         for (int i = 0; i < mYAxis.mEntryCount; i++) {
 
-            String text = mYAxis.getFormattedLabel(i);
+            String text = getFormattedLabel(i);
 
             if (!mYAxis.isDrawTopYLabelEntryEnabled() && i >= mYAxis.mEntryCount - 1)
                 return;
@@ -255,14 +275,59 @@ public class YAxisRenderer extends AxisRenderer {
         }
     }
 
+    /**
+     * Returns the formatted label of the axis entry at the given index. Labels
+     * of the default formatter are formatted once and reused until the
+     * entries or the formatter change, so that drawing them does not
+     * allocate. Custom formatters may depend on other state, they are called
+     * for every frame.
+     *
+     * @param index
+     * @return
+     */
+    protected String getFormattedLabel(int index) {
+
+        YAxisValueFormatter formatter = mYAxis.getValueFormatter();
+
+        if (!(formatter instanceof DefaultYAxisValueFormatter))
+            return mYAxis.getFormattedLabel(index);
+
+        int count = mYAxis.mEntryCount;
+
+        boolean valid = mLabels.length == count && mLabelFormatter == formatter;
+
+        for (int i = 0; valid && i < count; i++)
+            valid = mLabelEntries[i] == mYAxis.mEntries[i];
+
+        if (!valid) {
+
+            if (mLabels.length != count) {
+                mLabels = new String[count];
+                mLabelEntries = new float[count];
+            }
+
+            for (int i = 0; i < count; i++) {
+                mLabels[i] = mYAxis.getFormattedLabel(i);
+                mLabelEntries[i] = mYAxis.mEntries[i];
+            }
+
+            mLabelFormatter = formatter;
+        }
+
+        if (index < 0 || index >= count)
+            return "";
+
+        return mLabels[index];
+    }
+
     @Override
     public void renderGridLines(Canvas c) {
 
         if (!mYAxis.isEnabled())
             return;
 
-        // pre alloc
-        float[] position = new float[2];
+        float[] position = mPositionBuffer;
+        position[0] = 0f;
 
         if (mYAxis.isDrawGridLinesEnabled()) {
 
@@ -270,7 +335,8 @@ public class YAxisRenderer extends AxisRenderer {
             mGridPaint.setStrokeWidth(mYAxis.getGridLineWidth());
             mGridPaint.setPathEffect(mYAxis.getGridDashPathEffect());
 
-            Path gridLinePath = new Path();
+            Path gridLinePath = mGridLinePath;
+            gridLinePath.reset();
 
             // draw the horizontal grid
             for (int i = 0; i < mYAxis.mEntryCount; i++) {
@@ -312,7 +378,8 @@ public class YAxisRenderer extends AxisRenderer {
         mZeroLinePaint.setColor(mYAxis.getZeroLineColor());
         mZeroLinePaint.setStrokeWidth(mYAxis.getZeroLineWidth());
 
-        Path zeroLinePath = new Path();
+        Path zeroLinePath = mZeroLinePath;
+        zeroLinePath.reset();
 
         zeroLinePath.moveTo(x1, y1);
         zeroLinePath.lineTo(x2, y2);
@@ -7,6 +7,7 @@ import android.graphics.PointF;
 import com.github.mikephil.charting.charts.RadarChart;
 import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.utils.PolarTable;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -16,6 +17,13 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
     private RadarChart mChart;
 
+    /** cosine and sine of the angles of all x-indices, used for the limit lines */
+    private PolarTable mPolarTable = new PolarTable();
+
+    /** buffers for the label positions and the limit lines */
+    private PointF mPositionBuffer = new PointF();
+    private Path mLimitLinePath = new Path();
+
     public YAxisRendererRadarChart(ViewPortHandler viewPortHandler, YAxis yAxis, RadarChart chart) {
         super(viewPortHandler, yAxis, null);
 
@@ -139,9 +147,12 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
         mAxisLabelPaint.setTextSize(mYAxis.getTextSize());
         mAxisLabelPaint.setColor(mYAxis.getTextColor());
 
-        PointF center = mChart.getCenterOffsets();
+        float centerX = mViewPortHandler.getContentRect().centerX();
+        float centerY = mViewPortHandler.getContentRect().centerY();
         float factor = mChart.getFactor();
 
+        PointF p = mPositionBuffer;
+
         int labelCount = mYAxis.mEntryCount;
 
         for (int j = 0; j < labelCount; j++) {
@@ -151,9 +162,9 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
             float r = (mYAxis.mEntries[j] - mYAxis.mAxisMinimum) * factor;
 
-            PointF p = Utils.getPosition(center, r, mChart.getRotationAngle());
+            Utils.getPosition(centerX, centerY, r, mChart.getRotationAngle(), p);
 
-            String label = mYAxis.getFormattedLabel(j);
+            String label = getFormattedLabel(j);
 
             c.drawText(label, p.x + 10, p.y, mAxisLabelPaint);
         }
@@ -173,7 +184,16 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
         // pixels
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        float centerX = mViewPortHandler.getContentRect().centerX();
+        float centerY = mViewPortHandler.getContentRect().centerY();
+
+        final int xValCount = mChart.getData().getXValCount();
+
+        mPolarTable.setAngles(xValCount, sliceangle);
+        mPolarTable.setRotation(mChart.getRotationAngle());
+
+        PointF p = mPositionBuffer;
+        Path limitPath = mLimitLinePath;
 
         for (int i = 0; i < limitLines.size(); i++) {
 
@@ -188,11 +208,11 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
             float r = (l.getLimit() - mChart.getYChartMin()) * factor;
 
-            Path limitPath = new Path();
+            limitPath.reset();
 
-            for (int j = 0; j < mChart.getData().getXValCount(); j++) {
+            for (int j = 0; j < xValCount; j++) {
 
-                PointF p = Utils.getPosition(center, r, sliceangle * j + mChart.getRotationAngle());
+                mPolarTable.getPosition(centerX, centerY, r, j, p);
 
                 if (j == 0)
                     limitPath.moveTo(p.x, p.y);
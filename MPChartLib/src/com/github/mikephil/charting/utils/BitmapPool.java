@@ -0,0 +1,180 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+
+import java.util.ArrayList;
+
+/**
+ * Pool of bitmaps shared by all charts. The renderers that draw into an
+ * offscreen bitmap (and the export methods of the chart) borrow their bitmap
+ * from the pool and give it back when the chart is detached, resized or done
+ * exporting, so that e.g. the charts inside a ListView keep reusing the same
+ * few bitmaps instead of allocating new ones whenever a chart is scrolled into
+ * view. Bitmaps are only reused for the exact same size and config (one
+ * bucket per size and config). The pool holds at most the given number of
+ * bytes of unused bitmaps, the least recently returned bitmaps are recycled
+ * once the budget is exceeded.
+ */
+public final class BitmapPool {
+
+    /** the unused bitmaps, the least recently returned first */
+    private static final ArrayList<Bitmap> sBitmaps = new ArrayList<Bitmap>();
+
+    /** the number of bytes of all unused bitmaps */
+    private static long sPooledBytes = 0;
+
+    /** the maximum number of bytes of unused bitmaps, default 1/8 of the heap */
+    private static long sMaxBytes = Runtime.getRuntime().maxMemory() / 8;
+
+    private BitmapPool() {
+    }
+
+    /**
+     * Returns a bitmap with the given size and config, either one from the
+     * pool or a newly created one. The content of a pooled bitmap is not
+     * cleared. Pass the bitmap to release(...) once it is no longer used.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public static Bitmap obtain(int width, int height, Bitmap.Config config) {
+
+        synchronized (sBitmaps) {
+
+            // the most recently returned bitmaps are checked first
+            for (int i = sBitmaps.size() - 1; i >= 0; i--) {
+
+                Bitmap bitmap = sBitmaps.get(i);
+
+                if (bitmap.getWidth() == width && bitmap.getHeight() == height
+                        && bitmap.getConfig() == config) {
+
+                    sBitmaps.remove(i);
+                    sPooledBytes -= getBytes(bitmap);
+                    return bitmap;
+                }
+            }
+        }
+
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Returns the given bitmap to the pool, recycles it if it does not fit
+     * into the budget. The bitmap must not be used anymore afterwards. Null
+     * and recycled bitmaps are ignored.
+     *
+     * @param bitmap
+     */
+    public static void release(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled())
+            return;
+
+        long bytes = getBytes(bitmap);
+
+        synchronized (sBitmaps) {
+
+            // released twice
+            if (sBitmaps.contains(bitmap))
+                return;
+
+            if (bytes > sMaxBytes || !bitmap.isMutable()) {
+                bitmap.recycle();
+                return;
+            }
+
+            sBitmaps.add(bitmap);
+            sPooledBytes += bytes;
+
+            trimToSize(sMaxBytes);
+        }
+    }
+
+    /**
+     * Sets the maximum number of bytes of unused bitmaps the pool holds,
+     * 0 disables pooling. Recycles the least recently returned bitmaps if the
+     * pool currently holds more.
+     *
+     * @param maxBytes
+     */
+    public static void setMaxBytes(long maxBytes) {
+
+        synchronized (sBitmaps) {
+            sMaxBytes = Math.max(0, maxBytes);
+            trimToSize(sMaxBytes);
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes of unused bitmaps the pool holds.
+     *
+     * @return
+     */
+    public static long getMaxBytes() {
+        synchronized (sBitmaps) {
+            return sMaxBytes;
+        }
+    }
+
+    /**
+     * Returns the number of bytes of all unused bitmaps in the pool.
+     *
+     * @return
+     */
+    public static long getPooledBytes() {
+        synchronized (sBitmaps) {
+            return sPooledBytes;
+        }
+    }
+
+    /**
+     * Recycles all unused bitmaps in the pool, e.g. when the app is asked to
+     * trim its memory.
+     */
+    public static void clear() {
+        synchronized (sBitmaps) {
+            trimToSize(0);
+        }
+    }
+
+    /**
+     * Recycles the least recently returned bitmaps until the pool holds at
+     * most the given number of bytes. Unlike setMaxBytes(...), this does not
+     * change the budget of the pool.
+     *
+     * @param maxBytes
+     */
+    public static void trim(long maxBytes) {
+        synchronized (sBitmaps) {
+            trimToSize(maxBytes);
+        }
+    }
+
+    private static void trimToSize(long maxBytes) {
+
+        while (sPooledBytes > maxBytes && !sBitmaps.isEmpty()) {
+
+            Bitmap bitmap = sBitmaps.remove(0);
+            sPooledBytes -= getBytes(bitmap);
+            bitmap.recycle();
+        }
+    }
+
+    /**
+     * Returns the number of bytes of pixel memory of the given bitmap, 0 for
+     * null or recycled bitmaps.
+     *
+     * @param bitmap
+     * @return
+     */
+    public static long getBytes(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled())
+            return 0;
+
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+}
@@ -0,0 +1,266 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Timings (in nanoseconds) of the phases of drawing a chart and of updating
+ * it after its data changed, together with counters of the last frame. Every
+ * value is also collected in a RollingHistogram over the most recent frames
+ * (or updates), which provides percentiles such as p50, p95 and p99. The
+ * chart reuses the same object for every frame, the values must be copied if
+ * they are needed after the listener-callback returns.
+ * Must only be used from the UI thread.
+ */
+public class ChartMetrics {
+
+    /** calculating the x-label modulus and the visible x-range */
+    public static final int PHASE_CALC_MODULUS = 0;
+
+    /** computing the y-axes, including auto-scaling */
+    public static final int PHASE_AXIS_COMPUTE = 1;
+
+    /** grid background, axis lines, grid lines and limit lines */
+    public static final int PHASE_GRID = 2;
+
+    /** the data itself, including the extras (e.g. line-circles) */
+    public static final int PHASE_DATA = 3;
+
+    /** the highlight indicators */
+    public static final int PHASE_HIGHLIGHT = 4;
+
+    /** the value-texts */
+    public static final int PHASE_VALUES = 5;
+
+    /** the labels of all axes */
+    public static final int PHASE_AXIS_LABELS = 6;
+
+    /** the legend */
+    public static final int PHASE_LEGEND = 7;
+
+    /** the marker-views and the description */
+    public static final int PHASE_MARKERS = 8;
+
+    /** the whole frame */
+    public static final int PHASE_DRAW_TOTAL = 9;
+
+    /** notifyDataSetChanged(): initializing the render buffers */
+    public static final int PHASE_UPDATE_INIT_BUFFERS = 10;
+
+    /** notifyDataSetChanged(): calculating the min and max values */
+    public static final int PHASE_UPDATE_CALC_MIN_MAX = 11;
+
+    /** notifyDataSetChanged(): computing the axes */
+    public static final int PHASE_UPDATE_AXIS = 12;
+
+    /** notifyDataSetChanged(): computing the legend */
+    public static final int PHASE_UPDATE_LEGEND = 13;
+
+    /** notifyDataSetChanged(): calculating the offsets */
+    public static final int PHASE_UPDATE_OFFSETS = 14;
+
+    /** the whole notifyDataSetChanged() call */
+    public static final int PHASE_UPDATE_TOTAL = 15;
+
+    /** the number of entries of all visible DataSets */
+    public static final int COUNT_ENTRIES_FED = 16;
+
+    /** the number of entries the renderer has drawn, -1 if it does not count them */
+    public static final int COUNT_ENTRIES_DRAWN = 17;
+
+    /**
+     * the number of entries that have been skipped because they are not
+     * visible, -1 if the renderer does not count the drawn entries
+     */
+    public static final int COUNT_ENTRIES_CULLED = 18;
+
+    /** the number of draw-calls issued on the canvas for the data */
+    public static final int COUNT_DRAW_CALLS = 19;
+
+    /** the number of metrics */
+    public static final int METRIC_COUNT = 20;
+
+    private static final String[] NAMES = new String[]{
+            "calcModulus", "axisCompute", "grid", "data", "highlight", "values",
+            "axisLabels", "legend", "markers", "drawTotal",
+            "update.initBuffers", "update.calcMinMax", "update.axis",
+            "update.legend", "update.offsets", "updateTotal",
+            "entriesFed", "entriesDrawn", "entriesCulled", "drawCalls"
+    };
+
+    /** the values of the last frame / update */
+    private final long[] mValues = new long[METRIC_COUNT];
+
+    /** the histograms of all metrics */
+    private final RollingHistogram[] mHistograms = new RollingHistogram[METRIC_COUNT];
+
+    /** the start of the current frame or update, System.nanoTime() */
+    private long mStart;
+
+    /**
+     * Creates a metrics object that keeps the values of the given number of
+     * most recent frames (and updates) in its histograms.
+     *
+     * @param window
+     */
+    public ChartMetrics(int window) {
+
+        for (int i = 0; i < METRIC_COUNT; i++)
+            mHistograms[i] = new RollingHistogram(window);
+    }
+
+    /**
+     * Resets the values of the draw-phases and counters and starts timing a
+     * frame.
+     *
+     * @return the start time, pass it to mark(...)
+     */
+    public long beginFrame() {
+
+        for (int i = PHASE_CALC_MODULUS; i <= PHASE_DRAW_TOTAL; i++)
+            mValues[i] = 0;
+
+        for (int i = COUNT_ENTRIES_FED; i <= COUNT_DRAW_CALLS; i++)
+            mValues[i] = 0;
+
+        mStart = System.nanoTime();
+        return mStart;
+    }
+
+    /**
+     * Finishes the frame started with beginFrame() and adds its values to the
+     * histograms.
+     */
+    public void endFrame() {
+
+        mValues[PHASE_DRAW_TOTAL] = System.nanoTime() - mStart;
+        // unknown if the renderer does not count the drawn entries
+        mValues[COUNT_ENTRIES_CULLED] = mValues[COUNT_ENTRIES_DRAWN] < 0 ? -1 : Math.max(0,
+                mValues[COUNT_ENTRIES_FED] - mValues[COUNT_ENTRIES_DRAWN]);
+
+        for (int i = PHASE_CALC_MODULUS; i <= PHASE_DRAW_TOTAL; i++)
+            mHistograms[i].add(mValues[i]);
+
+        for (int i = COUNT_ENTRIES_FED; i <= COUNT_DRAW_CALLS; i++)
+            mHistograms[i].add(mValues[i]);
+    }
+
+    /**
+     * Resets the values of the update-phases and starts timing an update.
+     *
+     * @return the start time, pass it to mark(...)
+     */
+    public long beginUpdate() {
+
+        for (int i = PHASE_UPDATE_INIT_BUFFERS; i <= PHASE_UPDATE_TOTAL; i++)
+            mValues[i] = 0;
+
+        mStart = System.nanoTime();
+        return mStart;
+    }
+
+    /**
+     * Finishes the update started with beginUpdate() and adds its values to
+     * the histograms.
+     */
+    public void endUpdate() {
+
+        mValues[PHASE_UPDATE_TOTAL] = System.nanoTime() - mStart;
+
+        for (int i = PHASE_UPDATE_INIT_BUFFERS; i <= PHASE_UPDATE_TOTAL; i++)
+            mHistograms[i].add(mValues[i]);
+    }
+
+    /**
+     * Adds the time since the given start to the given phase.
+     *
+     * @param phase
+     * @param start the value returned by the previous call of mark(...) or
+     *              by beginFrame() / beginUpdate()
+     * @return the current time, the start of the next phase
+     */
+    public long mark(int phase, long start) {
+
+        long now = System.nanoTime();
+        mValues[phase] += now - start;
+        return now;
+    }
+
+    /**
+     * Sets the value of the given counter for the current frame.
+     *
+     * @param counter
+     * @param value
+     */
+    public void setCount(int counter, long value) {
+        mValues[counter] = value;
+    }
+
+    /**
+     * Returns the value of the given metric of the last frame (or update),
+     * in nanoseconds for phases.
+     *
+     * @param metric
+     * @return
+     */
+    public long getValue(int metric) {
+        return mValues[metric];
+    }
+
+    /**
+     * Returns the histogram of the given metric over the most recent frames
+     * (or updates).
+     *
+     * @param metric
+     * @return
+     */
+    public RollingHistogram getHistogram(int metric) {
+        return mHistograms[metric];
+    }
+
+    /**
+     * Returns the value of the given metric at the given percentile (e.g. 95f)
+     * over the most recent frames (or updates).
+     *
+     * @param metric
+     * @param percentile
+     * @return
+     */
+    public long getPercentile(int metric, float percentile) {
+        return mHistograms[metric].getPercentile(percentile);
+    }
+
+    /**
+     * Removes all samples from the histograms.
+     */
+    public void reset() {
+
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            mValues[i] = 0;
+            mHistograms[i].reset();
+        }
+    }
+
+    /**
+     * Returns the name of the given metric, e.g. for telemetry-keys.
+     *
+     * @param metric
+     * @return
+     */
+    public static String getName(int metric) {
+        return NAMES[metric];
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder("ChartMetrics");
+
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            sb.append(i == 0 ? ": " : ", ").append(NAMES[i]).append(" ")
+                    .append(mValues[i]).append(" (p50 ")
+                    .append(getPercentile(i, 50f)).append(", p95 ")
+                    .append(getPercentile(i, 95f)).append(", p99 ")
+                    .append(getPercentile(i, 99f)).append(")");
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,314 @@
+package com.github.mikephil.charting.utils;
+
+import android.util.Log;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Opt-in tracer that records begin- and end-events of chart work (drawing
+ * phases, data updates, animation updates, deceleration steps and highlight
+ * resolution) into a ring buffer, e.g. for correlating them with the work
+ * of other threads when looking for dropped frames. Apps can record their
+ * own spans with begin(...) and end(...) as well. The recorded events can be
+ * written in the Chrome Trace Event format, which can be opened with
+ * chrome://tracing or Perfetto.
+ *
+ * Recording is lock-free: every event claims a slot with a single atomic
+ * increment, the oldest events are overwritten once the buffer is full.
+ * While the tracer is stopped, begin(...) and end(...) return after a single
+ * branch.
+ */
+public final class ChartTracer {
+
+    private static final String LOG_TAG = "MPAndroidChart";
+
+    /** names of the spans recorded by the library */
+    public static final String ON_DRAW = "onDraw";
+    public static final String DRAW_GRID = "drawGrid";
+    public static final String DRAW_DATA = "drawData";
+    public static final String DRAW_HIGHLIGHTED = "drawHighlighted";
+    public static final String DRAW_VALUES = "drawValues";
+    public static final String DRAW_AXIS_LABELS = "drawAxisLabels";
+    public static final String DRAW_LEGEND = "drawLegend";
+    public static final String DRAW_MARKERS = "drawMarkers";
+    public static final String NOTIFY_DATA_SET_CHANGED = "notifyDataSetChanged";
+    public static final String ANIMATION_UPDATE = "animationUpdate";
+    public static final String DECELERATION_STEP = "decelerationStep";
+    public static final String HIGHLIGHT = "highlight";
+
+    private static final byte BEGIN = 'B';
+    private static final byte END = 'E';
+
+    /** true while events are recorded, the only thing checked when stopped */
+    private static volatile boolean sEnabled = false;
+
+    /** the buffer events are currently recorded into */
+    private static volatile Ring sRing;
+
+    private ChartTracer() {
+    }
+
+    /**
+     * Starts recording into a new buffer holding the given number of events
+     * (rounded up to a power of two). Discards previously recorded events.
+     *
+     * @param capacity
+     */
+    public static void start(int capacity) {
+
+        int size = 1;
+
+        while (size < capacity && size < (1 << 30))
+            size <<= 1;
+
+        sRing = new Ring(size);
+        sEnabled = true;
+    }
+
+    /**
+     * Stops recording, the recorded events are kept until the next start or
+     * clear() call.
+     */
+    public static void stop() {
+        sEnabled = false;
+    }
+
+    /**
+     * Discards all recorded events.
+     */
+    public static void clear() {
+
+        Ring ring = sRing;
+
+        if (ring != null)
+            sRing = new Ring(ring.mNames.length);
+    }
+
+    /**
+     * Returns true if events are currently recorded.
+     *
+     * @return
+     */
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * Records the begin of a span on the calling thread. The name should be a
+     * constant, it is not copied.
+     *
+     * @param name
+     */
+    public static void begin(String name) {
+
+        if (sEnabled)
+            sRing.record(name, BEGIN);
+    }
+
+    /**
+     * Records the end of the span with the given name on the calling thread.
+     *
+     * @param name
+     */
+    public static void end(String name) {
+
+        if (sEnabled)
+            sRing.record(name, END);
+    }
+
+    /**
+     * Writes the recorded events to the given file in the Chrome Trace Event
+     * format. Returns false if the file could not be written.
+     *
+     * @param file
+     * @return
+     */
+    public static boolean writeToFile(File file) {
+
+        Writer writer = null;
+
+        try {
+            writer = new BufferedWriter(new FileWriter(file));
+            write(writer);
+            return true;
+
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "Could not write the trace to " + file, e);
+            return false;
+
+        } finally {
+
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    // nothing left to do
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the recorded events to the given writer in the Chrome Trace
+     * Event format. Events that are recorded while writing may or may not be
+     * included.
+     *
+     * @param writer
+     * @throws IOException
+     */
+    public static void write(Writer writer) throws IOException {
+
+        Ring ring = sRing;
+        int pid = android.os.Process.myPid();
+
+        writer.write("{\"traceEvents\":[");
+
+        boolean first = true;
+
+        if (ring != null) {
+
+            Map<Long, String> threads = new HashMap<Long, String>();
+
+            int mask = ring.mNames.length - 1;
+            long next = ring.mNext.get() & 0xffffffffL;
+            long from = Math.max(0, next - ring.mNames.length);
+
+            for (long seq = from; seq < next; seq++) {
+
+                int slot = (int) (seq & mask);
+
+                // the slot has not been published yet or has been reused
+                if (ring.mSeqs.get(slot) != seq + 1)
+                    continue;
+
+                String name = ring.mNames[slot];
+                byte phase = ring.mPhases[slot];
+                long time = ring.mTimes[slot];
+                long tid = ring.mTids[slot];
+                String threadName = ring.mThreadNames[slot];
+
+                // overwritten while reading
+                if (ring.mSeqs.get(slot) != seq + 1)
+                    continue;
+
+                if (!threads.containsKey(tid))
+                    threads.put(tid, threadName);
+
+                if (!first)
+                    writer.write(',');
+
+                first = false;
+
+                writer.write("\n{\"name\":");
+                writeString(writer, name);
+                writer.write(",\"cat\":\"chart\",\"ph\":\"");
+                writer.write((char) phase);
+                writer.write("\",\"ts\":");
+                writer.write(Long.toString(time / 1000L));
+                writer.write('.');
+                writer.write(Long.toString(time % 1000L / 100L));
+                writer.write(",\"pid\":");
+                writer.write(Integer.toString(pid));
+                writer.write(",\"tid\":");
+                writer.write(Long.toString(tid));
+                writer.write('}');
+            }
+
+            for (Map.Entry<Long, String> thread : threads.entrySet()) {
+
+                if (!first)
+                    writer.write(',');
+
+                first = false;
+
+                writer.write("\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":");
+                writer.write(Integer.toString(pid));
+                writer.write(",\"tid\":");
+                writer.write(Long.toString(thread.getKey()));
+                writer.write(",\"args\":{\"name\":");
+                writeString(writer, thread.getValue());
+                writer.write("}}");
+            }
+        }
+
+        writer.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+        writer.flush();
+    }
+
+    private static void writeString(Writer writer, String s) throws IOException {
+
+        writer.write('"');
+
+        if (s != null) {
+
+            for (int i = 0; i < s.length(); i++) {
+
+                char c = s.charAt(i);
+
+                if (c == '"' || c == '\\') {
+                    writer.write('\\');
+                    writer.write(c);
+                } else if (c < 0x20) {
+                    writer.write(String.format("\\u%04x", (int) c));
+                } else {
+                    writer.write(c);
+                }
+            }
+        }
+
+        writer.write('"');
+    }
+
+    /**
+     * Fixed-size buffer of events. A writer claims a sequence number, fills
+     * the slot and publishes it by storing the sequence number + 1, readers
+     * skip slots whose sequence number does not match.
+     */
+    private static final class Ring {
+
+        private final AtomicInteger mNext = new AtomicInteger();
+        private final AtomicLongArray mSeqs;
+        private final String[] mNames;
+        private final byte[] mPhases;
+        private final long[] mTimes;
+        private final long[] mTids;
+        private final String[] mThreadNames;
+
+        Ring(int size) {
+            mSeqs = new AtomicLongArray(size);
+            mNames = new String[size];
+            mPhases = new byte[size];
+            mTimes = new long[size];
+            mTids = new long[size];
+            mThreadNames = new String[size];
+        }
+
+        void record(String name, byte phase) {
+
+            long time = System.nanoTime();
+            long seq = mNext.getAndIncrement() & 0xffffffffL;
+            int slot = (int) (seq & (mNames.length - 1));
+
+            Thread thread = Thread.currentThread();
+
+            // mark the slot as being written
+            mSeqs.set(slot, 0);
+
+            mNames[slot] = name;
+            mPhases[slot] = phase;
+            mTimes[slot] = time;
+            mTids[slot] = thread.getId();
+            mThreadNames[slot] = thread.getName();
+
+            mSeqs.set(slot, seq + 1);
+        }
+    }
+}
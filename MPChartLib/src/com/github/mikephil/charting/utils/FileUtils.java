@@ -46,24 +46,7 @@ public class FileUtils {
         try {
             @SuppressWarnings("resource")
             BufferedReader br = new BufferedReader(new FileReader(file));
-            String line;
-
-            while ((line = br.readLine()) != null) {
-                String[] split = line.split("#");
-
-                if (split.length <= 2) {
-                    entries.add(new Entry(Float.parseFloat(split[0]), Integer.parseInt(split[1])));
-                } else {
-
-                    float[] vals = new float[split.length - 1];
-
-                    for (int i = 0; i < vals.length; i++) {
-                        vals[i] = Float.parseFloat(split[i]);
-                    }
-
-                    entries.add(new BarEntry(vals, Integer.parseInt(split[split.length - 1])));
-                }
-            }
+            entries = loadEntriesFromReader(br);
         } catch (IOException e) {
             Log.e(LOG, e.toString());
         }
@@ -115,26 +98,7 @@ public class FileUtils {
             reader = new BufferedReader(
                     new InputStreamReader(am.open(path), "UTF-8"));
 
-            String line = reader.readLine();
-
-            while (line != null) {
-                // process line
-                String[] split = line.split("#");
-
-                if (split.length <= 2) {
-                    entries.add(new Entry(Float.parseFloat(split[0]), Integer.parseInt(split[1])));
-                } else {
-
-                    float[] vals = new float[split.length - 1];
-
-                    for (int i = 0; i < vals.length; i++) {
-                        vals[i] = Float.parseFloat(split[i]);
-                    }
-
-                    entries.add(new BarEntry(vals, Integer.parseInt(split[split.length - 1])));
-                }
-                line = reader.readLine();
-            }
+            entries = loadEntriesFromReader(reader);
         } catch (IOException e) {
             Log.e(LOG, e.toString());
 
@@ -188,6 +152,65 @@ public class FileUtils {
         // return ds;
     }
 
+    /**
+     * Reads Entries from the given reader until its end, one Entry per line
+     * in the form "value#xIndex". Lines with more than one value
+     * ("value#value#...#xIndex") are read as stacked BarEntries. The reader
+     * is not closed.
+     *
+     * @param reader
+     * @return
+     * @throws IOException
+     */
+    public static List<Entry> loadEntriesFromReader(BufferedReader reader) throws IOException {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            String[] split = line.split("#");
+
+            if (split.length <= 2) {
+                entries.add(new Entry(Float.parseFloat(split[0]), Integer.parseInt(split[1])));
+            } else {
+
+                float[] vals = new float[split.length - 1];
+
+                for (int i = 0; i < vals.length; i++) {
+                    vals[i] = Float.parseFloat(split[i]);
+                }
+
+                entries.add(new BarEntry(vals, Integer.parseInt(split[split.length - 1])));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Reads BarEntries from the given reader until its end, one BarEntry per
+     * line in the form "value#xIndex". The reader is not closed.
+     *
+     * @param reader
+     * @return
+     * @throws IOException
+     */
+    public static List<BarEntry> loadBarEntriesFromReader(BufferedReader reader) throws IOException {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>();
+
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            String[] split = line.split("#");
+
+            entries.add(new BarEntry(Float.parseFloat(split[0]), Integer.parseInt(split[1])));
+        }
+
+        return entries;
+    }
+
     /**
      * Saves an Array of Entries to the specified location on the sdcard
      * 
@@ -236,16 +259,7 @@ public class FileUtils {
             reader = new BufferedReader(
                     new InputStreamReader(am.open(path), "UTF-8"));
 
-            String line = reader.readLine();
-
-            while (line != null) {
-                // process line
-                String[] split = line.split("#");
-
-                entries.add(new BarEntry(Float.parseFloat(split[0]), Integer.parseInt(split[1])));
-
-                line = reader.readLine();
-            }
+            entries = loadBarEntriesFromReader(reader);
         } catch (IOException e) {
             Log.e(LOG, e.toString());
 
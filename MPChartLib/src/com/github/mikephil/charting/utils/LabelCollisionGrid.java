@@ -0,0 +1,165 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Spatial hash of the screen-space rectangles of already placed labels. The
+ * area is divided into a uniform grid of cells, each cell references the
+ * rectangles overlapping it, so checking a new label only looks at the labels
+ * in the cells it covers. Used for skipping value-labels that would overlap
+ * an already drawn label. The cost is linear in the number of placed labels,
+ * and after the first frames, placing labels does not allocate any memory.
+ */
+public class LabelCollisionGrid {
+
+    /** the size (width and height) of a single cell in pixels */
+    private float mCellSize;
+
+    private float mLeft;
+    private float mTop;
+    private int mColumns;
+    private int mRows;
+
+    /** index of the first node of each cell, -1 if the cell is empty */
+    private int[] mCellHeads = new int[0];
+
+    /** linked list nodes: the rectangle a node references and the next node in the same cell */
+    private int[] mNodeRects = new int[64];
+    private int[] mNodeNext = new int[64];
+    private int mNodeCount = 0;
+
+    /** the placed rectangles as left, top, right, bottom */
+    private float[] mRects = new float[64 * 4];
+    private int mRectCount = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param cellSize the size of a single cell in pixels, should be about the
+     *                 size of a label
+     */
+    public LabelCollisionGrid(float cellSize) {
+        mCellSize = Math.max(1f, cellSize);
+    }
+
+    /**
+     * Removes all placed rectangles and sets the area covered by the grid.
+     * Rectangles outside of the area are assigned to the border cells.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     */
+    public void reset(float left, float top, float right, float bottom) {
+
+        mLeft = left;
+        mTop = top;
+        mColumns = Math.max(1, (int) Math.ceil((right - left) / mCellSize));
+        mRows = Math.max(1, (int) Math.ceil((bottom - top) / mCellSize));
+
+        final int cells = mColumns * mRows;
+
+        if (mCellHeads.length < cells)
+            mCellHeads = new int[cells];
+
+        for (int i = 0; i < cells; i++)
+            mCellHeads[i] = -1;
+
+        mNodeCount = 0;
+        mRectCount = 0;
+    }
+
+    /**
+     * Places the given rectangle if it does not overlap any previously
+     * placed rectangle. Returns true if it was placed, false if it collides.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @return
+     */
+    public boolean place(float left, float top, float right, float bottom) {
+
+        final int colFrom = column(left);
+        final int colTo = column(right);
+        final int rowFrom = row(top);
+        final int rowTo = row(bottom);
+
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+
+                for (int node = mCellHeads[row * mColumns + col]; node != -1; node = mNodeNext[node]) {
+
+                    final int r = mNodeRects[node] * 4;
+
+                    if (left < mRects[r + 2] && right > mRects[r]
+                            && top < mRects[r + 3] && bottom > mRects[r + 1])
+                        return false;
+                }
+            }
+        }
+
+        addRect(left, top, right, bottom);
+
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                addNode(row * mColumns + col, mRectCount - 1);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of rectangles placed since the last reset.
+     *
+     * @return
+     */
+    public int getPlacedCount() {
+        return mRectCount;
+    }
+
+    private void addRect(float left, float top, float right, float bottom) {
+
+        if ((mRectCount + 1) * 4 > mRects.length) {
+            float[] rects = new float[mRects.length * 2];
+            System.arraycopy(mRects, 0, rects, 0, mRects.length);
+            mRects = rects;
+        }
+
+        final int r = mRectCount * 4;
+        mRects[r] = left;
+        mRects[r + 1] = top;
+        mRects[r + 2] = right;
+        mRects[r + 3] = bottom;
+        mRectCount++;
+    }
+
+    private void addNode(int cell, int rect) {
+
+        if (mNodeCount == mNodeRects.length) {
+
+            int[] rects = new int[mNodeRects.length * 2];
+            int[] next = new int[mNodeNext.length * 2];
+            System.arraycopy(mNodeRects, 0, rects, 0, mNodeCount);
+            System.arraycopy(mNodeNext, 0, next, 0, mNodeCount);
+            mNodeRects = rects;
+            mNodeNext = next;
+        }
+
+        mNodeRects[mNodeCount] = rect;
+        mNodeNext[mNodeCount] = mCellHeads[cell];
+        mCellHeads[cell] = mNodeCount;
+        mNodeCount++;
+    }
+
+    private int column(float x) {
+        int col = (int) ((x - mLeft) / mCellSize);
+        return col < 0 ? 0 : (col >= mColumns ? mColumns - 1 : col);
+    }
+
+    private int row(float y) {
+        int row = (int) ((y - mTop) / mCellSize);
+        return row < 0 ? 0 : (row >= mRows ? mRows - 1 : row);
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.buffer.AbstractBuffer;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.List;
+
+/**
+ * Estimated number of bytes a chart holds, split by component (see
+ * Chart.getMemoryStats()). The estimates assume 32 bit references and 8
+ * byte aligned objects, they are meant for comparing charts and finding the
+ * largest consumers, not for exact accounting. Bitmaps are counted with
+ * their actual pixel memory.
+ */
+public class MemoryStats {
+
+    /** estimated size of an Entry object, including its slot in the list */
+    public static final int ENTRY_BYTES = 32;
+
+    /** estimated size of an array header */
+    public static final int ARRAY_BYTES = 16;
+
+    /** estimated size of a String object, without its characters */
+    public static final int STRING_BYTES = 40;
+
+    private final long mEntryBytes;
+    private final long mBufferBytes;
+    private final long mBitmapBytes;
+    private final long mValueTextCacheBytes;
+    private final long mXValueBytes;
+    private final long mLegendBytes;
+
+    public MemoryStats(long entryBytes, long bufferBytes, long bitmapBytes,
+                       long valueTextCacheBytes, long xValueBytes, long legendBytes) {
+        mEntryBytes = entryBytes;
+        mBufferBytes = bufferBytes;
+        mBitmapBytes = bitmapBytes;
+        mValueTextCacheBytes = valueTextCacheBytes;
+        mXValueBytes = xValueBytes;
+        mLegendBytes = legendBytes;
+    }
+
+    /**
+     * Returns the estimated size of all entries of all DataSets.
+     *
+     * @return
+     */
+    public long getEntryBytes() {
+        return mEntryBytes;
+    }
+
+    /**
+     * Returns the size of the buffers the renderer transforms the entries
+     * into before drawing.
+     *
+     * @return
+     */
+    public long getBufferBytes() {
+        return mBufferBytes;
+    }
+
+    /**
+     * Returns the size of the offscreen bitmaps held by the renderer.
+     *
+     * @return
+     */
+    public long getBitmapBytes() {
+        return mBitmapBytes;
+    }
+
+    /**
+     * Returns the estimated size of the cached formatted value-texts.
+     *
+     * @return
+     */
+    public long getValueTextCacheBytes() {
+        return mValueTextCacheBytes;
+    }
+
+    /**
+     * Returns the estimated size of the x-value strings.
+     *
+     * @return
+     */
+    public long getXValueBytes() {
+        return mXValueBytes;
+    }
+
+    /**
+     * Returns the estimated size of the computed legend labels, colors and
+     * sizes.
+     *
+     * @return
+     */
+    public long getLegendBytes() {
+        return mLegendBytes;
+    }
+
+    /**
+     * Returns the size of the caches that can be released and are rebuilt
+     * on demand: buffers, bitmaps and value-text caches.
+     *
+     * @return
+     */
+    public long getCacheBytes() {
+        return mBufferBytes + mBitmapBytes + mValueTextCacheBytes;
+    }
+
+    /**
+     * Returns the sum of all components.
+     *
+     * @return
+     */
+    public long getTotalBytes() {
+        return mEntryBytes + getCacheBytes() + mXValueBytes + mLegendBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryStats, total: " + getTotalBytes()
+                + ", entries: " + mEntryBytes
+                + ", buffers: " + mBufferBytes
+                + ", bitmaps: " + mBitmapBytes
+                + ", value-text caches: " + mValueTextCacheBytes
+                + ", x-values: " + mXValueBytes
+                + ", legend: " + mLegendBytes;
+    }
+
+    /**
+     * Returns the estimated size of the entries of the given DataSet,
+     * including the values of stacked BarEntries.
+     *
+     * @param set
+     * @return
+     */
+    public static long estimateEntries(IDataSet<?> set) {
+
+        long bytes = (long) set.getEntryCount() * ENTRY_BYTES;
+
+        // only stacked entries carry more than one value, checking the first
+        // one is enough for an estimate
+        if (set.getEntryCount() > 0 && set.getEntryForIndex(0) instanceof BarEntry) {
+
+            float[] vals = ((BarEntry) set.getEntryForIndex(0)).getVals();
+
+            if (vals != null)
+                bytes += (long) set.getEntryCount() * (ARRAY_BYTES + vals.length * 4);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated size of the given String.
+     *
+     * @param s
+     * @return
+     */
+    public static long estimateString(String s) {
+        return s == null ? 0 : STRING_BYTES + 2L * s.length();
+    }
+
+    /**
+     * Returns the estimated size of all given Strings and the array holding
+     * them.
+     *
+     * @param strings
+     * @return
+     */
+    public static long estimateStrings(List<String> strings) {
+
+        if (strings == null)
+            return 0;
+
+        long bytes = ARRAY_BYTES + 4L * strings.size();
+
+        for (int i = 0; i < strings.size(); i++)
+            bytes += estimateString(strings.get(i));
+
+        return bytes;
+    }
+
+    /**
+     * Returns the size of the float-arrays of the given buffers.
+     *
+     * @param buffers
+     * @return
+     */
+    public static long estimateBuffers(AbstractBuffer<?>[] buffers) {
+
+        if (buffers == null)
+            return 0;
+
+        long bytes = ARRAY_BYTES + 4L * buffers.length;
+
+        for (AbstractBuffer<?> buffer : buffers) {
+            if (buffer != null)
+                bytes += ARRAY_BYTES + 4L * buffer.buffer.length;
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent tasks (one per DataSet) on a shared pool of background
+ * threads sized to the number of cores and waits for all of them to finish.
+ * The calling thread works on the tasks as well, and every thread takes the
+ * next unprocessed task from a shared counter, so large and small DataSets
+ * are balanced between the threads automatically.
+ *
+ * The tasks must only touch state that belongs to their own index, e.g. the
+ * values of one DataSet or the buffer of one DataSet. Work that is done every
+ * frame should keep an instance and its task and call execute(...), which
+ * reuses both, instead of run(...).
+ */
+public final class ParallelExecutor {
+
+    /**
+     * A task that is run once for every index.
+     */
+    public interface IndexedTask {
+
+        /**
+         * Processes the given index.
+         *
+         * @param index
+         */
+        void run(int index);
+    }
+
+    /** the number of available cores */
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    /** the number of helpers that can wait for a pool thread */
+    private static final int QUEUE_CAPACITY = Math.max(CORES * 8, 16);
+
+    /** the shared pool, created when it is first used */
+    private static Executor sExecutor;
+
+    /** the task of the current batch */
+    private IndexedTask mTask;
+
+    /** the number of tasks of the current batch */
+    private int mTaskCount;
+
+    /** the next index that has not been picked up by any thread yet */
+    private final AtomicInteger mNext = new AtomicInteger();
+
+    /**
+     * the number of helpers of the current batch that have not finished yet,
+     * guarded by mLock
+     */
+    private int mPendingHelpers;
+
+    /** the first exception thrown by a task of the current batch */
+    private Throwable mError;
+
+    private final Object mLock = new Object();
+
+    /** works on the tasks of the current batch until none are left */
+    private final Runnable mWorker = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                int i;
+                while ((i = mNext.getAndIncrement()) < mTaskCount)
+                    mTask.run(i);
+            } catch (Throwable t) {
+                synchronized (mLock) {
+                    if (mError == null)
+                        mError = t;
+                }
+                // stop the other threads from picking up more tasks
+                mNext.set(mTaskCount);
+            }
+        }
+    };
+
+    /** runs mWorker on a pool thread and reports back when it is done */
+    private final Runnable mHelper = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                mWorker.run();
+            } finally {
+                synchronized (mLock) {
+                    if (--mPendingHelpers == 0)
+                        mLock.notifyAll();
+                }
+            }
+        }
+    };
+
+    /**
+     * Constructor. An instance runs one batch of tasks at a time and keeps
+     * its state between batches, so that running a batch does not allocate,
+     * e.g. one instance per renderer that prepares its DataSets every frame.
+     */
+    public ParallelExecutor() {
+    }
+
+    /**
+     * Returns true if running tasks in parallel can be faster than running
+     * them one after another on this device.
+     *
+     * @return
+     */
+    public static boolean isParallelismAvailable() {
+        return CORES > 1;
+    }
+
+    /**
+     * Runs the task for every index from 0 to count - 1 and returns after all
+     * of them are done. The work is only distributed across threads if there
+     * is more than one task and more than one core. Exceptions thrown by a
+     * task are rethrown on the calling thread. Creates a new ParallelExecutor
+     * for the call, use execute(...) of a kept instance for work that is done
+     * repeatedly.
+     *
+     * @param count
+     * @param task
+     */
+    public static void run(int count, IndexedTask task) {
+
+        if (count < 2 || CORES < 2) {
+            for (int i = 0; i < count; i++)
+                task.run(i);
+            return;
+        }
+
+        new ParallelExecutor().execute(count, task);
+    }
+
+    /**
+     * Runs the task for every index from 0 to count - 1 and returns after all
+     * of them are done, like run(...), without allocating. Must not be called
+     * again before the previous call has returned.
+     *
+     * @param count
+     * @param task
+     */
+    public void execute(int count, IndexedTask task) {
+
+        if (count < 2 || CORES < 2) {
+            for (int i = 0; i < count; i++)
+                task.run(i);
+            return;
+        }
+
+        int helpers = Math.min(CORES, count) - 1;
+
+        mTask = task;
+        mTaskCount = count;
+        mNext.set(0);
+
+        synchronized (mLock) {
+            mError = null;
+            mPendingHelpers = helpers;
+        }
+
+        Executor executor = getExecutor();
+
+        for (int i = 0; i < helpers; i++)
+            executor.execute(mHelper);
+
+        mWorker.run();
+
+        boolean interrupted = false;
+
+        Throwable error;
+
+        synchronized (mLock) {
+
+            while (mPendingHelpers > 0) {
+                try {
+                    mLock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            error = mError;
+            mError = null;
+        }
+
+        // don't keep the task and what it references alive between batches
+        mTask = null;
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        if (error instanceof RuntimeException)
+            throw (RuntimeException) error;
+        if (error instanceof Error)
+            throw (Error) error;
+        if (error != null)
+            throw new RuntimeException(error);
+    }
+
+    private static synchronized Executor getExecutor() {
+
+        if (sExecutor == null) {
+
+            // idle daemon threads just block on the queue, no need to time them
+            // out. The array-backed queue does not allocate per task, if it is
+            // full the calling thread runs the helper itself
+            sExecutor = new ThreadPoolExecutor(CORES - 1, CORES - 1,
+                    0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(QUEUE_CAPACITY),
+                    new ThreadFactory() {
+
+                        private final AtomicInteger mCount = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread t = new Thread(r, "MPChart-worker-" + mCount.incrementAndGet());
+                            t.setDaemon(true);
+                            return t;
+                        }
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
+        return sExecutor;
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.PointF;
+
+/**
+ * Table of the cosine and sine of the evenly spaced angles (step * i) a
+ * radar-chart places its entries, web-lines and labels at. The rotation of
+ * the chart is applied on lookup, so spinning the chart does not invalidate
+ * the table, and positions around the center are calculated without any
+ * trigonometric function calls or allocations.
+ */
+public class PolarTable {
+
+    /** the cosine and sine of all angles in the table */
+    private float[] mCos = new float[0];
+    private float[] mSin = new float[0];
+
+    /** the number of angles in the table */
+    private int mCount = 0;
+
+    /** the angle between two neighbouring angles in the table, in degrees */
+    private float mStep = Float.NaN;
+
+    /** the rotation added to all angles, in degrees */
+    private float mRotation = 0f;
+
+    /** cosine and sine of the rotation */
+    private float mRotationCos = 1f;
+    private float mRotationSin = 0f;
+
+    /**
+     * Sets up the table for the angles step * i with i from 0 to count
+     * (inclusive, so that the closing angle of a full circle is included).
+     * Only recalculates the table if the count or step have changed.
+     *
+     * @param count
+     * @param step  in degrees
+     */
+    public void setAngles(int count, float step) {
+
+        if (count == mCount && step == mStep)
+            return;
+
+        if (mCos.length < count + 1) {
+            mCos = new float[count + 1];
+            mSin = new float[count + 1];
+        }
+
+        for (int i = 0; i <= count; i++) {
+            double rad = Math.toRadians(step * i);
+            mCos[i] = (float) Math.cos(rad);
+            mSin[i] = (float) Math.sin(rad);
+        }
+
+        mCount = count;
+        mStep = step;
+    }
+
+    /**
+     * Sets the rotation that is added to all angles of the table.
+     *
+     * @param angle in degrees
+     */
+    public void setRotation(float angle) {
+
+        if (angle == mRotation)
+            return;
+
+        double rad = Math.toRadians(angle);
+        mRotationCos = (float) Math.cos(rad);
+        mRotationSin = (float) Math.sin(rad);
+        mRotation = angle;
+    }
+
+    /**
+     * Returns the number of angles the table was set up for.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the cosine of the rotated angle at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float cos(int index) {
+        return mCos[index] * mRotationCos - mSin[index] * mRotationSin;
+    }
+
+    /**
+     * Returns the sine of the rotated angle at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float sin(int index) {
+        return mSin[index] * mRotationCos + mCos[index] * mRotationSin;
+    }
+
+    /**
+     * Calculates the position at the given distance from the center in the
+     * direction of the rotated angle at the given index, and writes it into
+     * the provided point.
+     *
+     * @param centerX
+     * @param centerY
+     * @param dist
+     * @param index
+     * @param out
+     */
+    public void getPosition(float centerX, float centerY, float dist, int index, PointF out) {
+        out.x = centerX + dist * cos(index);
+        out.y = centerY + dist * sin(index);
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent samples (e.g. timings in nanoseconds) in a ring of
+ * fixed size and computes percentiles over them. Adding a sample and
+ * computing percentiles does not allocate.
+ */
+public class RollingHistogram {
+
+    /** the samples, the oldest one is overwritten once the ring is full */
+    private final long[] mSamples;
+
+    /** sorted copy of the samples, used for computing percentiles */
+    private final long[] mSorted;
+
+    /** the index the next sample is written to */
+    private int mNext = 0;
+
+    /** the number of samples in the ring */
+    private int mCount = 0;
+
+    /** the total number of samples ever added (since the last reset) */
+    private long mTotalCount = 0;
+
+    /** true if mSorted does not reflect the current samples */
+    private boolean mDirty = false;
+
+    /**
+     * Creates a histogram that keeps the given number of most recent samples.
+     *
+     * @param window
+     */
+    public RollingHistogram(int window) {
+
+        if (window < 1)
+            throw new IllegalArgumentException("The window must hold at least one sample.");
+
+        mSamples = new long[window];
+        mSorted = new long[window];
+    }
+
+    /**
+     * Adds a sample, overwrites the oldest sample if the window is full.
+     *
+     * @param sample
+     */
+    public void add(long sample) {
+
+        mSamples[mNext] = sample;
+        mNext = (mNext + 1) % mSamples.length;
+
+        if (mCount < mSamples.length)
+            mCount++;
+
+        mTotalCount++;
+        mDirty = true;
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void reset() {
+        mNext = 0;
+        mCount = 0;
+        mTotalCount = 0;
+        mDirty = false;
+    }
+
+    /**
+     * Returns the maximum number of samples this histogram keeps.
+     *
+     * @return
+     */
+    public int getWindow() {
+        return mSamples.length;
+    }
+
+    /**
+     * Returns the number of samples currently in the window.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the number of samples added since the histogram was created or
+     * reset, including those that have left the window.
+     *
+     * @return
+     */
+    public long getTotalCount() {
+        return mTotalCount;
+    }
+
+    /**
+     * Returns the most recently added sample, 0 if there is none.
+     *
+     * @return
+     */
+    public long getLast() {
+
+        if (mCount == 0)
+            return 0;
+
+        return mSamples[(mNext + mSamples.length - 1) % mSamples.length];
+    }
+
+    /**
+     * Returns the average of the samples in the window, 0 if there are none.
+     *
+     * @return
+     */
+    public double getMean() {
+
+        if (mCount == 0)
+            return 0;
+
+        double sum = 0;
+
+        for (int i = 0; i < mCount; i++)
+            sum += mSamples[i];
+
+        return sum / mCount;
+    }
+
+    /**
+     * Returns the largest sample in the window, 0 if there are none.
+     *
+     * @return
+     */
+    public long getMax() {
+        return getPercentile(100f);
+    }
+
+    /**
+     * Returns the sample at the given percentile (0 - 100) of the samples in
+     * the window (nearest-rank), 0 if there are none.
+     *
+     * @param percentile e.g. 50f for the median, 99f for p99
+     * @return
+     */
+    public long getPercentile(float percentile) {
+
+        if (mCount == 0)
+            return 0;
+
+        if (mDirty) {
+            System.arraycopy(mSamples, 0, mSorted, 0, mCount);
+            Arrays.sort(mSorted, 0, mCount);
+            mDirty = false;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100f * mCount);
+        rank = Math.max(1, Math.min(rank, mCount));
+
+        return mSorted[rank - 1];
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+/**
+ * Bounded cache for text measurements, keyed by the text, the text size and
+ * the typeface of the Paint used for measuring. Holds the advance width
+ * (Paint.measureText(...)) and the size of the text bounds
+ * (Paint.getTextBounds(...)) of each cached text. The cache is direct-mapped
+ * (each key has exactly one slot, a newer key replaces the older one) and
+ * does not allocate on a hit. Other Paint settings that affect measuring
+ * (e.g. text scale or fake bold) are not part of the key, call clear() after
+ * changing them.
+ */
+public class TextMetricsCache {
+
+    private final int mMask;
+
+    private final String[] mTexts;
+    private final float[] mTextSizes;
+    private final Typeface[] mTypefaces;
+    private final float[] mWidths;
+    private final FSize[] mBoundsSizes;
+
+    private final Rect mBoundsBuffer = new Rect();
+
+    /**
+     * Constructor.
+     *
+     * @param size the number of cached texts, rounded up to the next power of two
+     */
+    public TextMetricsCache(int size) {
+
+        int capacity = 1;
+        while (capacity < size)
+            capacity <<= 1;
+
+        mMask = capacity - 1;
+        mTexts = new String[capacity];
+        mTextSizes = new float[capacity];
+        mTypefaces = new Typeface[capacity];
+        mWidths = new float[capacity];
+        mBoundsSizes = new FSize[capacity];
+    }
+
+    /**
+     * Returns the advance width of the given text drawn with the given paint
+     * (same as paint.measureText(text)).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized float getWidth(Paint paint, String text) {
+        return mWidths[lookup(paint, text)];
+    }
+
+    /**
+     * Returns the size of the bounds of the given text drawn with the given
+     * paint (same as paint.getTextBounds(...)).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized FSize getBoundsSize(Paint paint, String text) {
+        return mBoundsSizes[lookup(paint, text)];
+    }
+
+    /**
+     * Removes all cached measurements.
+     */
+    public synchronized void clear() {
+
+        for (int i = 0; i < mTexts.length; i++) {
+            mTexts[i] = null;
+            mTypefaces[i] = null;
+            mBoundsSizes[i] = null;
+        }
+    }
+
+    /**
+     * Returns the slot holding the measurements of the given text, measures
+     * and stores the text first if it is not cached.
+     */
+    private int lookup(Paint paint, String text) {
+
+        final float textSize = paint.getTextSize();
+        final Typeface typeface = paint.getTypeface();
+
+        int h = text.hashCode() * 31 + Float.floatToIntBits(textSize);
+        h = h * 31 + System.identityHashCode(typeface);
+        h ^= (h >>> 16);
+
+        final int slot = h & mMask;
+
+        if (mTextSizes[slot] == textSize
+                && mTypefaces[slot] == typeface
+                && text.equals(mTexts[slot]))
+            return slot;
+
+        paint.getTextBounds(text, 0, text.length(), mBoundsBuffer);
+
+        mTexts[slot] = text;
+        mTextSizes[slot] = textSize;
+        mTypefaces[slot] = typeface;
+        mWidths[slot] = paint.measureText(text);
+        mBoundsSizes[slot] = new FSize(mBoundsBuffer.width(), mBoundsBuffer.height());
+
+        return slot;
+    }
+}
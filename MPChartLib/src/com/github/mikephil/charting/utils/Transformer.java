@@ -67,6 +67,8 @@ public class Transformer {
         mMatrixValueToPx.reset();
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
+
+        invalidateMatrices();
     }
 
     /**
@@ -89,6 +91,8 @@ public class Transformer {
             mMatrixOffset.postScale(1.0f, -1.0f);
         }
 
+        invalidateMatrices();
+
         // mMatrixOffset.set(offset);
 
         // mMatrixOffset.reset();
@@ -399,18 +403,7 @@ public class Transformer {
      * @param pixels
      */
     public void pixelsToValue(float[] pixels) {
-
-        Matrix tmp = new Matrix();
-
-        // invert all matrixes to convert back to the original value
-        mMatrixOffset.invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mViewPortHandler.getMatrixTouch().invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mMatrixValueToPx.invert(tmp);
-        tmp.mapPoints(pixels);
+        getPixelToValueMatrix().mapPoints(pixels);
     }
 
     /**
@@ -438,27 +431,121 @@ public class Transformer {
         return new PointD(xTouchVal, yTouchVal);
     }
 
+    /**
+     * Returns the matrix that maps values to pixels before touch and offset
+     * are applied. The combined matrices are recomputed on the next access in
+     * case the returned matrix is modified.
+     *
+     * @return
+     */
     public Matrix getValueMatrix() {
+        invalidateMatrices();
         return mMatrixValueToPx;
     }
 
+    /**
+     * Returns the matrix containing the offsets of the chart. The combined
+     * matrices are recomputed on the next access in case the returned matrix
+     * is modified.
+     *
+     * @return
+     */
     public Matrix getOffsetMatrix() {
+        invalidateMatrices();
         return mMatrixOffset;
     }
 
+    /** the combined value-to-pixel matrix */
     private Matrix mMBuffer1 = new Matrix();
 
+    /** the inverse of the combined value-to-pixel matrix */
+    private Matrix mMBuffer2 = new Matrix();
+
+    /** true if mMBuffer1 reflects the current matrices */
+    private boolean mValueToPixelValid = false;
+
+    /** true if mMBuffer2 is the inverse of the current mMBuffer1 */
+    private boolean mPixelToValueValid = false;
+
+    /** the values of the touch-matrix mMBuffer1 was computed with */
+    private float[] mTouchValues = new float[9];
+
+    /** buffer for comparing the current touch-matrix values */
+    private float[] mTouchValuesBuffer = new float[9];
+
+    /**
+     * Returns the combined matrix that maps values to pixels. The matrix is
+     * only recomputed if the value-, offset- or touch-matrix have changed
+     * since the last call. Do not modify the returned matrix.
+     *
+     * @return
+     */
     public Matrix getValueToPixelMatrix() {
-        mMBuffer1.set(mMatrixValueToPx);
-        mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
-        mMBuffer1.postConcat(mMatrixOffset);
+
+        // non-short-circuit, the touch-matrix values always need to be stored
+        if (!mValueToPixelValid | touchMatrixChanged()) {
+
+            mMBuffer1.set(mMatrixValueToPx);
+            mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
+            mMBuffer1.postConcat(mMatrixOffset);
+
+            mValueToPixelValid = true;
+            mPixelToValueValid = false;
+        }
+
         return mMBuffer1;
     }
 
-    private Matrix mMBuffer2 = new Matrix();
-
+    /**
+     * Returns the inverse of getValueToPixelMatrix(), which maps pixels to
+     * values. Only recomputed if the combined matrix has changed. Do not
+     * modify the returned matrix.
+     *
+     * @return
+     */
     public Matrix getPixelToValueMatrix() {
-        getValueToPixelMatrix().invert(mMBuffer2);
+
+        Matrix valueToPixel = getValueToPixelMatrix();
+
+        if (!mPixelToValueValid) {
+            valueToPixel.invert(mMBuffer2);
+            mPixelToValueValid = true;
+        }
+
         return mMBuffer2;
     }
+
+    /**
+     * Forces the combined value-to-pixel matrix and its inverse to be
+     * recomputed on the next access. Needs to be called by subclasses after
+     * modifying the value- or offset-matrix.
+     */
+    protected void invalidateMatrices() {
+        mValueToPixelValid = false;
+    }
+
+    /**
+     * Returns true if the touch-matrix has changed since the combined matrix
+     * was computed the last time and stores its current values. The
+     * touch-matrix is modified by the ViewPortHandler and the touch-listeners
+     * directly, so it is compared by value.
+     *
+     * @return
+     */
+    private boolean touchMatrixChanged() {
+
+        float[] values = mTouchValuesBuffer;
+        mViewPortHandler.mMatrixTouch.getValues(values);
+
+        for (int i = 0; i < values.length; i++) {
+
+            if (values[i] != mTouchValues[i]) {
+                mTouchValuesBuffer = mTouchValues;
+                mTouchValues = values;
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
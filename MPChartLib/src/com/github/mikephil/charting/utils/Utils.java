@@ -133,6 +133,38 @@ public abstract class Utils {
         return dp;
     }
 
+    /**
+     * cache for text measurements, null if caching is disabled
+     */
+    private static TextMetricsCache mTextMetricsCache = new TextMetricsCache(1024);
+
+    private static Rect mCalcTextRectBuffer = new Rect();
+
+    /**
+     * Enables / disables caching of the text measurements done by
+     * calcTextWidth(...), calcTextHeight(...) and calcTextSize(...).
+     * Default: enabled
+     *
+     * @param enabled
+     */
+    public static void setTextMetricsCacheEnabled(boolean enabled) {
+
+        if (enabled && mTextMetricsCache == null)
+            mTextMetricsCache = new TextMetricsCache(1024);
+        else if (!enabled)
+            mTextMetricsCache = null;
+    }
+
+    /**
+     * Removes all cached text measurements. Call this after changing Paint
+     * settings that affect measuring other than text size and typeface (e.g.
+     * text scale or fake bold).
+     */
+    public static void clearTextMetricsCache() {
+        if (mTextMetricsCache != null)
+            mTextMetricsCache.clear();
+    }
+
     /**
      * calculates the approximate width of a text, depending on a demo text
      * avoid repeated calls (e.g. inside drawing methods)
@@ -142,6 +174,10 @@ public abstract class Utils {
      * @return
      */
     public static int calcTextWidth(Paint paint, String demoText) {
+
+        if (mTextMetricsCache != null)
+            return (int) mTextMetricsCache.getWidth(paint, demoText);
+
         return (int) paint.measureText(demoText);
     }
 
@@ -155,19 +191,31 @@ public abstract class Utils {
      */
     public static int calcTextHeight(Paint paint, String demoText) {
 
-        Rect r = new Rect();
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
-        return r.height();
+        if (mTextMetricsCache != null)
+            return (int) mTextMetricsCache.getBoundsSize(paint, demoText).height;
+
+        synchronized (mCalcTextRectBuffer) {
+            paint.getTextBounds(demoText, 0, demoText.length(), mCalcTextRectBuffer);
+            return mCalcTextRectBuffer.height();
+        }
     }
 
+    private static Paint.FontMetrics mLineMetricsBuffer = new Paint.FontMetrics();
+
     public static float getLineHeight(Paint paint) {
-        Paint.FontMetrics metrics = paint.getFontMetrics();
-        return metrics.descent - metrics.ascent;
+
+        synchronized (mLineMetricsBuffer) {
+            paint.getFontMetrics(mLineMetricsBuffer);
+            return mLineMetricsBuffer.descent - mLineMetricsBuffer.ascent;
+        }
     }
 
     public static float getLineSpacing(Paint paint) {
-        Paint.FontMetrics metrics = paint.getFontMetrics();
-        return metrics.ascent - metrics.top + metrics.bottom;
+
+        synchronized (mLineMetricsBuffer) {
+            paint.getFontMetrics(mLineMetricsBuffer);
+            return mLineMetricsBuffer.ascent - mLineMetricsBuffer.top + mLineMetricsBuffer.bottom;
+        }
     }
 
     /**
@@ -180,9 +228,13 @@ public abstract class Utils {
      */
     public static FSize calcTextSize(Paint paint, String demoText) {
 
-        Rect r = new Rect();
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
-        return new FSize(r.width(), r.height());
+        if (mTextMetricsCache != null)
+            return mTextMetricsCache.getBoundsSize(paint, demoText);
+
+        synchronized (mCalcTextRectBuffer) {
+            paint.getTextBounds(demoText, 0, demoText.length(), mCalcTextRectBuffer);
+            return new FSize(mCalcTextRectBuffer.width(), mCalcTextRectBuffer.height());
+        }
     }
 
     /**
@@ -219,28 +271,56 @@ public abstract class Utils {
     public static String formatNumber(float number, int digitCount, boolean separateThousands, char separateChar) {
 
         char[] out = new char[35];
+        int length = formatNumber(number, digitCount, separateThousands, separateChar, ',', out);
 
-        boolean neg = false;
-        if (number == 0) {
-            return "0";
-        }
+        // use this instead of "new String(...)" because of issue < Android 4.0
+        return String.valueOf(out, 0, length);
+    }
 
-        boolean zero = false;
-        if (number < 1 && number > -1) {
-            zero = true;
+    /**
+     * Formats the given number to the given number of decimals into the
+     * provided buffer, starting at index 0, and returns the number of
+     * characters written. Does not allocate any memory. The buffer needs to
+     * hold at least 35 characters.
+     *
+     * @param number
+     * @param digitCount
+     * @param separateThousands set this to true to separate thousands values
+     * @param separateChar      a caracter to be paced between the "thousands"
+     * @param decimalChar       the character used as decimal point
+     * @param out               the buffer the formatted number is written to
+     * @return the number of characters written to the buffer
+     */
+    public static int formatNumber(float number, int digitCount, boolean separateThousands,
+                                   char separateChar, char decimalChar, char[] out) {
+
+        if (number == 0 || Float.isNaN(number) || Float.isInfinite(number)) {
+            out[0] = '0';
+            return 1;
         }
 
+        boolean neg = false;
+
         if (number < 0) {
             neg = true;
             number = -number;
         }
 
-        if (digitCount > POW_10.length) {
+        if (digitCount >= POW_10.length) {
             digitCount = POW_10.length - 1;
         }
 
-        number *= POW_10[digitCount];
-        long lval = Math.round(number);
+        long lval = Math.round((double) number * POW_10[digitCount]);
+
+        // no leading "-" for values that are rounded to zero
+        if (lval == 0)
+            neg = false;
+
+        // the loop below does not write the integer part if it is zero
+        boolean zero = digitCount > 0 && lval < POW_10[digitCount];
+
+        // the number is written from right to left at the end of the buffer
+        // and moved to the front afterwards
         int ind = out.length - 1;
         int charCount = 0;
         boolean decimalPointAdded = false;
@@ -253,7 +333,7 @@ public abstract class Utils {
 
             // add decimal point
             if (charCount == digitCount) {
-                out[ind--] = ',';
+                out[ind--] = decimalChar;
                 charCount++;
                 decimalPointAdded = true;
 
@@ -289,10 +369,9 @@ public abstract class Utils {
             charCount += 1;
         }
 
-        int start = out.length - charCount;
+        System.arraycopy(out, out.length - charCount, out, 0, charCount);
 
-        // use this instead of "new String(...)" because of issue < Android 4.0
-        return String.valueOf(out, start, out.length - start);
+        return charCount;
     }
 
     /**
@@ -459,11 +538,30 @@ public abstract class Utils {
      */
     public static PointF getPosition(PointF center, float dist, float angle) {
 
-        PointF p = new PointF((float) (center.x + dist * Math.cos(Math.toRadians(angle))),
-                (float) (center.y + dist * Math.sin(Math.toRadians(angle))));
+        PointF p = new PointF();
+        getPosition(center.x, center.y, dist, angle, p);
         return p;
     }
 
+    /**
+     * Calculates the position around a center point, depending on the distance
+     * from the center, and the angle of the position around the center. Writes
+     * the position into the provided point instead of allocating a new one.
+     *
+     * @param centerX
+     * @param centerY
+     * @param dist
+     * @param angle   in degrees, converted to radians internally
+     * @param out
+     */
+    public static void getPosition(float centerX, float centerY, float dist, float angle, PointF out) {
+
+        double rad = Math.toRadians(angle);
+
+        out.x = (float) (centerX + dist * Math.cos(rad));
+        out.y = (float) (centerY + dist * Math.sin(rad));
+    }
+
     public static void velocityTrackerPointerUpCleanUpIfNecessary(MotionEvent ev,
                                                                   VelocityTracker tracker) {
 
@@ -0,0 +1,315 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.BufferedValueFormatter;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+
+/**
+ * Cache for formatted value-texts and their measured size, used by the
+ * renderers when drawing the values of a DataSet. Cached texts are keyed by
+ * the Entry they belong to and the drawn value (which differs e.g. for the
+ * individual values of a stacked BarEntry). When the cache is full, the
+ * least recently used text is replaced. The texts are stored in char arrays
+ * that are reused for the texts replacing them, so neither a hit nor a miss
+ * allocates once every slot has been used. The cache should be able to hold
+ * at least the number of values visible at once, otherwise every frame
+ * replaces the texts of the previous one. All cached texts are dropped as
+ * soon as the formatter, text size or typeface change.
+ */
+public class ValueTextCache {
+
+    /** the maximum number of cached texts */
+    private final int mCapacity;
+
+    /** the number of used slots */
+    private int mCount = 0;
+
+    private final Entry[] mEntries;
+    private final int[] mValueBits;
+    private final char[][] mTexts;
+    private final int[] mLengths;
+    private final float[] mWidths;
+    private final float[] mHeights;
+
+    /** the first slot of every hash bucket, -1 for empty buckets */
+    private final int[] mBuckets;
+
+    /** the next slot in the same hash bucket, -1 for the last one */
+    private final int[] mBucketNext;
+
+    /** the neighbours of every slot in the usage order, -1 at the ends */
+    private final int[] mNewer;
+    private final int[] mOlder;
+
+    /** the most and least recently used slot, -1 if the cache is empty */
+    private int mNewest = -1;
+    private int mOldest = -1;
+
+    /** the formatter, text size and typeface the cached texts were created with */
+    private ValueFormatter mFormatter;
+    private float mTextSize = Float.NaN;
+    private Typeface mTypeface;
+
+    private final Rect mBoundsBuffer = new Rect();
+
+    /** the estimated number of bytes of all text arrays */
+    private long mTextBytes = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param size the number of cached texts
+     */
+    public ValueTextCache(int size) {
+
+        mCapacity = Math.max(1, size);
+
+        int buckets = 1;
+        while (buckets < mCapacity)
+            buckets <<= 1;
+
+        mEntries = new Entry[mCapacity];
+        mValueBits = new int[mCapacity];
+        mTexts = new char[mCapacity][];
+        mLengths = new int[mCapacity];
+        mWidths = new float[mCapacity];
+        mHeights = new float[mCapacity];
+        mBucketNext = new int[mCapacity];
+        mNewer = new int[mCapacity];
+        mOlder = new int[mCapacity];
+        mBuckets = new int[buckets];
+
+        clear();
+    }
+
+    /**
+     * Makes sure the cached texts were created with the given formatter and
+     * paint settings. Clears the cache otherwise.
+     *
+     * @param formatter
+     * @param paint
+     */
+    public void validate(ValueFormatter formatter, Paint paint) {
+
+        if (formatter != mFormatter
+                || paint.getTextSize() != mTextSize
+                || paint.getTypeface() != mTypeface) {
+
+            clear();
+
+            mFormatter = formatter;
+            mTextSize = paint.getTextSize();
+            mTypeface = paint.getTypeface();
+        }
+    }
+
+    /**
+     * Returns the slot of the cached text for the given Entry and value, or -1
+     * if it is not cached. A found text becomes the most recently used one.
+     *
+     * @param e
+     * @param value
+     * @return
+     */
+    public int indexOf(Entry e, float value) {
+
+        final int bits = Float.floatToIntBits(value);
+
+        for (int slot = mBuckets[bucket(e, bits)]; slot != -1; slot = mBucketNext[slot]) {
+
+            if (mEntries[slot] == e && mValueBits[slot] == bits) {
+                moveToNewest(slot);
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Caches the first length characters of the given text for the given
+     * Entry and value, measures them with the provided paint and returns the
+     * slot. Replaces the least recently used text if the cache is full. The
+     * Entry and value must not be cached already.
+     *
+     * @param e
+     * @param value
+     * @param text
+     * @param length
+     * @param paint
+     * @return
+     */
+    public int put(Entry e, float value, char[] text, int length, Paint paint) {
+
+        int slot;
+
+        if (mCount < mCapacity) {
+            slot = mCount++;
+        } else {
+            slot = mOldest;
+            unlink(slot);
+            removeFromBucket(slot);
+        }
+
+        char[] chars = mTexts[slot];
+
+        if (chars == null || chars.length < length) {
+
+            int size = Math.max(length, BufferedValueFormatter.MIN_BUFFER_SIZE);
+
+            if (chars != null)
+                mTextBytes -= MemoryStats.ARRAY_BYTES + 2L * chars.length;
+
+            chars = new char[size];
+            mTexts[slot] = chars;
+            mTextBytes += MemoryStats.ARRAY_BYTES + 2L * size;
+        }
+
+        System.arraycopy(text, 0, chars, 0, length);
+
+        paint.getTextBounds(chars, 0, length, mBoundsBuffer);
+
+        final int bits = Float.floatToIntBits(value);
+        final int bucket = bucket(e, bits);
+
+        mEntries[slot] = e;
+        mValueBits[slot] = bits;
+        mLengths[slot] = length;
+        mWidths[slot] = paint.measureText(chars, 0, length);
+        mHeights[slot] = mBoundsBuffer.height();
+
+        mBucketNext[slot] = mBuckets[bucket];
+        mBuckets[bucket] = slot;
+
+        linkAsNewest(slot);
+
+        return slot;
+    }
+
+    /**
+     * Returns the characters of the text in the given slot, only the first
+     * getLength(slot) of them belong to the text.
+     *
+     * @param slot
+     * @return
+     */
+    public char[] getText(int slot) {
+        return mTexts[slot];
+    }
+
+    public int getLength(int slot) {
+        return mLengths[slot];
+    }
+
+    public float getWidth(int slot) {
+        return mWidths[slot];
+    }
+
+    public float getHeight(int slot) {
+        return mHeights[slot];
+    }
+
+    /**
+     * Returns the number of cached texts.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Removes all cached texts. The text arrays are kept for reuse.
+     */
+    public void clear() {
+
+        for (int i = 0; i < mCount; i++)
+            mEntries[i] = null;
+
+        for (int i = 0; i < mBuckets.length; i++)
+            mBuckets[i] = -1;
+
+        mCount = 0;
+        mNewest = -1;
+        mOldest = -1;
+    }
+
+    /**
+     * Returns the estimated number of bytes of the cache, including the
+     * cached texts.
+     *
+     * @return
+     */
+    public long getByteEstimate() {
+        // entries, value bits, texts, lengths, widths, heights, bucket links
+        // and the usage order, 4 bytes per slot each, plus the buckets
+        return 9L * (MemoryStats.ARRAY_BYTES + 4L * mCapacity)
+                + MemoryStats.ARRAY_BYTES + 4L * mBuckets.length + mTextBytes;
+    }
+
+    private void moveToNewest(int slot) {
+
+        if (slot == mNewest)
+            return;
+
+        unlink(slot);
+        linkAsNewest(slot);
+    }
+
+    private void linkAsNewest(int slot) {
+
+        mNewer[slot] = -1;
+        mOlder[slot] = mNewest;
+
+        if (mNewest != -1)
+            mNewer[mNewest] = slot;
+        else
+            mOldest = slot;
+
+        mNewest = slot;
+    }
+
+    private void unlink(int slot) {
+
+        final int newer = mNewer[slot];
+        final int older = mOlder[slot];
+
+        if (newer != -1)
+            mOlder[newer] = older;
+        else
+            mNewest = older;
+
+        if (older != -1)
+            mNewer[older] = newer;
+        else
+            mOldest = newer;
+    }
+
+    private void removeFromBucket(int slot) {
+
+        final int bucket = bucket(mEntries[slot], mValueBits[slot]);
+
+        if (mBuckets[bucket] == slot) {
+            mBuckets[bucket] = mBucketNext[slot];
+            return;
+        }
+
+        for (int i = mBuckets[bucket]; i != -1; i = mBucketNext[i]) {
+
+            if (mBucketNext[i] == slot) {
+                mBucketNext[i] = mBucketNext[slot];
+                return;
+            }
+        }
+    }
+
+    private int bucket(Entry e, int valueBits) {
+        int h = System.identityHashCode(e) * 31 + valueBits;
+        h ^= (h >>> 16);
+        return h & (mBuckets.length - 1);
+    }
+}
@@ -18,6 +18,11 @@ public class ViewPortHandler {
      */
     protected final Matrix mMatrixTouch = new Matrix();
 
+    /**
+     * buffer for the values of the touch matrix, reused on every pan / zoom
+     */
+    private final float[] mMatrixValuesBuffer = new float[9];
+
     /**
      * this rectangle defines the area in which graph values can be drawn
      */
@@ -309,7 +314,7 @@ public class ViewPortHandler {
      */
     public void limitTransAndScale(Matrix matrix, RectF content) {
 
-        float[] vals = new float[9];
+        float[] vals = mMatrixValuesBuffer;
         matrix.getValues(vals);
 
         float curTransX = vals[Matrix.MTRANS_X];
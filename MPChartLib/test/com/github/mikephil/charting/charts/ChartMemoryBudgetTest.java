@@ -0,0 +1,96 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Bitmap;
+import android.view.View;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PieData;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ChartMemoryBudgetTest {
+
+    private static final int SIZE = 200;
+
+    /** the bytes of the offscreen bitmap of a pie chart (ARGB_4444) */
+    private static final long BITMAP_BYTES = SIZE * SIZE * 2;
+
+    @After
+    public void tearDown() {
+        ChartMemoryBudget.setMaxBytes(0);
+        BitmapPool.clear();
+    }
+
+    private static PieChart createChart() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        List<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < 4; i++) {
+            entries.add(new Entry(i + 1, i));
+            xVals.add(String.valueOf(i));
+        }
+
+        PieChart chart = new PieChart(RuntimeEnvironment.application);
+        chart.setData(new PieData(xVals, new PieDataSet(entries, "")));
+
+        chart.measure(View.MeasureSpec.makeMeasureSpec(SIZE, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(SIZE, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, SIZE, SIZE);
+
+        return chart;
+    }
+
+    @Test
+    public void trimmedBitmapsAreRecycled() {
+
+        ChartMemoryBudget.setMaxBytes(BITMAP_BYTES * 3 / 2);
+
+        PieChart a = createChart();
+        PieChart b = createChart();
+
+        a.onDraw(new RecordingCanvas());
+        b.onDraw(new RecordingCanvas());
+        a.onDraw(new RecordingCanvas());
+
+        // b is the least recently drawn chart, its bitmap does not fit into
+        // the budget next to the bitmap of a, neither in b nor in the pool
+        assertEquals(0, b.getCacheBytes());
+        assertEquals(0, BitmapPool.getPooledBytes());
+        assertEquals(a.getCacheBytes(), ChartMemoryBudget.getCacheBytes());
+        assertTrue(ChartMemoryBudget.getCacheBytes() >= BITMAP_BYTES);
+    }
+
+    @Test
+    public void pooledBitmapsCountAgainstTheBudget() {
+
+        ChartMemoryBudget.setMaxBytes(BITMAP_BYTES * 3 / 2);
+
+        BitmapPool.release(Bitmap.createBitmap(SIZE, SIZE, Bitmap.Config.ARGB_8888));
+        assertTrue(BitmapPool.getPooledBytes() > 0);
+
+        PieChart a = createChart();
+
+        a.onDraw(new RecordingCanvas());
+        a.onDraw(new RecordingCanvas());
+
+        // the unused bitmap goes before the caches of any chart
+        assertEquals(0, BitmapPool.getPooledBytes());
+        assertTrue(a.getCacheBytes() >= BITMAP_BYTES);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.mikephil.charting.charts;
+
+import android.view.View;
+
+import com.github.mikephil.charting.data.BubbleData;
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.renderer.CandleStickChartRenderer;
+import com.github.mikephil.charting.utils.ChartMetrics;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ChartMetricsTest {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private static List<String> createXVals() {
+
+        List<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < ENTRY_COUNT; i++)
+            xVals.add(String.valueOf(i));
+
+        return xVals;
+    }
+
+    private static CandleStickChart createCandleStickChart() {
+
+        List<CandleEntry> entries = new ArrayList<CandleEntry>();
+
+        for (int i = 0; i < ENTRY_COUNT; i++)
+            entries.add(new CandleEntry(i, 60f, 40f, i % 2 == 0 ? 55f : 45f, i % 2 == 0 ? 45f : 55f));
+
+        CandleStickChart chart = new CandleStickChart(RuntimeEnvironment.application);
+        chart.setData(new CandleData(createXVals(), new CandleDataSet(entries, "")));
+        return chart;
+    }
+
+    /**
+     * Lays out the chart, zooms in 4x on the x-axis, draws it and returns
+     * the metrics of the frame.
+     */
+    private static ChartMetrics drawZoomed(BarLineChartBase<?> chart) {
+
+        chart.setMetricsEnabled(true);
+        chart.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(720, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, 1080, 720);
+        chart.zoom(4f, 1f, 0f, 0f);
+
+        chart.onDraw(new RecordingCanvas());
+
+        return chart.getMetrics();
+    }
+
+    private static void assertCulled(ChartMetrics metrics) {
+
+        long drawn = metrics.getValue(ChartMetrics.COUNT_ENTRIES_DRAWN);
+
+        assertTrue(drawn > 0);
+        assertTrue(drawn < ENTRY_COUNT);
+        assertEquals(ENTRY_COUNT - drawn, metrics.getValue(ChartMetrics.COUNT_ENTRIES_CULLED));
+        assertTrue(metrics.getValue(ChartMetrics.COUNT_DRAW_CALLS) >= drawn);
+    }
+
+    @Test
+    public void candleStickChartCountsDrawnEntries() {
+        assertCulled(drawZoomed(createCandleStickChart()));
+    }
+
+    @Test
+    public void bubbleChartCountsDrawnEntries() {
+
+        List<BubbleEntry> entries = new ArrayList<BubbleEntry>();
+
+        for (int i = 0; i < ENTRY_COUNT; i++)
+            entries.add(new BubbleEntry(i, 50f, 1f));
+
+        BubbleChart chart = new BubbleChart(RuntimeEnvironment.application);
+        chart.setData(new BubbleData(createXVals(), new BubbleDataSet(entries, "")));
+
+        assertCulled(drawZoomed(chart));
+    }
+
+    @Test
+    public void culledEntriesAreUnknownIfTheRendererDoesNotCount() {
+
+        CandleStickChart chart = createCandleStickChart();
+        chart.setRenderer(new CandleStickChartRenderer(chart, chart.getAnimator(),
+                chart.getViewPortHandler()) {
+
+            @Override
+            public boolean isCountingEntries() {
+                return false;
+            }
+        });
+
+        ChartMetrics metrics = drawZoomed(chart);
+
+        assertEquals(-1, metrics.getValue(ChartMetrics.COUNT_ENTRIES_DRAWN));
+        assertEquals(-1, metrics.getValue(ChartMetrics.COUNT_ENTRIES_CULLED));
+    }
+}
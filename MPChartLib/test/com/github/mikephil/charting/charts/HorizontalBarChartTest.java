@@ -0,0 +1,70 @@
+package com.github.mikephil.charting.charts;
+
+import android.view.View;
+
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class HorizontalBarChartTest {
+
+    private static final int BAR_COUNT = 10;
+
+    /**
+     * Creates a chart with bars of 160 to 200, shows the given range of the
+     * y-axis, draws it and returns the number of drawn bars.
+     */
+    private static int drawBars(float axisMin, float axisMax) {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>();
+        List<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < BAR_COUNT; i++) {
+            entries.add(new BarEntry(160f + i * 40f / (BAR_COUNT - 1), i));
+            xVals.add(String.valueOf(i));
+        }
+
+        HorizontalBarChart chart = new HorizontalBarChart(RuntimeEnvironment.application);
+        chart.setData(new BarData(xVals, new BarDataSet(entries, "")));
+
+        chart.getAxisLeft().setAxisMinValue(axisMin);
+        chart.getAxisLeft().setAxisMaxValue(axisMax);
+        chart.getAxisRight().setAxisMinValue(axisMin);
+        chart.getAxisRight().setAxisMaxValue(axisMax);
+        chart.getLegend().setEnabled(false);
+        chart.notifyDataSetChanged();
+
+        chart.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(720, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, 1080, 720);
+
+        RecordingCanvas canvas = new RecordingCanvas();
+        chart.onDraw(canvas);
+
+        // every bar is one rect, there is no legend, grid background or bar shadow
+        return canvas.getCount(RecordingCanvas.RECT);
+    }
+
+    @Test
+    public void drawsBarsWhenZoomedAwayFromZero() {
+        assertEquals(BAR_COUNT, drawBars(150f, 160f));
+    }
+
+    @Test
+    public void cullsBarsBelowTheVisibleRange() {
+        assertEquals(0, drawBars(300f, 400f));
+    }
+}
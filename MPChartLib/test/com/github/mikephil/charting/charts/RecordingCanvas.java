@@ -0,0 +1,216 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+/**
+ * Canvas that counts the draw-calls issued on it instead of drawing, so that
+ * the cost of the chart code can be measured without the cost of
+ * rasterizing. Saving, clipping and transforming work as usual. Counting does
+ * not allocate.
+ */
+public class RecordingCanvas extends Canvas {
+
+    public static final int LINE = 0;
+    public static final int LINES = 1;
+    public static final int RECT = 2;
+    public static final int CIRCLE = 3;
+    public static final int PATH = 4;
+    public static final int ARC = 5;
+    public static final int TEXT = 6;
+    public static final int BITMAP = 7;
+    public static final int OTHER = 8;
+
+    private static final String[] NAMES = new String[]{
+            "line", "lines", "rect", "circle", "path", "arc", "text", "bitmap", "other"
+    };
+
+    /** the number of calls per kind since the last reset() */
+    private final int[] mCounts = new int[NAMES.length];
+
+    /**
+     * Sets all counts to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < mCounts.length; i++)
+            mCounts[i] = 0;
+    }
+
+    /**
+     * Returns the number of draw-calls of the given kind since the last
+     * reset().
+     *
+     * @param kind
+     * @return
+     */
+    public int getCount(int kind) {
+        return mCounts[kind];
+    }
+
+    /**
+     * Returns the number of all draw-calls since the last reset().
+     *
+     * @return
+     */
+    public int getDrawCalls() {
+
+        int count = 0;
+
+        for (int c : mCounts)
+            count += c;
+
+        return count;
+    }
+
+    /**
+     * Returns the name of the given kind of draw-call.
+     *
+     * @param kind
+     * @return
+     */
+    public static String getName(int kind) {
+        return NAMES[kind];
+    }
+
+    /**
+     * Returns the number of kinds of draw-calls.
+     *
+     * @return
+     */
+    public static int getKindCount() {
+        return NAMES.length;
+    }
+
+    @Override
+    public void drawColor(int color) {
+        mCounts[OTHER]++;
+    }
+
+    @Override
+    public void drawColor(int color, PorterDuff.Mode mode) {
+        mCounts[OTHER]++;
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+        mCounts[LINE]++;
+    }
+
+    @Override
+    public void drawLines(float[] pts, Paint paint) {
+        mCounts[LINES]++;
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count, Paint paint) {
+        mCounts[LINES]++;
+    }
+
+    @Override
+    public void drawPoint(float x, float y, Paint paint) {
+        mCounts[OTHER]++;
+    }
+
+    @Override
+    public void drawPoints(float[] pts, Paint paint) {
+        mCounts[OTHER]++;
+    }
+
+    @Override
+    public void drawPoints(float[] pts, int offset, int count, Paint paint) {
+        mCounts[OTHER]++;
+    }
+
+    @Override
+    public void drawRect(RectF rect, Paint paint) {
+        mCounts[RECT]++;
+    }
+
+    @Override
+    public void drawRect(Rect r, Paint paint) {
+        mCounts[RECT]++;
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+        mCounts[RECT]++;
+    }
+
+    @Override
+    public void drawRoundRect(RectF rect, float rx, float ry, Paint paint) {
+        mCounts[RECT]++;
+    }
+
+    @Override
+    public void drawOval(RectF oval, Paint paint) {
+        mCounts[CIRCLE]++;
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+        mCounts[CIRCLE]++;
+    }
+
+    @Override
+    public void drawArc(RectF oval, float startAngle, float sweepAngle, boolean useCenter,
+                        Paint paint) {
+        mCounts[ARC]++;
+    }
+
+    @Override
+    public void drawPath(Path path, Paint paint) {
+        mCounts[PATH]++;
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+        mCounts[TEXT]++;
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, Paint paint) {
+        mCounts[TEXT]++;
+    }
+
+    @Override
+    public void drawText(String text, int start, int end, float x, float y, Paint paint) {
+        mCounts[TEXT]++;
+    }
+
+    @Override
+    public void drawText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+        mCounts[TEXT]++;
+    }
+
+    @Override
+    public void drawTextOnPath(String text, Path path, float hOffset, float vOffset,
+                               Paint paint) {
+        mCounts[TEXT]++;
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+        mCounts[BITMAP]++;
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Matrix matrix, Paint paint) {
+        mCounts[BITMAP]++;
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Rect src, RectF dst, Paint paint) {
+        mCounts[BITMAP]++;
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Rect src, Rect dst, Paint paint) {
+        mCounts[BITMAP]++;
+    }
+}
@@ -0,0 +1,272 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Matrix;
+import android.view.View;
+
+import com.github.mikephil.charting.utils.ChartMetrics;
+import com.github.mikephil.charting.utils.RollingHistogram;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Draws a chart into a RecordingCanvas for a number of frames while panning
+ * it (bar- and line-charts) or rotating it (pie- and radar-charts), and
+ * measures the time per frame, the number of draw-calls and the number of
+ * bytes allocated on the drawing thread.
+ *
+ * The measured frames are drawn in rounds, the allocations of the result are
+ * those of the round with the fewest allocating frames. The test environment
+ * (class loading, Robolectric, the JIT) allocates in a few random frames now
+ * and then, so a chart that allocates in every frame is told apart by the
+ * number of allocating frames, not by the number of bytes.
+ */
+public class RenderBenchmark {
+
+    /** the distance in pixels a bar- or line-chart is panned per frame */
+    private static final float PAN_STEP = 12f;
+
+    /** the angle in degrees a pie- or radar-chart is rotated per frame */
+    private static final float ROTATION_STEP = 2f;
+
+    /** the zoom on the x-axis applied before panning */
+    private static final float ZOOM = 8f;
+
+    /** the maximum number of measured rounds */
+    private static final int ROUNDS = 3;
+
+    private final int mWidth;
+    private final int mHeight;
+    private final int mWarmupFrames;
+    private final int mFrames;
+
+    private final RecordingCanvas mCanvas = new RecordingCanvas();
+
+    /** the frame times of the measured frames, in nanoseconds */
+    private final RollingHistogram mFrameTimes;
+
+    /** reused for panning, so that advancing a frame does not allocate */
+    private final Matrix mPanMatrix = new Matrix();
+
+    private final com.sun.management.ThreadMXBean mThreadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private float mPanStep = PAN_STEP;
+
+    /**
+     * Constructor.
+     *
+     * @param width        the width of the chart in pixels
+     * @param height       the height of the chart in pixels
+     * @param warmupFrames the number of frames drawn before measuring
+     * @param frames       the number of measured frames per round
+     */
+    public RenderBenchmark(int width, int height, int warmupFrames, int frames) {
+        this.mWidth = width;
+        this.mHeight = height;
+        this.mWarmupFrames = warmupFrames;
+        this.mFrames = Math.max(1, frames);
+        this.mFrameTimes = new RollingHistogram(mFrames);
+    }
+
+    /**
+     * Lays out the given chart, which must already have its data, and draws
+     * the warm-up and measured frames.
+     *
+     * @param name  the name of the run in the result
+     * @param chart
+     * @return
+     */
+    public Result run(String name, Chart<?> chart) {
+
+        chart.measure(View.MeasureSpec.makeMeasureSpec(mWidth, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(mHeight, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, mWidth, mHeight);
+
+        ChartMetrics metrics = null;
+
+        if (chart instanceof BarLineChartBase) {
+
+            BarLineChartBase<?> c = (BarLineChartBase<?>) chart;
+            c.setMetricsEnabled(true);
+            c.zoom(ZOOM, 1f, 0f, 0f);
+
+            metrics = c.getMetrics();
+        }
+
+        mPanStep = PAN_STEP;
+
+        for (int i = 0; i < mWarmupFrames; i++) {
+            advance(chart);
+            chart.onDraw(mCanvas);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytes = 0;
+        int allocatingFrames = Integer.MAX_VALUE;
+
+        long canvasCalls = 0;
+        long rendererCalls = 0;
+        int[] callsPerKind = new int[RecordingCanvas.getKindCount()];
+
+        for (int round = 0; round < ROUNDS && allocatingFrames > 0; round++) {
+
+            mFrameTimes.reset();
+
+            canvasCalls = 0;
+            rendererCalls = 0;
+
+            for (int k = 0; k < callsPerKind.length; k++)
+                callsPerKind[k] = 0;
+
+            long roundBytes = 0;
+            int roundAllocatingFrames = 0;
+
+            for (int i = 0; i < mFrames; i++) {
+
+                advance(chart);
+                mCanvas.reset();
+
+                long bytes = mThreadBean.getThreadAllocatedBytes(threadId);
+                long start = System.nanoTime();
+
+                chart.onDraw(mCanvas);
+
+                long time = System.nanoTime() - start;
+                bytes = mThreadBean.getThreadAllocatedBytes(threadId) - bytes;
+
+                if (bytes > 0) {
+                    roundBytes += bytes;
+                    roundAllocatingFrames++;
+                }
+
+                mFrameTimes.add(time);
+
+                canvasCalls += mCanvas.getDrawCalls();
+
+                for (int k = 0; k < callsPerKind.length; k++)
+                    callsPerKind[k] += mCanvas.getCount(k);
+
+                if (metrics != null)
+                    rendererCalls += metrics.getValue(ChartMetrics.COUNT_DRAW_CALLS);
+            }
+
+            if (roundAllocatingFrames < allocatingFrames) {
+                allocatingFrames = roundAllocatingFrames;
+                allocatedBytes = roundBytes;
+            }
+        }
+
+        Result result = new Result();
+        result.name = name;
+        result.frames = mFrames;
+        result.p50Nanos = mFrameTimes.getPercentile(50f);
+        result.p95Nanos = mFrameTimes.getPercentile(95f);
+        result.maxNanos = mFrameTimes.getMax();
+        result.canvasCallsPerFrame = canvasCalls / mFrames;
+        result.rendererCallsPerFrame = rendererCalls / mFrames;
+        result.allocatedBytes = allocatedBytes;
+        result.allocatingFrames = allocatingFrames;
+
+        for (int k = 0; k < callsPerKind.length; k++)
+            callsPerKind[k] /= mFrames;
+
+        result.callsPerKind = callsPerKind;
+
+        return result;
+    }
+
+    /**
+     * Moves the chart to the position of the next frame. Bar- and line-charts
+     * are panned and change their direction at the ends of the x-axis.
+     *
+     * @param chart
+     */
+    private void advance(Chart<?> chart) {
+
+        if (chart instanceof BarLineChartBase) {
+
+            ViewPortHandler vph = chart.getViewPortHandler();
+            float transX = vph.getTransX();
+
+            mPanMatrix.set(vph.getMatrixTouch());
+            mPanMatrix.postTranslate(mPanStep, 0f);
+            vph.refresh(mPanMatrix, chart, false);
+
+            // hit an end of the x-axis
+            if (vph.getTransX() == transX)
+                mPanStep = -mPanStep;
+
+        } else if (chart instanceof PieRadarChartBase) {
+
+            PieRadarChartBase<?> c = (PieRadarChartBase<?>) chart;
+            c.setRotationAngle(c.getRawRotationAngle() + ROTATION_STEP);
+        }
+    }
+
+    /**
+     * The result of a run.
+     */
+    public static class Result {
+
+        public String name;
+
+        /** the number of measured frames per round */
+        public int frames;
+
+        /** frame times in nanoseconds */
+        public long p50Nanos;
+        public long p95Nanos;
+        public long maxNanos;
+
+        /** the number of calls on the RecordingCanvas per frame */
+        public long canvasCallsPerFrame;
+
+        /**
+         * the number of draw-calls of the data-renderer per frame, including
+         * those on offscreen bitmaps, 0 for charts without metrics
+         */
+        public long rendererCallsPerFrame;
+
+        /** the number of calls on the RecordingCanvas per frame, per kind */
+        public int[] callsPerKind;
+
+        /** the bytes allocated while drawing the measured frames */
+        public long allocatedBytes;
+
+        /** the number of measured frames that allocated */
+        public int allocatingFrames;
+
+        /**
+         * Returns the number of calls of the given kind per frame.
+         *
+         * @param kind one of the kinds of RecordingCanvas
+         * @return
+         */
+        public int getCallsPerFrame(int kind) {
+            return callsPerKind[kind];
+        }
+
+        @Override
+        public String toString() {
+
+            StringBuilder sb = new StringBuilder();
+
+            sb.append(String.format(Locale.US,
+                    "%s: frames=%d p50=%.3fms p95=%.3fms max=%.3fms canvasCalls=%d rendererCalls=%d allocatedBytes=%d allocatingFrames=%d",
+                    name, frames, p50Nanos / 1e6, p95Nanos / 1e6, maxNanos / 1e6,
+                    canvasCallsPerFrame, rendererCallsPerFrame, allocatedBytes,
+                    allocatingFrames));
+
+            for (int k = 0; k < callsPerKind.length; k++) {
+
+                if (callsPerKind[k] > 0)
+                    sb.append(' ').append(RecordingCanvas.getName(k)).append('=')
+                            .append(callsPerKind[k]);
+            }
+
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.mikephil.charting.charts;
+
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PieData;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Draws the charts into a RecordingCanvas while panning or rotating them,
+ * prints the frame times and draw-calls of every chart, and fails if more
+ * than a tenth of the steady-state frames allocate. Canvas and Path are
+ * replaced by no-op shadows and Matrix by one that transforms (see
+ * robolectric.properties). The allocations are only exact with escape
+ * analysis disabled (-XX:-DoEscapeAnalysis, set in build.gradle), as ART
+ * does not remove allocations the way the JIT of the JVM does.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class RenderBenchmarkTest {
+
+    private static final int ENTRY_COUNT = 2000;
+
+    /** the measured frames, at most a tenth of them may allocate */
+    private static final int FRAMES = 100;
+
+    private final Random mRandom = new Random(42);
+
+    private RenderBenchmark.Result run(String name, Chart<?> chart) {
+
+        RenderBenchmark.Result result = new RenderBenchmark(1080, 720, 300, FRAMES).run(name, chart);
+        System.out.println(result);
+
+        assertTrue(result + "", result.canvasCallsPerFrame > 0);
+        assertTrue(result + "", result.allocatingFrames <= FRAMES / 10);
+
+        return result;
+    }
+
+    private List<String> createXVals(int count) {
+
+        List<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < count; i++)
+            xVals.add(String.valueOf(i));
+
+        return xVals;
+    }
+
+    private List<Entry> createEntries(int count) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(mRandom.nextFloat() * 100f + 10f, i));
+
+        return entries;
+    }
+
+    @Test
+    public void lineChart() {
+
+        LineChart chart = new LineChart(RuntimeEnvironment.application);
+        chart.setData(new LineData(createXVals(ENTRY_COUNT),
+                new LineDataSet(createEntries(ENTRY_COUNT), "")));
+
+        run("line", chart);
+    }
+
+    @Test
+    public void lineChartPreparedInParallel() {
+
+        List<ILineDataSet> sets = new ArrayList<ILineDataSet>();
+
+        for (int i = 0; i < 4; i++)
+            sets.add(new LineDataSet(createEntries(ENTRY_COUNT), ""));
+
+        LineChart chart = new LineChart(RuntimeEnvironment.application);
+        chart.setData(new LineData(createXVals(ENTRY_COUNT), sets));
+        chart.getRenderer().setParallelPreparationEnabled(true);
+
+        run("line-parallel", chart);
+    }
+
+    @Test
+    public void barChart() {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>();
+
+        for (int i = 0; i < ENTRY_COUNT; i++)
+            entries.add(new BarEntry(mRandom.nextFloat() * 100f, i));
+
+        BarChart chart = new BarChart(RuntimeEnvironment.application);
+        chart.setData(new BarData(createXVals(ENTRY_COUNT), new BarDataSet(entries, "")));
+
+        run("bar", chart);
+    }
+
+    @Test
+    public void scatterChart() {
+
+        ScatterChart chart = new ScatterChart(RuntimeEnvironment.application);
+        chart.setData(new ScatterData(createXVals(ENTRY_COUNT),
+                new ScatterDataSet(createEntries(ENTRY_COUNT), "")));
+
+        run("scatter", chart);
+    }
+
+    @Test
+    public void candleStickChart() {
+
+        List<CandleEntry> entries = new ArrayList<CandleEntry>();
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+
+            float val = mRandom.nextFloat() * 40f + 50f;
+            boolean even = i % 2 == 0;
+
+            entries.add(new CandleEntry(i, val + 10f, val - 10f,
+                    even ? val + 3f : val - 3f, even ? val - 3f : val + 3f));
+        }
+
+        CandleStickChart chart = new CandleStickChart(RuntimeEnvironment.application);
+        chart.setData(new CandleData(createXVals(ENTRY_COUNT), new CandleDataSet(entries, "")));
+
+        run("candle", chart);
+    }
+
+    @Test
+    public void pieChart() {
+
+        PieChart chart = new PieChart(RuntimeEnvironment.application);
+        chart.setData(new PieData(createXVals(12), new PieDataSet(createEntries(12), "")));
+
+        // the values are drawn every frame while rotating, without the cache
+        // the formatter creates their texts every frame
+        chart.getData().setValueTextCacheEnabled(true);
+
+        run("pie", chart);
+    }
+}
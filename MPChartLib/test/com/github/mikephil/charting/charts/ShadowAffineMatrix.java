@@ -0,0 +1,257 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Matrix;
+import android.graphics.RectF;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+import org.robolectric.internal.ShadowExtractor;
+
+/**
+ * Replaces Robolectric's default Matrix shadow, which only records the
+ * operations as Strings and maps every point onto itself. This shadow keeps
+ * the 9 values of the matrix and does the math of the operations the charts
+ * use, without allocating.
+ */
+@Implements(Matrix.class)
+public class ShadowAffineMatrix {
+
+    private final float[] mValues = new float[9];
+
+    /** buffer for the result of a multiplication */
+    private final float[] mProduct = new float[9];
+
+    /** buffer for the operand of a translation or scale */
+    private final float[] mOperand = new float[9];
+
+    @Implementation
+    public void __constructor__() {
+        reset();
+    }
+
+    @Implementation
+    public void __constructor__(Matrix src) {
+        set(src);
+    }
+
+    private static ShadowAffineMatrix shadowOf(Matrix m) {
+        return (ShadowAffineMatrix) ShadowExtractor.extract(m);
+    }
+
+    /**
+     * Sets the operand buffer to the matrix that scales by sx and sy around
+     * px and py, and then translates by dx and dy.
+     */
+    private float[] operand(float sx, float sy, float px, float py, float dx, float dy) {
+
+        float[] o = mOperand;
+        o[Matrix.MSCALE_X] = sx;
+        o[Matrix.MSKEW_X] = 0f;
+        o[Matrix.MTRANS_X] = px - sx * px + dx;
+        o[Matrix.MSKEW_Y] = 0f;
+        o[Matrix.MSCALE_Y] = sy;
+        o[Matrix.MTRANS_Y] = py - sy * py + dy;
+        o[Matrix.MPERSP_0] = 0f;
+        o[Matrix.MPERSP_1] = 0f;
+        o[Matrix.MPERSP_2] = 1f;
+        return o;
+    }
+
+    /**
+     * Sets the values of this matrix to a * b. The arguments may be the
+     * values of this matrix.
+     */
+    private void multiply(float[] a, float[] b) {
+
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                mProduct[row * 3 + col] = a[row * 3] * b[col]
+                        + a[row * 3 + 1] * b[3 + col]
+                        + a[row * 3 + 2] * b[6 + col];
+            }
+        }
+
+        System.arraycopy(mProduct, 0, mValues, 0, 9);
+    }
+
+    @Implementation
+    public void reset() {
+        System.arraycopy(operand(1f, 1f, 0f, 0f, 0f, 0f), 0, mValues, 0, 9);
+    }
+
+    @Implementation
+    public boolean isIdentity() {
+
+        for (int i = 0; i < 9; i++) {
+            if (mValues[i] != (i % 4 == 0 ? 1f : 0f))
+                return false;
+        }
+
+        return true;
+    }
+
+    @Implementation
+    public void set(Matrix src) {
+
+        if (src == null)
+            reset();
+        else
+            System.arraycopy(shadowOf(src).mValues, 0, mValues, 0, 9);
+    }
+
+    @Implementation
+    public void setValues(float[] values) {
+        System.arraycopy(values, 0, mValues, 0, 9);
+    }
+
+    @Implementation
+    public void getValues(float[] values) {
+        System.arraycopy(mValues, 0, values, 0, 9);
+    }
+
+    @Implementation
+    public void setTranslate(float dx, float dy) {
+        System.arraycopy(operand(1f, 1f, 0f, 0f, dx, dy), 0, mValues, 0, 9);
+    }
+
+    @Implementation
+    public void setScale(float sx, float sy) {
+        System.arraycopy(operand(sx, sy, 0f, 0f, 0f, 0f), 0, mValues, 0, 9);
+    }
+
+    @Implementation
+    public void setScale(float sx, float sy, float px, float py) {
+        System.arraycopy(operand(sx, sy, px, py, 0f, 0f), 0, mValues, 0, 9);
+    }
+
+    @Implementation
+    public boolean preTranslate(float dx, float dy) {
+        multiply(mValues, operand(1f, 1f, 0f, 0f, dx, dy));
+        return true;
+    }
+
+    @Implementation
+    public boolean preScale(float sx, float sy) {
+        multiply(mValues, operand(sx, sy, 0f, 0f, 0f, 0f));
+        return true;
+    }
+
+    @Implementation
+    public boolean preScale(float sx, float sy, float px, float py) {
+        multiply(mValues, operand(sx, sy, px, py, 0f, 0f));
+        return true;
+    }
+
+    @Implementation
+    public boolean preConcat(Matrix other) {
+        multiply(mValues, shadowOf(other).mValues);
+        return true;
+    }
+
+    @Implementation
+    public boolean postTranslate(float dx, float dy) {
+        multiply(operand(1f, 1f, 0f, 0f, dx, dy), mValues);
+        return true;
+    }
+
+    @Implementation
+    public boolean postScale(float sx, float sy) {
+        multiply(operand(sx, sy, 0f, 0f, 0f, 0f), mValues);
+        return true;
+    }
+
+    @Implementation
+    public boolean postScale(float sx, float sy, float px, float py) {
+        multiply(operand(sx, sy, px, py, 0f, 0f), mValues);
+        return true;
+    }
+
+    @Implementation
+    public boolean postConcat(Matrix other) {
+        multiply(shadowOf(other).mValues, mValues);
+        return true;
+    }
+
+    @Implementation
+    public boolean setConcat(Matrix a, Matrix b) {
+        multiply(shadowOf(a).mValues, shadowOf(b).mValues);
+        return true;
+    }
+
+    @Implementation
+    public boolean invert(Matrix inverse) {
+
+        float[] m = mValues;
+
+        float c0 = m[4] * m[8] - m[5] * m[7];
+        float c1 = m[5] * m[6] - m[3] * m[8];
+        float c2 = m[3] * m[7] - m[4] * m[6];
+
+        float det = m[0] * c0 + m[1] * c1 + m[2] * c2;
+
+        if (det == 0f)
+            return false;
+
+        float[] inv = shadowOf(inverse).mValues;
+        float m0 = m[0], m1 = m[1], m2 = m[2], m3 = m[3], m4 = m[4], m5 = m[5],
+                m6 = m[6], m7 = m[7], m8 = m[8];
+
+        inv[0] = c0 / det;
+        inv[1] = (m2 * m7 - m1 * m8) / det;
+        inv[2] = (m1 * m5 - m2 * m4) / det;
+        inv[3] = c1 / det;
+        inv[4] = (m0 * m8 - m2 * m6) / det;
+        inv[5] = (m2 * m3 - m0 * m5) / det;
+        inv[6] = c2 / det;
+        inv[7] = (m1 * m6 - m0 * m7) / det;
+        inv[8] = (m0 * m4 - m1 * m3) / det;
+        return true;
+    }
+
+    @Implementation
+    public void mapPoints(float[] dst, int dstIndex, float[] src, int srcIndex, int pointCount) {
+
+        float[] m = mValues;
+
+        for (int i = 0; i < pointCount; i++) {
+
+            float x = src[srcIndex + i * 2];
+            float y = src[srcIndex + i * 2 + 1];
+            float w = m[6] * x + m[7] * y + m[8];
+
+            dst[dstIndex + i * 2] = (m[0] * x + m[1] * y + m[2]) / w;
+            dst[dstIndex + i * 2 + 1] = (m[3] * x + m[4] * y + m[5]) / w;
+        }
+    }
+
+    @Implementation
+    public void mapPoints(float[] dst, float[] src) {
+        mapPoints(dst, 0, src, 0, dst.length >> 1);
+    }
+
+    @Implementation
+    public void mapPoints(float[] pts) {
+        mapPoints(pts, 0, pts, 0, pts.length >> 1);
+    }
+
+    @Implementation
+    public boolean mapRect(RectF dst, RectF src) {
+
+        float[] m = mValues;
+
+        // the corners of an axis-aligned rect stay the corners while there is
+        // no rotation or skew, which the charts never use
+        float x0 = m[0] * src.left + m[1] * src.top + m[2];
+        float y0 = m[3] * src.left + m[4] * src.top + m[5];
+        float x1 = m[0] * src.right + m[1] * src.bottom + m[2];
+        float y1 = m[3] * src.right + m[4] * src.bottom + m[5];
+
+        dst.set(Math.min(x0, x1), Math.min(y0, y1), Math.max(x0, x1), Math.max(y0, y1));
+        return m[1] == 0f && m[3] == 0f;
+    }
+
+    @Implementation
+    public boolean mapRect(RectF rect) {
+        return mapRect(rect, rect);
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Replaces Robolectric's default Canvas shadow, which records every call as
+ * a String. With this shadow the real Canvas code runs and the native calls
+ * do nothing, so that drawing allocates only what the chart code allocates.
+ */
+@Implements(Canvas.class)
+public class ShadowNoOpCanvas {
+
+    @Implementation
+    public void __constructor__(Bitmap bitmap) {
+    }
+
+    @Implementation
+    public void setBitmap(Bitmap bitmap) {
+    }
+}
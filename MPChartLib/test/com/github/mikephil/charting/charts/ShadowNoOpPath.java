@@ -0,0 +1,13 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Path;
+
+import org.robolectric.annotation.Implements;
+
+/**
+ * Replaces Robolectric's default Path shadow, which stores every point in a
+ * new object. With this shadow the native Path calls do nothing.
+ */
+@Implements(Path.class)
+public class ShadowNoOpPath {
+}
@@ -0,0 +1,78 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ChartDataTest {
+
+    private static LineDataSet createDataSet(String label) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(1f, 0));
+
+        return new LineDataSet(entries, label);
+    }
+
+    /**
+     * Creates a LineData object with DataSets labeled "0" to "3" and looks
+     * them all up once, so that the indices are built.
+     */
+    private static LineData createData() {
+
+        List<ILineDataSet> sets = new ArrayList<ILineDataSet>();
+
+        for (int i = 0; i < 4; i++)
+            sets.add(createDataSet(String.valueOf(i)));
+
+        List<String> xVals = new ArrayList<String>();
+        xVals.add("0");
+
+        LineData data = new LineData(xVals, sets);
+
+        for (int i = 0; i < sets.size(); i++)
+            assertEquals(i, data.getIndexOfDataSet(sets.get(i)));
+
+        return data;
+    }
+
+    @Test
+    public void dataSetsReplacedInTheArrayAreFound() {
+
+        LineData data = createData();
+        ILineDataSet replaced = data.getDataSetByIndex(2);
+        LineDataSet set = createDataSet("new");
+
+        data.getDataSets().set(2, set);
+
+        assertEquals(2, data.getIndexOfDataSet(set));
+        assertEquals(-1, data.getIndexOfDataSet(replaced));
+        assertEquals(-1, data.getIndexOfDataSet(createDataSet("other")));
+    }
+
+    @Test
+    public void labelsOfDataSetsReplacedInTheArrayAreFound() {
+
+        LineData data = createData();
+        LineDataSet set = createDataSet("New");
+
+        data.getDataSets().set(1, set);
+
+        assertSame(set, data.getDataSetByLabel("New", false));
+        assertSame(set, data.getDataSetByLabel("new", true));
+        assertNull(data.getDataSetByLabel("1", false));
+        assertSame(data.getDataSetByIndex(3), data.getDataSetByLabel("3", false));
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.mikephil.charting.data;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ChunkedEntryListTest {
+
+    private static void assertSameEntries(List<Entry> expected, List<Entry> actual) {
+
+        assertEquals(expected.size(), actual.size());
+
+        // sequential access
+        for (int i = 0; i < expected.size(); i++)
+            assertSame(expected.get(i), actual.get(i));
+
+        // backwards, every access leaves the remembered chunk
+        for (int i = expected.size() - 1; i >= 0; i--)
+            assertSame(expected.get(i), actual.get(i));
+    }
+
+    @Test
+    public void randomInsertsAndRemovalsMatchAnArrayList() {
+
+        Random random = new Random(42);
+
+        List<Entry> expected = new ArrayList<Entry>();
+        ChunkedEntryList<Entry> actual = new ChunkedEntryList<Entry>(8);
+
+        for (int round = 0; round < 20; round++) {
+
+            // grow, then shrink, so that chunks are split, merged and dropped
+            int operations = round % 2 == 0 ? 400 : 300;
+
+            for (int i = 0; i < operations; i++) {
+
+                if (round % 2 == 0 || expected.isEmpty()) {
+
+                    int index = random.nextInt(expected.size() + 1);
+                    Entry e = new Entry(i, index);
+
+                    expected.add(index, e);
+                    actual.add(index, e);
+                } else {
+
+                    int index = random.nextInt(expected.size());
+                    assertSame(expected.remove(index), actual.remove(index));
+                }
+
+                int index = random.nextInt(expected.size());
+                assertSame(expected.get(index), actual.get(index));
+            }
+
+            assertSameEntries(expected, actual);
+        }
+    }
+
+    @Test
+    public void appendingAndRemovingFromTheFront() {
+
+        List<Entry> expected = new ArrayList<Entry>();
+        ChunkedEntryList<Entry> actual = new ChunkedEntryList<Entry>(4);
+
+        for (int i = 0; i < 100; i++) {
+
+            Entry e = new Entry(i, i);
+            expected.add(e);
+            actual.add(e);
+        }
+
+        assertSameEntries(expected, actual);
+
+        while (expected.size() > 1) {
+
+            assertSame(expected.remove(0), actual.remove(0));
+            assertSame(expected.get(expected.size() - 1), actual.get(actual.size() - 1));
+        }
+
+        assertSameEntries(expected, actual);
+
+        actual.clear();
+        actual.add(expected.get(0));
+        assertSameEntries(expected, actual);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class CombinedDataTest {
+
+    /**
+     * LineDataSet that counts how often its minimum and maximum values are
+     * calculated.
+     */
+    private static class CountingDataSet extends LineDataSet {
+
+        int calculations = 0;
+
+        CountingDataSet(float value) {
+            super(createEntries(value), "");
+        }
+
+        @Override
+        public void calcMinMax(int start, int end) {
+            calculations++;
+            super.calcMinMax(start, end);
+        }
+    }
+
+    private static List<Entry> createEntries(float value) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(value, 0));
+        entries.add(new Entry(value, 1));
+
+        return entries;
+    }
+
+    @Test
+    public void changedDataSetIsCalculatedOnce() {
+
+        List<String> xVals = new ArrayList<String>();
+        xVals.add("0");
+        xVals.add("1");
+
+        CountingDataSet line = new CountingDataSet(10f);
+        CountingDataSet other = new CountingDataSet(20f);
+        other.setAxisDependency(AxisDependency.RIGHT);
+
+        LineData lineData = new LineData(xVals, line);
+        lineData.addDataSet(other);
+
+        CombinedData data = new CombinedData(xVals);
+        data.setData(lineData);
+
+        line.calculations = 0;
+        other.calculations = 0;
+
+        line.addEntry(new Entry(50f, 1));
+        data.notifyDataChanged(line);
+
+        assertEquals(1, line.calculations);
+        assertEquals(0, other.calculations);
+
+        assertEquals(50f, data.getYMax(), 0f);
+        assertEquals(50f, data.getYMax(AxisDependency.LEFT), 0f);
+        assertEquals(20f, data.getYMax(AxisDependency.RIGHT), 0f);
+        assertEquals(5, data.getYValCount());
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.mikephil.charting.data;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ContinuousXValuesTest {
+
+    /**
+     * Returns the length of the longest label by generating all of them.
+     */
+    private static int getLongestLength(ContinuousXValues values) {
+
+        int length = 0;
+
+        for (int i = 0; i < values.size(); i++)
+            length = Math.max(length, values.get(i).length());
+
+        return length;
+    }
+
+    @Test
+    public void longestLabelWithFractionsInsideTheRange() {
+
+        // the ends are "-1" and "1,000", the longest label is "999.75"
+        ContinuousXValues values = ContinuousXValues.forRange(-1, 1000, 0.25);
+
+        assertEquals(getLongestLength(values), values.getLongestLabel().length());
+        assertEquals(6, values.getMaximumLength());
+    }
+
+    @Test
+    public void longestLabelOfNegativeFractions() {
+
+        ContinuousXValues values = ContinuousXValues.forRange(-2500, 10, 0.05);
+
+        assertEquals(getLongestLength(values), values.getMaximumLength());
+    }
+
+    @Test
+    public void longestLabelOfCustomLabels() {
+
+        // the longest labels lie in the middle of the range, away from the ends
+        ContinuousXValues values = new ContinuousXValues(0, 1, 1001) {
+
+            @Override
+            protected String formatXValue(double xValue) {
+                return xValue >= 490 && xValue <= 510 ? "the longest label" : "short";
+            }
+        };
+
+        assertEquals("the longest label", values.getLongestLabel());
+    }
+
+    @Test
+    public void xIndexRoundsToTheClosestIndex() {
+
+        ContinuousXValues values = new ContinuousXValues(10, 2, 100);
+
+        assertEquals(0, values.getXIndex(10.9));
+        assertEquals(1, values.getXIndex(11));
+        assertEquals(-1, values.getXIndex(8.5));
+        assertEquals(-2, values.getXIndex(6.9));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void xIndexBeyondTheIntRangeThrows() {
+        new ContinuousXValues(0, 1, 10).getXIndex(1e12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void xIndexOfNaNThrows() {
+        new ContinuousXValues(0, 1, 10).getXIndex(Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeWithTooManyIndicesThrows() {
+        ContinuousXValues.forRange(0, Integer.MAX_VALUE, 1);
+    }
+
+    @Test
+    public void rangeEndingBeforeItsStartIsEmpty() {
+        assertEquals(0, ContinuousXValues.forRange(10, 0, 1).size());
+    }
+
+    @Test
+    public void removingTheFirstIndexShiftsTheLabels() {
+
+        ContinuousXValues values = new ContinuousXValues(0, 10, 5);
+        List<String> expected = new ArrayList<String>(values);
+
+        assertEquals(expected.remove(0), values.remove(0));
+        assertEquals(expected.remove(expected.size() - 1), values.remove(values.size() - 1));
+
+        assertEquals(expected, values);
+        assertEquals(10, values.getXMin(), 0);
+        assertEquals(1, values.getXIndex(20));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void removingAnIndexInBetweenThrows() {
+        new ContinuousXValues(0, 10, 5).remove(2);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.mikephil.charting.data;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class DataSetTest {
+
+    /**
+     * Creates a DataSet with entries at the given x-indices, the value of
+     * every entry is its position in the DataSet.
+     */
+    private static LineDataSet createDataSet(int... xIndices) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < xIndices.length; i++)
+            entries.add(new Entry(i, xIndices[i]));
+
+        return new LineDataSet(entries, "");
+    }
+
+    @Test(timeout = 5000)
+    public void getEntriesForXIndexReturnsAllDuplicates() {
+
+        LineDataSet set = createDataSet(0, 1, 1, 1, 2, 3, 3);
+
+        List<Entry> entries = set.getEntriesForXIndex(1);
+
+        assertEquals(3, entries.size());
+        assertSame(set.getEntryForIndex(1), entries.get(0));
+        assertSame(set.getEntryForIndex(2), entries.get(1));
+        assertSame(set.getEntryForIndex(3), entries.get(2));
+    }
+
+    @Test(timeout = 5000)
+    public void getEntriesForXIndexAtTheEnds() {
+
+        LineDataSet set = createDataSet(0, 0, 1, 2, 3, 3);
+
+        assertEquals(2, set.getEntriesForXIndex(0).size());
+        assertEquals(2, set.getEntriesForXIndex(3).size());
+        assertEquals(1, set.getEntriesForXIndex(2).size());
+    }
+
+    @Test(timeout = 5000)
+    public void getEntriesForXIndexOnlyDuplicates() {
+
+        LineDataSet set = createDataSet(5, 5, 5, 5, 5);
+
+        assertEquals(5, set.getEntriesForXIndex(5).size());
+    }
+
+    @Test(timeout = 5000)
+    public void getEntriesForXIndexMissing() {
+
+        LineDataSet set = createDataSet(0, 2, 4, 6);
+
+        assertTrue(set.getEntriesForXIndex(3).isEmpty());
+        assertTrue(set.getEntriesForXIndex(-1).isEmpty());
+        assertTrue(set.getEntriesForXIndex(7).isEmpty());
+        assertTrue(createDataSet().getEntriesForXIndex(0).isEmpty());
+    }
+
+    @Test(timeout = 5000)
+    public void getIndexInEntriesOfSortedEntries() {
+
+        LineDataSet set = createDataSet(0, 2, 2, 4, 6);
+
+        assertEquals(0, set.getIndexInEntries(0));
+        assertEquals(1, set.getIndexInEntries(2));
+        assertEquals(4, set.getIndexInEntries(6));
+        assertEquals(-1, set.getIndexInEntries(3));
+        assertEquals(-1, set.getIndexInEntries(7));
+    }
+
+    @Test(timeout = 5000)
+    public void getIndexInEntriesOfUnsortedEntries() {
+
+        LineDataSet set = createDataSet(6, 0, 4, 2);
+
+        assertEquals(0, set.getIndexInEntries(6));
+        assertEquals(1, set.getIndexInEntries(0));
+        assertEquals(2, set.getIndexInEntries(4));
+        assertEquals(3, set.getIndexInEntries(2));
+        assertEquals(-1, set.getIndexInEntries(3));
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.mikephil.charting.data;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class PieDataSetTest {
+
+    /**
+     * Creates a DataSet with the given values at consecutive x-indices.
+     */
+    private static PieDataSet createDataSet(float... values) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < values.length; i++)
+            entries.add(new Entry(values[i], i));
+
+        return new PieDataSet(entries, "");
+    }
+
+    @Test
+    public void removingTheMaximumUpdatesTheSum() {
+
+        PieDataSet set = createDataSet(10f, 20f, 30f);
+
+        assertTrue(set.removeEntry(set.getEntryForIndex(2)));
+        assertEquals(30f, set.getYValueSum(), 0f);
+        assertEquals(20f, set.getYMax(), 0f);
+    }
+
+    @Test
+    public void removingTheMinimumUpdatesTheSum() {
+
+        PieDataSet set = createDataSet(10f, 20f, 30f);
+
+        assertTrue(set.removeEntry(set.getEntryForIndex(0)));
+        assertEquals(50f, set.getYValueSum(), 0f);
+        assertEquals(20f, set.getYMin(), 0f);
+    }
+
+    @Test
+    public void removingAnInnerValueUpdatesTheSum() {
+
+        PieDataSet set = createDataSet(10f, 20f, 30f);
+
+        assertTrue(set.removeEntry(set.getEntryForIndex(1)));
+        assertEquals(40f, set.getYValueSum(), 0f);
+    }
+
+    @Test
+    public void addingEntriesUpdatesTheSum() {
+
+        PieDataSet set = createDataSet(10f, 20f);
+
+        set.addEntry(new Entry(5f, 2));
+        set.addEntryOrdered(new Entry(40f, 3));
+
+        assertEquals(75f, set.getYValueSum(), 0f);
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class PieDataTest {
+
+    /**
+     * Creates a PieData object with the given values at consecutive
+     * x-indices and slices below 5% of the total aggregated.
+     */
+    private static PieData createData(float... values) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        List<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < values.length; i++) {
+            entries.add(new Entry(values[i], i));
+            xVals.add(String.valueOf(i));
+        }
+
+        PieData data = new PieData(xVals, new PieDataSet(entries, ""));
+        data.setAggregationThreshold(5f);
+        return data;
+    }
+
+    @Test
+    public void notifyingTheSourceDataSetAggregatesAgain() {
+
+        PieData data = createData(50f, 40f, 30f, 20f);
+        IPieDataSet source = data.getSourceDataSet();
+
+        assertFalse(data.isAggregated());
+
+        // change the values in place, the way an app updating a live chart does
+        source.getEntryForIndex(2).setVal(1f);
+        source.getEntryForIndex(3).setVal(1f);
+        data.notifyDataChanged(source);
+
+        assertTrue(data.isAggregated());
+        assertEquals(3, data.getDataSet().getEntryCount());
+        assertEquals(2f, data.getDataSet().getEntryForIndex(2).getVal(), 0f);
+        assertEquals(92f, source.getYValueSum(), 0f);
+    }
+
+    @Test
+    public void otherSliceSumsTheAbsoluteValues() {
+
+        PieData data = createData(50f, 40f, -1f, 2f);
+
+        assertTrue(data.isAggregated());
+        assertEquals(3f, data.getDataSet().getEntryForIndex(data.getOtherXIndex()).getVal(), 0f);
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.mikephil.charting.highlight;
+
+import android.view.View;
+
+import com.github.mikephil.charting.charts.BarLineChartBase;
+import com.github.mikephil.charting.charts.BubbleChart;
+import com.github.mikephil.charting.charts.ScatterChart;
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.data.BubbleData;
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class NearestPointHighlighterTest {
+
+    private static List<String> xVals(int count) {
+
+        List<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < count; i++)
+            xVals.add(String.valueOf(i));
+
+        return xVals;
+    }
+
+    private static void layout(BarLineChartBase<?> chart) {
+        chart.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(720, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, 1080, 720);
+    }
+
+    private static float[] toPixels(BarLineChartBase<?> chart, float xIndex, float yValue) {
+        float[] pts = new float[]{xIndex, yValue};
+        chart.getTransformer(AxisDependency.LEFT).pointValuesToPixel(pts);
+        return pts;
+    }
+
+    @Test
+    public void tellsApartEntriesAtTheSameXIndex() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(50f, 0));
+        entries.add(new Entry(10f, 2));
+        entries.add(new Entry(90f, 2));
+        entries.add(new Entry(50f, 4));
+
+        ScatterChart chart = new ScatterChart(RuntimeEnvironment.application);
+        chart.setData(new ScatterData(xVals(5), new ScatterDataSet(entries, "")));
+        layout(chart);
+
+        for (int i = 1; i <= 2; i++) {
+
+            Entry expected = entries.get(i);
+            float[] pts = toPixels(chart, expected.getXIndex(), expected.getVal());
+
+            Highlight h = chart.getHighlighter().getHighlight(pts[0], pts[1]);
+
+            assertNotNull(h);
+            assertEquals(2, h.getXIndex());
+            assertEquals(i, h.getEntryIndex());
+            assertSame(expected, chart.getData().getEntryForHighlight(h));
+        }
+    }
+
+    @Test
+    public void highlightsBubblesInsideOfTheirRadius() {
+
+        List<BubbleEntry> entries = new ArrayList<BubbleEntry>();
+        entries.add(new BubbleEntry(0, 10f, 1f));
+        entries.add(new BubbleEntry(1, 50f, 10f));
+        entries.add(new BubbleEntry(2, 90f, 1f));
+
+        BubbleChart chart = new BubbleChart(RuntimeEnvironment.application);
+        chart.setData(new BubbleData(xVals(3), new BubbleDataSet(entries, "")));
+        layout(chart);
+
+        float[] center = toPixels(chart, 1f, 50f);
+        float[] step = toPixels(chart, 2f, 50f);
+
+        // the radius of the largest bubble, see BubbleChartRenderer
+        float radius = Math.min(chart.getContentRect().height(), step[0] - center[0]) / 2f;
+        float offset = radius * 0.8f;
+
+        NearestPointHighlighter highlighter = (NearestPointHighlighter) chart.getHighlighter();
+        assertTrue(offset > highlighter.getMaxHighlightDistance());
+
+        Highlight h = highlighter.getHighlight(center[0], center[1] - offset);
+
+        assertNotNull(h);
+        assertEquals(1, h.getXIndex());
+        assertEquals(1, h.getEntryIndex());
+        assertSame(entries.get(1), chart.getData().getEntryForHighlight(h));
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.mikephil.charting.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class LabelCollisionGridTest {
+
+    @Test
+    public void skipsOverlappingLabels() {
+
+        LabelCollisionGrid grid = new LabelCollisionGrid(20f);
+        grid.reset(0f, 0f, 200f, 100f);
+
+        assertTrue(grid.place(10f, 10f, 50f, 30f));
+
+        // overlaps the first label, also across a cell border
+        assertFalse(grid.place(45f, 25f, 85f, 45f));
+
+        // touching edges do not overlap
+        assertTrue(grid.place(50f, 10f, 90f, 30f));
+        assertTrue(grid.place(10f, 30f, 50f, 50f));
+
+        // spans many cells and overlaps a label in the middle of it
+        assertFalse(grid.place(0f, 0f, 200f, 100f));
+
+        assertEquals(3, grid.getPlacedCount());
+    }
+
+    @Test
+    public void labelsOutsideOfTheAreaCollide() {
+
+        LabelCollisionGrid grid = new LabelCollisionGrid(20f);
+        grid.reset(0f, 0f, 100f, 100f);
+
+        // both are clamped into the top-left cell
+        assertTrue(grid.place(-60f, -60f, -20f, -40f));
+        assertFalse(grid.place(-50f, -50f, -10f, -30f));
+        assertTrue(grid.place(-10f, -10f, 10f, 10f));
+    }
+
+    @Test
+    public void resetRemovesAllLabels() {
+
+        LabelCollisionGrid grid = new LabelCollisionGrid(20f);
+
+        for (int frame = 0; frame < 3; frame++) {
+
+            grid.reset(0f, 0f, 400f, 400f);
+
+            // every placed label is followed by one overlapping it
+            for (int i = 0; i < 100; i++) {
+                float x = (i % 10) * 40f;
+                float y = (i / 10) * 40f;
+                assertTrue(grid.place(x, y, x + 30f, y + 20f));
+                assertFalse(grid.place(x + 10f, y + 10f, x + 40f, y + 30f));
+            }
+
+            assertEquals(100, grid.getPlacedCount());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.mikephil.charting.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ParallelExecutorTest {
+
+    /**
+     * Counts how often every index has been run.
+     */
+    private static class CountingTask implements ParallelExecutor.IndexedTask {
+
+        final AtomicIntegerArray runs;
+
+        CountingTask(int count) {
+            runs = new AtomicIntegerArray(count);
+        }
+
+        @Override
+        public void run(int index) {
+            runs.incrementAndGet(index);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void runsEveryIndexOncePerBatch() {
+
+        ParallelExecutor executor = new ParallelExecutor();
+
+        for (int count = 0; count < 20; count++) {
+
+            CountingTask task = new CountingTask(count);
+
+            // the same instance runs many batches, like the renderers every frame
+            for (int batch = 0; batch < 50; batch++)
+                executor.execute(count, task);
+
+            for (int i = 0; i < count; i++)
+                assertEquals(50, task.runs.get(i));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void rethrowsExceptionsOfTasks() {
+
+        ParallelExecutor executor = new ParallelExecutor();
+
+        try {
+            executor.execute(8, new ParallelExecutor.IndexedTask() {
+                @Override
+                public void run(int index) {
+                    if (index == 5)
+                        throw new IllegalStateException("task " + index);
+                }
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("task 5", e.getMessage());
+        }
+
+        // the next batch is not affected by the failed one
+        CountingTask task = new CountingTask(8);
+        executor.execute(8, task);
+
+        for (int i = 0; i < 8; i++)
+            assertEquals(1, task.runs.get(i));
+    }
+}
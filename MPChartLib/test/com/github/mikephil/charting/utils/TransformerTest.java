@@ -0,0 +1,115 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Matrix;
+import android.view.View;
+
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class TransformerTest {
+
+    /**
+     * Maps the given value to pixels with freshly concatenated matrices,
+     * bypassing the cache of the Transformer.
+     */
+    private static float[] expectedPixels(Transformer trans, ViewPortHandler handler,
+                                          float x, float y) {
+
+        Matrix m = new Matrix();
+        m.set(trans.mMatrixValueToPx);
+        m.postConcat(handler.getMatrixTouch());
+        m.postConcat(trans.mMatrixOffset);
+
+        float[] pts = new float[]{x, y};
+        m.mapPoints(pts);
+        return pts;
+    }
+
+    private static void assertMapsLikeFreshMatrices(Transformer trans, ViewPortHandler handler) {
+
+        float[] actual = new float[]{5f, 50f};
+        trans.pointValuesToPixel(actual);
+
+        float[] expected = expectedPixels(trans, handler, 5f, 50f);
+
+        assertEquals(expected[0], actual[0], 0.01f);
+        assertEquals(expected[1], actual[1], 0.01f);
+
+        // the inverse has to be updated as well
+        trans.pixelsToValue(actual);
+
+        assertEquals(5f, actual[0], 0.01f);
+        assertEquals(50f, actual[1], 0.01f);
+    }
+
+    @Test
+    public void cacheFollowsChangesOfTheTouchMatrix() {
+
+        ViewPortHandler handler = new ViewPortHandler();
+        handler.setChartDimens(1000f, 500f);
+        handler.restrainViewPort(50f, 20f, 30f, 40f);
+
+        Transformer trans = new Transformer(handler);
+        trans.prepareMatrixValuePx(0f, 10f, 100f, 0f);
+        trans.prepareMatrixOffset(false);
+
+        assertMapsLikeFreshMatrices(trans, handler);
+
+        // the touch matrix is changed in place while zooming and dragging
+        handler.getMatrixTouch().postScale(3f, 2f);
+        assertMapsLikeFreshMatrices(trans, handler);
+
+        handler.getMatrixTouch().postTranslate(-400f, 100f);
+        assertMapsLikeFreshMatrices(trans, handler);
+
+        trans.prepareMatrixValuePx(-5f, 20f, 200f, -50f);
+        assertMapsLikeFreshMatrices(trans, handler);
+    }
+
+    @Test
+    public void visibleRangeFollowsZooming() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        List<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < 100; i++) {
+            entries.add(new Entry(i, i));
+            xVals.add(String.valueOf(i));
+        }
+
+        LineChart chart = new LineChart(RuntimeEnvironment.application);
+        chart.setData(new LineData(xVals, new LineDataSet(entries, "")));
+
+        chart.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(720, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, 1080, 720);
+
+        assertEquals(0, chart.getLowestVisibleXIndex());
+        assertEquals(99, chart.getHighestVisibleXIndex());
+
+        chart.zoom(4f, 1f, 0f, 0f);
+
+        assertEquals(0, chart.getLowestVisibleXIndex());
+        assertTrue(chart.getHighestVisibleXIndex() < 30);
+
+        assertMapsLikeFreshMatrices(chart.getTransformer(AxisDependency.LEFT),
+                chart.getViewPortHandler());
+    }
+}
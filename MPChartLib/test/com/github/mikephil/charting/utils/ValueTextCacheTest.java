@@ -0,0 +1,100 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ValueTextCacheTest {
+
+    private final Paint mPaint = new Paint();
+
+    private int put(ValueTextCache cache, Entry e, String text) {
+        return cache.put(e, e.getVal(), text.toCharArray(), text.length(), mPaint);
+    }
+
+    @Test
+    public void replacesTheLeastRecentlyUsedText() {
+
+        ValueTextCache cache = new ValueTextCache(3);
+
+        Entry a = new Entry(1f, 0);
+        Entry b = new Entry(2f, 1);
+        Entry c = new Entry(3f, 2);
+        Entry d = new Entry(4f, 3);
+
+        put(cache, a, "a");
+        int slotB = put(cache, b, "b");
+        put(cache, c, "c");
+
+        // a becomes the most recently used text, b the least recently used one
+        assertTrue(cache.indexOf(a, a.getVal()) >= 0);
+
+        char[] textB = cache.getText(slotB);
+        int slotD = put(cache, d, "dd");
+
+        assertEquals(-1, cache.indexOf(b, b.getVal()));
+        assertEquals(slotB, slotD);
+        assertSame(textB, cache.getText(slotD));
+        assertEquals(2, cache.getLength(slotD));
+        assertEquals(3, cache.getCount());
+
+        assertTrue(cache.indexOf(a, a.getVal()) >= 0);
+        assertTrue(cache.indexOf(c, c.getVal()) >= 0);
+        assertTrue(cache.indexOf(d, d.getVal()) >= 0);
+
+        // the same entry with a different value (stacked bars) is a miss
+        assertEquals(-1, cache.indexOf(a, 5f));
+    }
+
+    @Test
+    public void keepsAllTextsThatFit() {
+
+        ValueTextCache cache = new ValueTextCache(4);
+        Entry[] entries = new Entry[4];
+
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Entry(i, i);
+            put(cache, entries[i], String.valueOf(i));
+        }
+
+        // drawn in the same order every frame, nothing gets replaced
+        for (int frame = 0; frame < 3; frame++) {
+
+            for (Entry e : entries) {
+
+                int slot = cache.indexOf(e, e.getVal());
+
+                assertTrue(slot >= 0);
+                assertEquals(String.valueOf(e.getXIndex()),
+                        String.valueOf(cache.getText(slot), 0, cache.getLength(slot)));
+            }
+        }
+    }
+
+    @Test
+    public void dropsAllTextsWhenTheFormatterChanges() {
+
+        ValueTextCache cache = new ValueTextCache(2);
+        cache.validate(new DefaultValueFormatter(1), mPaint);
+
+        Entry a = new Entry(1f, 0);
+        put(cache, a, "1.0");
+
+        cache.validate(new DefaultValueFormatter(2), mPaint);
+
+        assertEquals(-1, cache.indexOf(a, a.getVal()));
+        assertEquals(0, cache.getCount());
+    }
+}